@@ -3,6 +3,7 @@ package com.gangku.be.config;
 import com.gangku.be.exception.JwtAccessDeniedHandler;
 import com.gangku.be.exception.JwtAuthenticationEntryPoint;
 import com.gangku.be.util.jwt.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -52,7 +53,10 @@ public class SecurityConfig {
                                         .accessDeniedHandler(jwtAccessDeniedHandler))
                 .authorizeHttpRequests(
                         auth -> {
-                            auth.requestMatchers("/error")
+                            // 스트리밍(SSE) 응답의 비동기 디스패치는 최초 요청에서 이미 인가됐다
+                            auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                    .permitAll()
+                                    .requestMatchers("/error")
                                     .permitAll()
                                     .requestMatchers(HttpMethod.OPTIONS, "/**")
                                     .permitAll();
@@ -85,6 +89,14 @@ public class SecurityConfig {
                                             HttpMethod.POST, "/api/v1/objects/presigned-url/**")
                                     .permitAll()
 
+                                    // 헬스 체크는 로드밸런서 등이 토큰 없이 호출한다
+                                    .requestMatchers("/actuator/health", "/actuator/health/**")
+                                    .permitAll()
+
+                                    // 그 외 actuator(지표, 작업 현황, 재동기화, 카테고리 갱신)는 조회까지 운영자만
+                                    .requestMatchers("/actuator/**")
+                                    .hasRole("ADMIN")
+
                                     // 이외에는 로그인 필요
                                     .anyRequest()
                                     .authenticated();
@@ -0,0 +1,34 @@
+package com.gangku.be.config.action;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.action-ingest")
+public class ActionIngestProps {
+
+    // false면 클릭/참여 로그를 수집하지 않는다
+    private boolean enabled = true;
+
+    // 링 버퍼 크기 (2의 거듭제곱으로 올림). 가득 차면 새 이벤트는 버린다
+    private int bufferCapacity = 8192;
+
+    // 버퍼가 이 비율 이상 차면 클릭은 버리고 참여 이벤트 자리만 남겨둔다
+    private double clickShedRatio = 0.75;
+
+    // 한 번의 bulk INSERT 로 쓰는 최대 건수
+    private int batchSize = 500;
+
+    private long flushIntervalMillis = 200;
+
+    // 같은 유저가 같은 모임을 이 시간 안에 다시 클릭하면 한 번만 기록한다
+    private long clickDedupSeconds = 300;
+
+    // 중복 클릭 판정용으로 기억하는 최대 (유저, 모임) 수. 넘으면 만료될 때까지 새 쌍은 기억하지 않는다
+    private int clickDedupMaxEntries = 100_000;
+
+    // 이 일수보다 오래된 시간 단위 집계는 일 단위로 합친다
+    private int rollupHourlyRetentionDays = 7;
+}
@@ -0,0 +1,23 @@
+package com.gangku.be.config.action;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.action-retention")
+public class ActionRetentionProps {
+
+    // 이 일수가 지난 달(月)의 유저 행동 로그는 보관 파일로 옮기고 테이블에서 지운다
+    private int retentionDays = 180;
+
+    // 월별 gzip NDJSON 보관 파일을 쌓는 로컬 디렉터리
+    private String archiveDir = "./data/archive/user-actions";
+
+    // 한 번에 지우는 최대 행 수 (긴 DELETE 로 테이블을 오래 잠그지 않도록)
+    private int purgeBatchSize = 5000;
+
+    // 배치 사이에 쉬어서 다른 쓰기와 복제가 따라올 틈을 준다
+    private long batchPauseMillis = 50;
+}
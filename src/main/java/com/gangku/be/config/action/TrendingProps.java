@@ -0,0 +1,24 @@
+package com.gangku.be.config.action;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.trending")
+public class TrendingProps {
+
+    // 이 시간이 지나면 클릭/참여의 기여도가 절반이 된다 (바꾸면 점수 키를 지우고 다시 쌓아야 한다)
+    private double halfLifeHours = 24;
+
+    private double clickWeight = 1.0;
+
+    private double joinWeight = 5.0;
+
+    // 트렌딩 목록은 상위 N개 안에서만 필터링/페이징한다
+    private int candidateSize = 200;
+
+    // 점수 키가 비었을 때 집계 테이블에서 이 일수만큼 다시 쌓는다
+    private int rebuildLookbackDays = 7;
+}
@@ -1,5 +1,7 @@
 package com.gangku.be.config.ai;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -10,11 +12,54 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class AiServerProps {
 
     private String baseUrl;
+
+    // AI 서버 복제본 목록. 비어 있으면 baseUrl 하나만 사용한다
+    private List<String> baseUrls = new ArrayList<>();
+
     private int connectTimeoutMillis;
     private int responseTimeoutMillis;
     private String introPath;
+    private String introStreamPath;
     private String textFilterPath;
     private String recommendationsPath;
     private String refreshClusteringPath;
+    private String refreshClusteringStreamPath;
     private String refreshPopularityPath;
+
+    private Balancer balancer = new Balancer();
+    private Hedge hedge = new Hedge();
+
+    public List<String> resolveBaseUrls() {
+        if (baseUrls != null && !baseUrls.isEmpty()) {
+            return baseUrls;
+        }
+        return List.of(baseUrl);
+    }
+
+    @Getter
+    @Setter
+    public static class Balancer {
+
+        // 연속으로 이만큼 실패한 복제본은 잠시 후보에서 뺀다
+        private int ejectAfterFailures = 3;
+
+        private long ejectMillis = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        // 멱등 호출(recommend, filterText)에만 적용된다
+        private boolean enabled = false;
+
+        // 최근 응답 시간의 이 백분위를 넘기면 다른 복제본에 한 번 더 보낸다
+        private double delayPercentile = 0.95;
+
+        private long minDelayMillis = 50;
+        private long maxDelayMillis = 1000;
+
+        // 표본이 이보다 적으면 maxDelayMillis 를 그대로 쓴다
+        private int minSamples = 20;
+    }
 }
@@ -29,8 +29,8 @@ public class AiWebClientConfig {
         //
         // Duration.ofMillis(aiServerProps.getResponseTimeoutMillis()));
 
+        // 복제본마다 주소가 다르므로 baseUrl 대신 AiEndpointBalancer 가 고른 절대 주소로 호출한다
         return WebClient.builder()
-                .baseUrl(aiServerProps.getBaseUrl())
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
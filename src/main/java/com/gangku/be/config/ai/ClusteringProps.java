@@ -0,0 +1,38 @@
+package com.gangku.be.config.ai;
+
+import com.gangku.be.constant.ai.ClusteringEngineType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.clustering")
+public class ClusteringProps {
+
+    // 지난 실행 이후 특징이 바뀐(추가/삭제 포함) 유저 비율이 이보다 작으면 클러스터링을 건너뛴다
+    private double skipChangedRatio = 0.02;
+
+    // 클러스터링을 돌릴 엔진
+    private ClusteringEngineType engine = ClusteringEngineType.REMOTE;
+
+    // 아래는 LOCAL 엔진 설정
+    private int clusterCount = 8;
+
+    private int maxIterations = 100;
+
+    // 중심점이 이 거리보다 덜 움직이면 수렴으로 본다
+    private double tolerance = 1e-4;
+
+    // 할당 단계 병렬도 (0 이면 CPU 코어 수)
+    private int parallelism = 0;
+
+    // k-means++ 초기 중심점 선택 시드. 같은 데이터면 같은 결과가 나오도록 고정한다
+    private long randomSeed = 42L;
+
+    // LOCAL 엔진일 때 클러스터별 인기 모임을 직접 센다. 최근 이 기간의 참여만 센다
+    private int popularityLookbackDays = 30;
+
+    // 클러스터마다 저장하는 인기 모임 수
+    private int popularityTopN = 20;
+}
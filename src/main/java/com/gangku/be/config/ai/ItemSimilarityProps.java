@@ -0,0 +1,29 @@
+package com.gangku.be.config.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.item-similarity")
+public class ItemSimilarityProps {
+
+    // 모임마다 메모리에 남기는 유사 모임 수
+    private int topK = 20;
+
+    // 함께 참여한 유저가 이보다 적으면 우연으로 보고 이웃에서 뺀다
+    private int minCoJoins = 2;
+
+    // 유사도 계산 병렬도 (0 이면 CPU 코어 수)
+    private int parallelism = 0;
+
+    // 모임 상세의 "이 모임에 참여한 사람들이 함께 참여한 모임" 개수
+    private int alsoJoinedSize = 6;
+
+    // 추천 점수에 쓰는 유저의 최근 참여 모임 수
+    private int seedSize = 20;
+
+    // AI 추천 요청의 후보 모임에 최신 모임과 함께 더하는 유사 모임 수
+    private int candidateSize = 20;
+}
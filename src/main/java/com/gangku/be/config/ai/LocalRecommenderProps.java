@@ -0,0 +1,41 @@
+package com.gangku.be.config.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.local-recommender")
+public class LocalRecommenderProps {
+
+    // AI 추천이 실패하거나 비어 있으면 로컬 휴리스틱 순위로 대신한다
+    private boolean fallbackEnabled = true;
+
+    // AI 추천이 성공해도 로컬 순위를 함께 계산해 지연 시간과 상위 N개 겹침 비율을 로그로 남긴다
+    private boolean shadowEnabled = false;
+
+    // 섀도 비교에서 겹침을 셀 상위 개수
+    private int shadowTopN = 10;
+
+    private double preferredCategoryWeight = 3.0;
+
+    // 과거 참여 모임의 카테고리 분포와 얼마나 맞는지
+    private double categoryAffinityWeight = 2.0;
+
+    // 최근 참여한 모임과 함께 참여된 정도 (모임 간 유사도 인덱스)
+    private double collaborativeWeight = 2.0;
+
+    private double popularityWeight = 1.0;
+
+    // 인기 점수는 집계 테이블에서 이 일수 동안의 클릭/참여 합으로 본다. 집계가 하나도 없으면 참여 인원으로 대신한다
+    private int popularityLookbackDays = 7;
+
+    // 인기 점수에서 참여 1건을 클릭 몇 건으로 칠지
+    private double popularityJoinWeight = 5.0;
+
+    private double recencyWeight = 1.0;
+
+    // 생성된 지 이 일수가 지나면 최신성 점수가 절반이 된다
+    private double recencyHalfLifeDays = 7;
+}
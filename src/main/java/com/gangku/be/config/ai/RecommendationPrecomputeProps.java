@@ -0,0 +1,22 @@
+package com.gangku.be.config.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.recommendation-precompute")
+public class RecommendationPrecomputeProps {
+
+    private boolean enabled = true;
+
+    // 최근 이 기간 안에 클릭/참여한 유저만 미리 계산한다
+    private int activeDays = 14;
+
+    // AI 서버로 동시에 보내는 추천 요청 수
+    private int concurrency = 4;
+
+    // 미리 계산한 목록의 수명. 다음 갱신이 한 번 실패해도 살아 있도록 갱신 주기보다 길게 둔다
+    private int ttlHours = 26;
+}
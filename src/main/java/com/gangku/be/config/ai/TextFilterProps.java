@@ -0,0 +1,21 @@
+package com.gangku.be.config.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.text-filter")
+public class TextFilterProps {
+
+    private boolean prefilterEnabled = true;
+
+    // 정규화 후 한 단어로 나오면 AI 호출 없이 차단하는 단어 목록 (다른 단어의 일부로만 나오면 AI 에 맡긴다)
+    private List<String> blocklist = new ArrayList<>();
+
+    // 공백을 제외한 글자 수가 이 값 이하이고 차단 단어가 없으면 AI 호출 없이 허용
+    private int triviallySafeMaxLength = 1;
+}
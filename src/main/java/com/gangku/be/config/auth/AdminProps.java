@@ -0,0 +1,15 @@
+package com.gangku.be.config.auth;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.admin")
+public class AdminProps {
+
+    // 액세스 토큰에 운영자 권한(ROLE_ADMIN)을 붙일 유저 id. 관리용 actuator 쓰기 작업은 이 유저만 부를 수 있다
+    private Set<Long> userIds = Set.of();
+}
@@ -0,0 +1,113 @@
+package com.gangku.be.config.datasource;
+
+import com.gangku.be.util.datasource.ReadYourWritesTracker;
+import com.gangku.be.util.datasource.ReplicaLagMonitor;
+import com.gangku.be.util.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * readOnly 트랜잭션을 레플리카 풀로 보내는 라우팅 DataSource 를 JPA/JdbcTemplate 의 기본 DataSource 로 올린다.
+ *
+ * <p>프라이머리는 기존 {@code spring.datasource} 설정 그대로 만들고, 레플리카는 {@link DataSourceRoutingProps} 의 목록으로
+ * 만든다. 켜지 않으면 이 설정은 통째로 빠지고 Spring Boot 기본 DataSource 하나만 쓴다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private final DataSourceRoutingProps dataSourceRoutingProps;
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource =
+                dataSourceProperties
+                        .initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor() {
+        return new ReplicaLagMonitor(
+                replicaDataSources(),
+                dataSourceRoutingProps.getLagQuery(),
+                dataSourceRoutingProps.getLagColumn(),
+                dataSourceRoutingProps.getMaxLagSeconds(),
+                dataSourceRoutingProps.getLagCheckIntervalMillis());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate stringRedisTemplate) {
+        return new ReadYourWritesTracker(
+                stringRedisTemplate,
+                Duration.ofSeconds(dataSourceRoutingProps.getReadYourWritesSeconds()));
+    }
+
+    // 트랜잭션이 readOnly 로 표시된 뒤 첫 SQL 에서야 커넥션을 고르도록 지연 프록시로 감싼다
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(
+                        primaryDataSource,
+                        replicaLagMonitor.replicas(),
+                        replicaLagMonitor,
+                        readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private Map<String, DataSource> replicaDataSources() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProps.Replica> configured = dataSourceRoutingProps.getReplicas();
+
+        for (int i = 0; i < configured.size(); i++) {
+            DataSourceRoutingProps.Replica replica = configured.get(i);
+            if (!StringUtils.hasText(replica.getUrl())) {
+                continue;
+            }
+
+            HikariDataSource dataSource =
+                    DataSourceBuilder.create()
+                            .type(HikariDataSource.class)
+                            .url(replica.getUrl())
+                            .username(replica.getUsername())
+                            .password(replica.getPassword())
+                            .driverClassName(replica.getDriverClassName())
+                            .build();
+
+            String name = "replica-" + (i + 1);
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+
+            replicas.put(name, dataSource);
+        }
+
+        return replicas;
+    }
+}
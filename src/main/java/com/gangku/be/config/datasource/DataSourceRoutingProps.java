@@ -0,0 +1,43 @@
+package com.gangku.be.config.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource-routing")
+public class DataSourceRoutingProps {
+
+    // false면 spring.datasource 하나(프라이머리)만 쓴다
+    private boolean enabled = false;
+
+    // readOnly 트랜잭션을 나눠 받을 레플리카들. url 이 비어 있는 항목은 건너뛴다
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 복제 지연이 이보다 크면 그 레플리카는 쓰지 않고 프라이머리로 읽는다
+    private long maxLagSeconds = 5;
+
+    private long lagCheckIntervalMillis = 2000;
+
+    // 복제 지연(초)을 한 행으로 돌려주는 쿼리와 그 컬럼. 비어 있으면 접속만 확인하고 지연은 0 으로 본다 (로컬 H2)
+    private String lagQuery = "";
+
+    private String lagColumn = "Seconds_Behind_Source";
+
+    // 유저가 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안은 그 유저의 읽기도 프라이머리로 보낸다. 0 이면 끈다
+    private long readYourWritesSeconds = 5;
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
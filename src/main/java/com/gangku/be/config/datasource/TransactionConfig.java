@@ -0,0 +1,32 @@
+package com.gangku.be.config.datasource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 외부 호출을 트랜잭션 밖에 두고 DB 작업만 짧게 묶을 때 쓰는 {@link TransactionOperations} 두 개를 등록한다.
+ *
+ * <p>{@code transactionOperations} 는 Spring Boot 기본 TransactionTemplate 과 같고, {@code
+ * readOnlyTransactionOperations} 는 readOnly 로 표시돼 라우팅을 켜면 레플리카에서 읽는다. 같은 타입이라 주입받는 쪽은 필드(생성자
+ * 파라미터) 이름을 빈 이름과 맞춘다.
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public TransactionOperations transactionOperations(
+            PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    public TransactionOperations readOnlyTransactionOperations(
+            PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+}
@@ -0,0 +1,17 @@
+package com.gangku.be.config.id;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.snowflake")
+public class SnowflakeIdProps {
+
+    // 노드 번호 임대 시간. 이 시간의 1/3 마다 연장하고, 연장을 못 한 채 이 시간이 지나면 id 발급을 멈춘다
+    private long nodeLeaseSeconds = 30;
+
+    // 연장을 시작한 시각 + 임대 시간에서 이만큼 앞당긴 시각까지만 발급한다. 인스턴스끼리의 시계 차이보다 커야 한다
+    private long nodeLeaseMarginMillis = 3000;
+}
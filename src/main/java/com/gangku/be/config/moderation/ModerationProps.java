@@ -0,0 +1,36 @@
+package com.gangku.be.config.moderation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.moderation")
+public class ModerationProps {
+
+    // true면 저장 후 백그라운드에서 검수, false면 기존처럼 요청 안에서 동기 검수
+    private boolean asyncEnabled = false;
+
+    // 한 번의 폴링에서 가져오는 검수 대기 건수
+    private int batchSize = 20;
+
+    // AI 필터 호출을 병렬로 처리하는 워커 수
+    private int workerThreads = 4;
+
+    private long pollIntervalMillis = 1000;
+
+    // 선점 후 이 시간 안에 처리되지 않으면 다른 워커가 다시 가져간다
+    private long claimTimeoutSeconds = 60;
+
+    // 이 횟수만큼 선점해도 결과를 반영하지 못하면 반려로 끝낸다 (AI 서버 장애로 미룬 시도는 세지 않는다)
+    private int maxAttempts = 5;
+
+    // 실패한 작업의 첫 재시도 대기. 실패할 때마다 두 배로 늘린다
+    private long retryBackoffSeconds = 5;
+
+    private long maxRetryBackoffSeconds = 300;
+
+    // AI 서버 장애로 이 횟수만큼 미뤄진 작업이 생기면 에러 로그로 알린다
+    private int outageAlertDeferrals = 5;
+}
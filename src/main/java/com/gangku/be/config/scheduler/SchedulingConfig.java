@@ -0,0 +1,15 @@
+package com.gangku.be.config.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 여러 인스턴스가 함께 떠 있어도 각 작업은 ScheduledJobRunner 의 Redis 락을 잡은 한 노드에서만 실행된다
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(
+        prefix = "app.scheduling",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class SchedulingConfig {}
@@ -0,0 +1,6 @@
+package com.gangku.be.constant.ai;
+
+public enum ClusteringEngineType {
+    REMOTE, // AI 서버로 유저 특징을 보내 클러스터링
+    LOCAL // 서버 안에서 k-means 로 클러스터링
+}
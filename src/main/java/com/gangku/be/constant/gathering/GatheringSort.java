@@ -8,7 +8,9 @@ import lombok.Getter;
 public enum GatheringSort {
     LATEST("latest"),
     POPULAR("popular"),
-    RECOMMEND("recommend");
+    RECOMMEND("recommend"),
+    TRENDING("trending"),
+    PEER_POPULAR("peer-popular");
 
     private final String sort;
 
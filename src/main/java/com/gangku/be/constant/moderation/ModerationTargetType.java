@@ -0,0 +1,7 @@
+package com.gangku.be.constant.moderation;
+
+public enum ModerationTargetType {
+    REVIEW,
+    GATHERING,
+    NICKNAME
+}
@@ -0,0 +1,6 @@
+package com.gangku.be.constant.scheduler;
+
+public enum JobOutcome {
+    SUCCESS,
+    FAILED
+}
@@ -0,0 +1,28 @@
+package com.gangku.be.constant.scheduler;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ScheduledJob {
+
+    // lockKey 가 같은 작업끼리는 동시에 실행되지 않는다
+    CLUSTERING_REFRESH("clustering", Duration.ofMinutes(30), Duration.ofMinutes(1)),
+    POPULARITY_REFRESH("popularity", Duration.ofMinutes(20), Duration.ofMinutes(1)),
+    POPULARITY_RESYNC("popularity", Duration.ofMinutes(60), Duration.ZERO),
+    ENGAGEMENT_ROLLUP_COMPACTION(
+            "engagement-rollup", Duration.ofMinutes(30), Duration.ofMinutes(1)),
+    ACTION_LOG_RETENTION("action-retention", Duration.ofHours(2), Duration.ofMinutes(1)),
+    RECOMMENDATION_PRECOMPUTE(
+            "recommendation-precompute", Duration.ofMinutes(60), Duration.ofMinutes(1));
+
+    private final String lockKey;
+
+    // 노드가 죽어도 이 시간이 지나면 락이 풀린다. 실행 중에는 이 시간의 1/3 마다 연장하므로 작업이 더 오래 걸려도 된다
+    private final Duration lockAtMostFor;
+
+    // 빨리 끝나도 이 시간 동안은 락을 유지해서 시계가 조금 늦은 노드가 같은 작업을 다시 실행하지 않게 한다
+    private final Duration lockAtLeastFor;
+}
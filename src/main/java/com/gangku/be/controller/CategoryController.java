@@ -1,24 +1,42 @@
 package com.gangku.be.controller;
 
 import com.gangku.be.dto.category.CategoryResponseDto;
+import com.gangku.be.model.category.CategoryCatalog;
 import com.gangku.be.service.CategoryService;
-import java.util.List;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/categories")
 @RequiredArgsConstructor
 public class CategoryController {
 
+    // 카테고리는 거의 바뀌지 않으므로 오래 캐시하고, 만료 뒤에는 ETag 로 304 재검증한다
+    private static final CacheControl CATEGORY_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
     private final CategoryService categoryService;
 
     @GetMapping
-    public ResponseEntity<CategoryResponseDto> getCategories() {
+    public ResponseEntity<CategoryResponseDto> getCategories(WebRequest webRequest) {
+
+        CategoryCatalog categoryCatalog = categoryService.getCategoryCatalog();
 
-        List<String> categoryNames = categoryService.getAllCategories();
+        if (webRequest.checkNotModified(categoryCatalog.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(categoryCatalog.eTag())
+                    .cacheControl(CATEGORY_CACHE_CONTROL)
+                    .build();
+        }
 
-        return ResponseEntity.ok(new CategoryResponseDto(categoryNames));
+        return ResponseEntity.ok()
+                .eTag(categoryCatalog.eTag())
+                .cacheControl(CATEGORY_CACHE_CONTROL)
+                .body(new CategoryResponseDto(categoryCatalog.names()));
     }
 }
@@ -15,11 +15,15 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Flux;
 
 @RestController
 @Validated
@@ -101,6 +105,20 @@ public class GatheringController {
         return ResponseEntity.ok(introCreateResponseDto);
     }
 
+    // AI 모임 정보 스트리밍 생성 (SSE)
+    @PostMapping(value = "/intro/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamGatheringIntro(
+            @RequestBody @Valid IntroCreateRequestDto introCreateRequestDto) {
+        Flux<ServerSentEvent<String>> introStream =
+                gatheringService.streamGatheringIntro(introCreateRequestDto);
+
+        // 리버스 프록시가 응답을 모아서 보내지 않도록 버퍼링을 끈다
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no")
+                .body(introStream);
+    }
+
     @GetMapping
     public ResponseEntity<GatheringListResponseDto> getGatheringList(
             @AuthenticationPrincipal Long userId,
@@ -16,6 +16,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @Builder
 public class Category {
+
+    // 유저 선호 카테고리 비트마스크는 long 한 칸에 담으므로 id 1~64 까지만 표현할 수 있다
+    public static final int MAX_MASK_CATEGORY_ID = Long.SIZE;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -30,4 +34,17 @@ public class Category {
     @LastModifiedDate
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    public static long maskBit(Long categoryId) {
+        if (categoryId == null || categoryId < 1 || categoryId > MAX_MASK_CATEGORY_ID) {
+            throw new IllegalStateException("비트마스크로 표현할 수 없는 카테고리 id: " + categoryId);
+        }
+        return 1L << (categoryId - 1);
+    }
+
+    public static boolean maskContains(long mask, long categoryId) {
+        return categoryId >= 1
+                && categoryId <= MAX_MASK_CATEGORY_ID
+                && (mask & (1L << (categoryId - 1))) != 0;
+    }
 }
@@ -1,11 +1,14 @@
 package com.gangku.be.domain;
 
 import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.util.id.SnowflakeId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "gatherings")
@@ -17,7 +20,7 @@ import lombok.*;
 public class Gathering {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -57,6 +60,12 @@ public class Gathering {
     @Column(nullable = false, length = 20)
     private GatheringStatus status;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "moderation_status", nullable = false, length = 30)
+    @ColumnDefault("'PUBLISHED'")
+    @Builder.Default
+    private ModerationStatus moderationStatus = ModerationStatus.PUBLISHED;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -98,6 +107,19 @@ public class Gathering {
         this.status = GatheringStatus.FINISHED;
     }
 
+    public void changeModerationStatus(ModerationStatus moderationStatus) {
+        this.moderationStatus = moderationStatus;
+    }
+
+    public boolean isPublished() {
+        return this.moderationStatus == ModerationStatus.PUBLISHED;
+    }
+
+    // 검수 중이거나 반려된 모임은 호스트에게만 보인다
+    public boolean isVisibleTo(Long viewerId) {
+        return isPublished() || this.host.getId().equals(viewerId);
+    }
+
     public static Gathering create(
             User host,
             Category category,
@@ -0,0 +1,44 @@
+package com.gangku.be.domain;
+
+import com.gangku.be.constant.action.RollupGranularity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+// 모임별 클릭/참여 수를 시간(HOUR) 또는 일(DAY) 단위로 모아둔 집계 테이블
+@Entity
+@Table(
+        name = "gathering_engagement_rollup",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_engagement_rollup_bucket",
+                    columnNames = {"gathering_id", "granularity", "bucket_start"})
+        },
+        indexes = {
+            @Index(name = "idx_engagement_rollup_bucket", columnList = "granularity, bucket_start")
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GatheringEngagementRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long clicks;
+
+    @Column(nullable = false)
+    private long joins;
+}
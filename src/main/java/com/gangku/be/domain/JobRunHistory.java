@@ -0,0 +1,92 @@
+package com.gangku.be.domain;
+
+import com.gangku.be.constant.scheduler.JobOutcome;
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+        name = "job_run_history",
+        indexes = {@Index(name = "idx_job_run_history_job", columnList = "job_name, id")})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobRunHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_name", nullable = false, length = 40)
+    private ScheduledJob jobName;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "duration_millis", nullable = false)
+    private Long durationMillis;
+
+    // AI 서버로 보낸 행 수 (실패했으면 null)
+    @Column(name = "rows_shipped")
+    private Integer rowsShipped;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobOutcome outcome;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    public static JobRunHistory success(
+            ScheduledJob job,
+            String nodeId,
+            LocalDateTime startedAt,
+            long durationMillis,
+            int rowsShipped) {
+        return JobRunHistory.builder()
+                .jobName(job)
+                .nodeId(nodeId)
+                .startedAt(startedAt)
+                .durationMillis(durationMillis)
+                .rowsShipped(rowsShipped)
+                .outcome(JobOutcome.SUCCESS)
+                .build();
+    }
+
+    public static JobRunHistory failure(
+            ScheduledJob job,
+            String nodeId,
+            LocalDateTime startedAt,
+            long durationMillis,
+            String errorMessage) {
+        return JobRunHistory.builder()
+                .jobName(job)
+                .nodeId(nodeId)
+                .startedAt(startedAt)
+                .durationMillis(durationMillis)
+                .outcome(JobOutcome.FAILED)
+                .errorMessage(
+                        errorMessage == null || errorMessage.length() <= 500
+                                ? errorMessage
+                                : errorMessage.substring(0, 500))
+                .build();
+    }
+}
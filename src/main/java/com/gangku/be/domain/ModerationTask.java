@@ -0,0 +1,84 @@
+package com.gangku.be.domain;
+
+import com.gangku.be.constant.moderation.ModerationTargetType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+@Entity
+@Table(
+        name = "moderation_tasks",
+        indexes = {
+            @Index(name = "idx_moderation_tasks_target", columnList = "target_type, target_id"),
+            @Index(name = "idx_moderation_tasks_claimed_at", columnList = "claimed_at")
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModerationTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private ModerationTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String text;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // AI 서버 장애로 미룬 횟수. 콘텐츠를 판정하지 못한 게 아니므로 반려 한도(attempts)에는 넣지 않는다
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer deferrals = 0;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    // 실패한 작업은 이 시각이 지나야 다시 선점한다
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static ModerationTask create(
+            ModerationTargetType targetType, Long targetId, String text) {
+        return ModerationTask.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .text(text)
+                .build();
+    }
+}
@@ -2,9 +2,11 @@ package com.gangku.be.domain;
 
 import com.gangku.be.constant.participation.ParticipationRole;
 import com.gangku.be.constant.participation.ParticipationStatus;
+import com.gangku.be.util.id.SnowflakeId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 @Getter
 @Entity
@@ -21,7 +23,7 @@ import lombok.*;
 public class Participation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -62,9 +64,15 @@ public class Participation {
         return participation;
     }
 
+    // 연관관계 주인은 Participation 이므로 아직 로딩되지 않은 컬렉션은 굳이 초기화하지 않는다
+    // (트랜잭션 밖에서 조회한 준영속 User 를 넘겨받아도 LazyInitializationException 이 나지 않는다)
     private void link(User user, Gathering gathering) {
-        user.getParticipations().add(this);
-        gathering.getParticipations().add(this);
+        if (Hibernate.isInitialized(user.getParticipations())) {
+            user.getParticipations().add(this);
+        }
+        if (Hibernate.isInitialized(gathering.getParticipations())) {
+            gathering.getParticipations().add(this);
+        }
     }
 
     private void unlink() {
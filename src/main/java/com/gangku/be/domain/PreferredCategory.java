@@ -1,5 +1,6 @@
 package com.gangku.be.domain;
 
+import com.gangku.be.util.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class PreferredCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 자동 생성
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY) // 다대일 관계 (여러 선호카테고리 → 한 사용자)
@@ -1,10 +1,12 @@
 package com.gangku.be.domain;
 
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.util.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -17,6 +19,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(
@@ -33,7 +36,7 @@ import lombok.NoArgsConstructor;
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -54,6 +57,12 @@ public class Review {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "moderation_status", nullable = false, length = 30)
+    @ColumnDefault("'PUBLISHED'")
+    @Builder.Default
+    private ModerationStatus moderationStatus = ModerationStatus.PUBLISHED;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -86,4 +95,8 @@ public class Review {
         this.rating = rating;
         this.content = content;
     }
+
+    public void changeModerationStatus(ModerationStatus moderationStatus) {
+        this.moderationStatus = moderationStatus;
+    }
 }
@@ -1,10 +1,13 @@
 package com.gangku.be.domain;
 
+import com.gangku.be.util.id.SnowflakeId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -15,7 +18,7 @@ import lombok.*;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "id")
     private Long id;
 
@@ -28,6 +31,10 @@ public class User {
     @Column(nullable = false, unique = true, length = 20)
     private String nickname;
 
+    // 비동기 검수 중인 변경 요청 닉네임 (승인되면 nickname으로 반영)
+    @Column(name = "pending_nickname", length = 20)
+    private String pendingNickname;
+
     private Integer age;
 
     @Column(length = 50)
@@ -41,6 +48,16 @@ public class User {
     @Column(name = "review_public")
     private Boolean reviewPublic;
 
+    // LOCAL 클러스터링 엔진이 마지막으로 배정한 클러스터 (아직 배정 전이면 null)
+    @Column(name = "cluster_id")
+    private Integer clusterId;
+
+    // 선호 카테고리를 (카테고리 id - 1) 번째 비트로 모은 값. 선호 카테고리 행이 바뀔 때 함께 맞춘다
+    @Column(name = "preferred_category_mask", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long preferredCategoryMask = 0L;
+
     @Column(name = "refresh_token")
     private String refreshToken;
 
@@ -96,6 +113,18 @@ public class User {
     public void addPreferredCategory(PreferredCategory preferredCategory) {
         this.preferredCategories.add(preferredCategory);
         preferredCategory.assignUser(this);
+        this.preferredCategoryMask |= Category.maskBit(preferredCategory.getCategory().getId());
+    }
+
+    // categoryIds 에 없는 선호 카테고리 행을 지우고 (orphanRemoval) 남은 행으로 비트마스크를 다시 맞춘다
+    public void retainPreferredCategories(Set<Long> categoryIds) {
+        this.preferredCategories.removeIf(pc -> !categoryIds.contains(pc.getCategory().getId()));
+
+        long mask = 0L;
+        for (PreferredCategory preferredCategory : this.preferredCategories) {
+            mask |= Category.maskBit(preferredCategory.getCategory().getId());
+        }
+        this.preferredCategoryMask = mask;
     }
 
     public void updateProfile(
@@ -111,6 +140,19 @@ public class User {
         if (enrollNumber != null) this.enrollNumber = enrollNumber;
     }
 
+    public void requestNicknameChange(String pendingNickname) {
+        this.pendingNickname = pendingNickname;
+    }
+
+    public void applyPendingNickname() {
+        this.nickname = this.pendingNickname;
+        this.pendingNickname = null;
+    }
+
+    public void discardPendingNickname() {
+        this.pendingNickname = null;
+    }
+
     public void changeReviewPublic(Boolean reviewPublic) {
         this.reviewPublic = reviewPublic;
     }
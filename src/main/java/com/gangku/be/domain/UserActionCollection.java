@@ -6,7 +6,9 @@ import java.time.LocalDateTime;
 import lombok.*;
 
 @Entity
-@Table(name = "user_action_collection")
+@Table(
+        name = "user_action_collection",
+        indexes = {@Index(name = "idx_user_action_created_at", columnList = "created_at")})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
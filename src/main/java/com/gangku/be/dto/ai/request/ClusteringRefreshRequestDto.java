@@ -18,7 +18,7 @@ public class ClusteringRefreshRequestDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class ClusteringUserData {
-        private Integer userId;
+        private Long userId;
         private List<String> preferredCategories;
         private Integer age;
         private Integer enrollNumber;
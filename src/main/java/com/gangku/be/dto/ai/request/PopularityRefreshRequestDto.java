@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PopularityRefreshRequestDto {
 
+    // true 면 AI 서버에 쌓인 로그 뒤에 이어 붙이고, false 면 이번 로그로 통째로 교체한다
+    private boolean delta;
+
     private List<UserActionLog> logList;
 
     @Getter
@@ -19,8 +22,8 @@ public class PopularityRefreshRequestDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class UserActionLog {
-        private Integer userId;
-        private Integer gatheringId;
+        private Long userId;
+        private Long gatheringId;
         private String status;
     }
 }
@@ -1,10 +1,12 @@
 package com.gangku.be.dto.ai.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class TextFilterResponseDto {
 
     private boolean allowed;
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.gangku.be.constant.id.ResourceType;
 import com.gangku.be.domain.Gathering;
 import com.gangku.be.model.common.PrefixedId;
+import com.gangku.be.model.gathering.GatheringListItem;
 import com.gangku.be.model.gathering.HostSummary;
 import com.gangku.be.model.participation.ParticipantsPreview;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,6 +39,9 @@ public class GatheringDetailResponseDto {
     private ParticipantsPreview participantsPreview;
     private boolean joined;
 
+    // 이 모임에 참여한 사람들이 함께 참여한 모임
+    private List<GatheringListItem> alsoJoined;
+
     @JsonFormat(
             shape = JsonFormat.Shape.STRING,
             pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'",
@@ -53,7 +58,8 @@ public class GatheringDetailResponseDto {
             Gathering gathering,
             ParticipantsPreview participantsPreview,
             String gatheringImageUrl,
-            boolean joined) {
+            boolean joined,
+            List<GatheringListItem> alsoJoined) {
         HostSummary host = HostSummary.from(gathering.getHost());
 
         String publicId = PrefixedId.of(ResourceType.GATHERING, gathering.getId()).toExternal();
@@ -73,6 +79,7 @@ public class GatheringDetailResponseDto {
                 .host(host)
                 .participantsPreview(participantsPreview)
                 .joined(joined)
+                .alsoJoined(alsoJoined)
                 .createdAt(gathering.getCreatedAt())
                 .updatedAt(gathering.getUpdatedAt())
                 .build();
@@ -2,6 +2,7 @@ package com.gangku.be.dto.gathering.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.gangku.be.constant.id.ResourceType;
+import com.gangku.be.constant.moderation.ModerationStatus;
 import com.gangku.be.domain.Gathering;
 import com.gangku.be.model.common.PrefixedId;
 import java.time.LocalDateTime;
@@ -30,6 +31,7 @@ public class GatheringResponseDto {
     private String openChatUrl;
     private String description;
     private String status;
+    private ModerationStatus moderationStatus;
     private String hostId;
 
     @JsonFormat(
@@ -61,6 +63,7 @@ public class GatheringResponseDto {
                 .openChatUrl(gathering.getOpenChatUrl())
                 .description(gathering.getDescription())
                 .status(gathering.getStatus().name())
+                .moderationStatus(gathering.getModerationStatus())
                 .hostId(publicUserId)
                 .createdAt(gathering.getCreatedAt())
                 .updatedAt(gathering.getUpdatedAt())
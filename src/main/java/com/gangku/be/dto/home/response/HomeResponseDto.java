@@ -15,4 +15,5 @@ public class HomeResponseDto {
     private GatheringListResponseDto recommended;
     private GatheringListResponseDto latest;
     private GatheringListResponseDto popular;
+    private GatheringListResponseDto peerPopular;
 }
@@ -2,6 +2,7 @@ package com.gangku.be.dto.review;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.gangku.be.constant.id.ResourceType;
+import com.gangku.be.constant.moderation.ModerationStatus;
 import com.gangku.be.domain.Review;
 import com.gangku.be.model.common.PrefixedId;
 import java.time.LocalDateTime;
@@ -16,6 +17,7 @@ public class ReviewCreateResponseDto {
     private String reviewId;
     private Integer rating;
     private String comment;
+    private ModerationStatus moderationStatus;
 
     @JsonFormat(
             shape = JsonFormat.Shape.STRING,
@@ -30,6 +32,7 @@ public class ReviewCreateResponseDto {
                 .reviewId(publicReviewId)
                 .rating(review.getRating())
                 .comment(review.getContent())
+                .moderationStatus(review.getModerationStatus())
                 .createdAt(review.getCreatedAt())
                 .build();
     }
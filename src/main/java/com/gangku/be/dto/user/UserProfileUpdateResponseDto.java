@@ -26,10 +26,14 @@ public class UserProfileUpdateResponseDto {
 
         String publicUserId = PrefixedId.of(ResourceType.USER, user.getId()).toExternal();
 
+        // 본인에게는 검수 중인 닉네임을 그대로 보여준다
+        String nickname =
+                user.getPendingNickname() != null ? user.getPendingNickname() : user.getNickname();
+
         return UserProfileUpdateResponseDto.builder()
                 .id(publicUserId)
                 .profileImageUrl(profileImageUrl)
-                .nickname(user.getNickname())
+                .nickname(nickname)
                 .age(user.getAge())
                 .gender(user.getGender())
                 .enrollNumber(user.getEnrollNumber())
@@ -14,7 +14,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
-// 현재로써는 Spring Security Role 기반 인가를 안 써서 쓸일이 없지만, 일단 나중을 위해
+// Role 기반 인가는 관리용 actuator 쓰기 작업(ROLE_ADMIN)에만 쓴다
 @Component
 @RequiredArgsConstructor
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
@@ -28,7 +28,7 @@ public class JwtAccessDeniedHandler implements AccessDeniedHandler {
             AccessDeniedException accessDeniedException)
             throws IOException, ServletException {
 
-        ErrorCode code = AuthErrorCode.TOKEN_MISMATCH;
+        ErrorCode code = AuthErrorCode.ADMIN_REQUIRED;
 
         response.setStatus(code.getStatus());
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
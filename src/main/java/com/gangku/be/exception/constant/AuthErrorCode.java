@@ -14,6 +14,7 @@ public enum AuthErrorCode implements ErrorCode {
             "INVALID_ACCESS_TOKEN", "유효하지 않은 엑세스 토큰입니다.", HttpStatus.UNAUTHORIZED.value()),
     TOKEN_MISMATCH(
             "TOKEN_MISMATCH", "서버에 저장된 리프레시 토큰과 일치하지 않습니다.", HttpStatus.UNAUTHORIZED.value()),
+    ADMIN_REQUIRED("ADMIN_REQUIRED", "운영자 권한이 필요합니다.", HttpStatus.FORBIDDEN.value()),
 
     // --- 이메일 인증 플로우 ---
     INVALID_SESSION("INVALID_SESSION", "유효한 가입 세션이 없습니다.", HttpStatus.BAD_REQUEST.value()),
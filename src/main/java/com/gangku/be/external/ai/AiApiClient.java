@@ -10,16 +10,40 @@ import com.gangku.be.dto.ai.response.IntroCreateResponseDto;
 import com.gangku.be.dto.ai.response.RecommendationResponseDto;
 import com.gangku.be.dto.ai.response.TextFilterResponseDto;
 import com.gangku.be.exception.CustomException;
+import com.gangku.be.exception.ErrorCode;
 import com.gangku.be.exception.constant.CommonErrorCode;
 import com.gangku.be.exception.constant.GatheringErrorCode;
 import com.gangku.be.model.ai.ClusteringRefreshResponse;
 import com.gangku.be.model.ai.PopularityRefreshResponse;
+import com.gangku.be.util.ai.TextPreFilter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
@@ -28,19 +52,70 @@ public class AiApiClient {
 
     private final WebClient aiWebClient;
     private final AiServerProps aiServerProps;
+    private final TextPreFilter textPreFilter;
+    private final AiEndpointBalancer aiEndpointBalancer;
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>>
+            SERVER_SENT_EVENT_TYPE = new ParameterizedTypeReference<>() {};
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
 
     public IntroCreateResponseDto createIntro(IntroCreateRequestDto introCreateRequestDto) {
         return post(
                 aiServerProps.getIntroPath(), introCreateRequestDto, IntroCreateResponseDto.class);
     }
 
+    // AI 서버의 토큰 스트림(SSE)을 버퍼링 없이 그대로 흘려보낸다
+    public Flux<ServerSentEvent<String>> streamIntro(IntroCreateRequestDto introCreateRequestDto) {
+        AiEndpointBalancer.Endpoint endpoint = aiEndpointBalancer.choose();
+        String uri = endpoint.resolve(aiServerProps.getIntroStreamPath());
+
+        return Flux.defer(
+                () -> {
+                    endpoint.acquire();
+                    return aiWebClient
+                            .post()
+                            .uri(uri)
+                            .accept(MediaType.TEXT_EVENT_STREAM)
+                            .bodyValue(introCreateRequestDto)
+                            .retrieve()
+                            .onStatus(
+                                    HttpStatusCode::isError,
+                                    response -> toStreamException(uri, response))
+                            .bodyToFlux(SERVER_SENT_EVENT_TYPE)
+                            .doOnError(
+                                    e -> {
+                                        if (isReplicaFailure(e)) {
+                                            aiEndpointBalancer.recordFailure(endpoint);
+                                        }
+                                    })
+                            .doFinally(signal -> endpoint.release());
+                })
+                .onErrorMap(
+                        WebClientException.class,
+                        e -> {
+                            log.error(
+                                    "AI 서버 스트림 통신 실패. uri={}, message={}", uri, e.getMessage(), e);
+                            return new CustomException(CommonErrorCode.AI_SERVICE_ERROR);
+                        });
+    }
+
     public TextFilterResponseDto filterText(TextFilterRequestDto request) {
-        return post(aiServerProps.getTextFilterPath(), request, TextFilterResponseDto.class);
+        // 명백한 금칙어나 아주 짧은 텍스트는 AI 서버까지 가지 않고 로컬에서 판정한다
+        TextPreFilter.Verdict verdict = textPreFilter.screen(request.getText());
+        if (verdict != TextPreFilter.Verdict.UNDECIDED) {
+            return new TextFilterResponseDto(verdict == TextPreFilter.Verdict.SAFE);
+        }
+
+        return post(aiServerProps.getTextFilterPath(), request, TextFilterResponseDto.class, true);
     }
 
     public RecommendationResponseDto recommend(RecommendationRequestDto request) {
         return post(
-                aiServerProps.getRecommendationsPath(), request, RecommendationResponseDto.class);
+                aiServerProps.getRecommendationsPath(),
+                request,
+                RecommendationResponseDto.class,
+                true);
     }
 
     public ClusteringRefreshResponse refreshClustering(ClusteringRefreshRequestDto request) {
@@ -48,68 +123,197 @@ public class AiApiClient {
                 aiServerProps.getRefreshClusteringPath(), request, ClusteringRefreshResponse.class);
     }
 
+    // 유저를 한 줄씩 쓴 NDJSON 을 gzip 으로 압축하며 청크 단위로 올린다 (본문 전체를 메모리에 만들지 않는다)
+    public ClusteringRefreshResponse refreshClusteringStream(Consumer<OutputStream> ndjsonWriter) {
+        Publisher<DataBuffer> body =
+                DataBufferUtils.outputStreamPublisher(
+                        outputStream -> writeGzip(outputStream, ndjsonWriter),
+                        DefaultDataBufferFactory.sharedInstance,
+                        task -> Schedulers.boundedElastic().schedule(task));
+
+        return send(
+                aiServerProps.getRefreshClusteringStreamPath(),
+                spec ->
+                        spec.contentType(MediaType.APPLICATION_NDJSON)
+                                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                                .body(BodyInserters.fromDataBuffers(body)),
+                ClusteringRefreshResponse.class,
+                false);
+    }
+
     public PopularityRefreshResponse refreshPopularity(PopularityRefreshRequestDto request) {
         return post(
                 aiServerProps.getRefreshPopularityPath(), request, PopularityRefreshResponse.class);
     }
 
-    private <T> T post(String uri, Object requestDto, Class<T> responseType) {
+    private void writeGzip(OutputStream outputStream, Consumer<OutputStream> writer) {
+        try (GZIPOutputStream gzipOutputStream =
+                new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE)) {
+            writer.accept(gzipOutputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Mono<CustomException> toStreamException(String uri, ClientResponse response) {
+        int status = response.statusCode().value();
+
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(
+                        body -> {
+                            log.warn(
+                                    "AI 서버 스트림 오류. uri={}, status={}, body={}",
+                                    uri,
+                                    status,
+                                    body);
+                            return new CustomException(
+                                    status == 422
+                                            ? CommonErrorCode.AI_VALIDATION_ERROR
+                                            : CommonErrorCode.AI_SERVICE_ERROR);
+                        });
+    }
+
+    private <T> T post(String path, Object requestDto, Class<T> responseType) {
+        return post(path, requestDto, responseType, false);
+    }
+
+    private <T> T post(String path, Object requestDto, Class<T> responseType, boolean hedgeable) {
+        return send(path, spec -> spec.bodyValue(requestDto), responseType, hedgeable);
+    }
+
+    private <T> T send(
+            String path, RequestBody requestBody, Class<T> responseType, boolean hedgeable) {
         try {
-            return aiWebClient
-                    .post()
-                    .uri(uri)
-                    .bodyValue(requestDto)
-                    .retrieve()
-                    .onStatus(
-                            status -> status.value() == 422,
-                            response ->
-                                    response.bodyToMono(String.class)
-                                            .defaultIfEmpty("")
-                                            .map(
-                                                    body -> {
-                                                        log.warn(
-                                                                "AI 서버 422 오류. uri={}, body={}",
-                                                                uri,
-                                                                body);
-                                                        return new CustomException(
-                                                                CommonErrorCode
-                                                                        .AI_VALIDATION_ERROR);
-                                                    }))
-                    .onStatus(
-                            status -> status.value() == 400,
-                            response ->
-                                    response.bodyToMono(String.class)
-                                            .defaultIfEmpty("")
-                                            .map(
-                                                    body -> {
-                                                        log.warn(
-                                                                "AI 서버 400 오류. uri={}, body={}",
-                                                                uri,
-                                                                body);
-                                                        return new CustomException(
-                                                                GatheringErrorCode
-                                                                        .INVALID_GATHERING_CONTENT);
-                                                    }))
-                    .onStatus(
-                            HttpStatusCode::is5xxServerError,
-                            response ->
-                                    response.bodyToMono(String.class)
-                                            .defaultIfEmpty("")
-                                            .map(
-                                                    body -> {
-                                                        log.error(
-                                                                "AI 서버 5xx 오류. uri={}, body={}",
-                                                                uri,
-                                                                body);
-                                                        return new CustomException(
-                                                                CommonErrorCode.AI_SERVICE_ERROR);
-                                                    }))
-                    .bodyToMono(responseType)
-                    .block();
+            AiEndpointBalancer.Endpoint primary = aiEndpointBalancer.choose();
+            Mono<T> call = exchange(primary, path, requestBody, responseType);
+
+            // 먼저 값을 낸 쪽을 쓴다. 한쪽이 먼저 실패해도 나머지 요청의 응답을 기다린다
+            if (hedgeable && aiEndpointBalancer.canHedge()) {
+                call =
+                        Mono.firstWithValue(call, hedge(primary, path, requestBody, responseType))
+                                .onErrorMap(NoSuchElementException.class, this::firstSourceError);
+            }
+
+            return call.block();
 
         } catch (WebClientException e) {
-            log.error("AI 서버 통신 실패. uri={}, message={}", uri, e.getMessage(), e);
+            log.error("AI 서버 통신 실패. uri={}, message={}", path, e.getMessage(), e);
             throw new CustomException(CommonErrorCode.AI_SERVICE_ERROR);
         }
     }
+
+    // 첫 요청이 평소 응답 시간의 백분위를 넘기도록 끝나지 않으면 다른 복제본에 한 번 더 보낸다
+    private <T> Mono<T> hedge(
+            AiEndpointBalancer.Endpoint primary,
+            String path,
+            RequestBody requestBody,
+            Class<T> responseType) {
+        return Mono.delay(aiEndpointBalancer.hedgeDelay(path))
+                .flatMap(
+                        tick ->
+                                aiEndpointBalancer
+                                        .chooseOther(primary)
+                                        .map(
+                                                secondary ->
+                                                        exchange(
+                                                                secondary,
+                                                                path,
+                                                                requestBody,
+                                                                responseType))
+                                        .orElseGet(Mono::empty));
+    }
+
+    // 두 요청이 모두 실패하면 firstWithValue 가 오류를 묶어 NoSuchElementException 으로 끝내므로 첫 요청의 오류를 꺼낸다
+    private Throwable firstSourceError(NoSuchElementException e) {
+        if (e.getCause() == null) {
+            return e;
+        }
+
+        List<Throwable> errors = Exceptions.unwrapMultiple(e.getCause());
+        return errors.isEmpty() ? e : errors.get(0);
+    }
+
+    private <T> Mono<T> exchange(
+            AiEndpointBalancer.Endpoint endpoint,
+            String path,
+            RequestBody requestBody,
+            Class<T> responseType) {
+        String uri = endpoint.resolve(path);
+
+        return Mono.defer(
+                () -> {
+                    long startedAt = System.nanoTime();
+                    endpoint.acquire();
+
+                    return requestBody
+                            .apply(aiWebClient.post().uri(uri))
+                            .retrieve()
+                            .onStatus(
+                                    status -> status.value() == 422,
+                                    response ->
+                                            toException(
+                                                    uri,
+                                                    response,
+                                                    CommonErrorCode.AI_VALIDATION_ERROR))
+                            .onStatus(
+                                    status -> status.value() == 400,
+                                    response ->
+                                            toException(
+                                                    uri,
+                                                    response,
+                                                    GatheringErrorCode.INVALID_GATHERING_CONTENT))
+                            .onStatus(
+                                    HttpStatusCode::is5xxServerError,
+                                    response ->
+                                            toException(
+                                                    uri,
+                                                    response,
+                                                    CommonErrorCode.AI_SERVICE_ERROR))
+                            .bodyToMono(responseType)
+                            .doOnSuccess(
+                                    response ->
+                                            aiEndpointBalancer.recordSuccess(
+                                                    endpoint, path, System.nanoTime() - startedAt))
+                            .doOnError(
+                                    e -> {
+                                        if (isReplicaFailure(e)) {
+                                            aiEndpointBalancer.recordFailure(endpoint);
+                                        } else {
+                                            aiEndpointBalancer.recordSuccess(
+                                                    endpoint, path, System.nanoTime() - startedAt);
+                                        }
+                                    })
+                            .doFinally(signal -> endpoint.release());
+                });
+    }
+
+    private Mono<CustomException> toException(
+            String uri, ClientResponse response, ErrorCode errorCode) {
+        int status = response.statusCode().value();
+
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(
+                        body -> {
+                            if (status >= 500) {
+                                log.error("AI 서버 5xx 오류. uri={}, body={}", uri, body);
+                            } else {
+                                log.warn("AI 서버 {} 오류. uri={}, body={}", status, uri, body);
+                            }
+                            return new CustomException(errorCode);
+                        });
+    }
+
+    // 네트워크 오류와 5xx 만 복제본 장애로 본다 (400/422 는 요청 자체의 문제)
+    private boolean isReplicaFailure(Throwable e) {
+        return e instanceof WebClientException
+                || (e instanceof CustomException customException
+                        && customException.getErrorCode() == CommonErrorCode.AI_SERVICE_ERROR);
+    }
+
+    // 요청 본문과 헤더를 채우는 부분만 호출마다 다르다
+    @FunctionalInterface
+    private interface RequestBody
+            extends Function<WebClient.RequestBodySpec, WebClient.RequestHeadersSpec<?>> {}
 }
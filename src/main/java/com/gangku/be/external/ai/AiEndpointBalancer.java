@@ -0,0 +1,165 @@
+package com.gangku.be.external.ai;
+
+import com.gangku.be.config.ai.AiServerProps;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 복제본 사이에서 처리 중인 요청이 가장 적은 곳을 고른다.
+ *
+ * <p>연속으로 실패한 복제본은 잠시 후보에서 빼고, 경로별 최근 응답 시간으로 헤지 요청을 보낼 지연 시간을 정한다.
+ */
+@Slf4j
+@Component
+public class AiEndpointBalancer {
+
+    private static final int LATENCY_WINDOW_SIZE = 256;
+
+    private final List<Endpoint> endpoints;
+    private final AiServerProps.Balancer balancerProps;
+    private final AiServerProps.Hedge hedgeProps;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+
+    public AiEndpointBalancer(AiServerProps aiServerProps) {
+        this.endpoints = aiServerProps.resolveBaseUrls().stream().map(Endpoint::new).toList();
+        this.balancerProps = aiServerProps.getBalancer();
+        this.hedgeProps = aiServerProps.getHedge();
+    }
+
+    public Endpoint choose() {
+        Endpoint chosen = pickLeastOutstanding(null, true);
+
+        // 모든 복제본이 빠져 있으면 그래도 가장 한가한 곳으로 보낸다
+        return chosen != null ? chosen : pickLeastOutstanding(null, false);
+    }
+
+    public Optional<Endpoint> chooseOther(Endpoint excluded) {
+        return Optional.ofNullable(pickLeastOutstanding(excluded, true));
+    }
+
+    public boolean canHedge() {
+        return hedgeProps.isEnabled() && endpoints.size() > 1;
+    }
+
+    public Duration hedgeDelay(String path) {
+        LatencyWindow window = latencyWindows.get(path);
+
+        long delayMillis = hedgeProps.getMaxDelayMillis();
+
+        if (window != null && window.size() >= hedgeProps.getMinSamples()) {
+            delayMillis = window.percentile(hedgeProps.getDelayPercentile());
+        }
+
+        long minDelayMillis = hedgeProps.getMinDelayMillis();
+        long maxDelayMillis = hedgeProps.getMaxDelayMillis();
+        return Duration.ofMillis(Math.clamp(delayMillis, minDelayMillis, maxDelayMillis));
+    }
+
+    public void recordSuccess(Endpoint endpoint, String path, long elapsedNanos) {
+        endpoint.consecutiveFailures.set(0);
+        latencyWindows
+                .computeIfAbsent(path, key -> new LatencyWindow(LATENCY_WINDOW_SIZE))
+                .add(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    public void recordFailure(Endpoint endpoint) {
+        int failures = endpoint.consecutiveFailures.incrementAndGet();
+        if (failures < balancerProps.getEjectAfterFailures()) {
+            return;
+        }
+
+        endpoint.consecutiveFailures.set(0);
+        endpoint.ejectedUntilMillis = System.currentTimeMillis() + balancerProps.getEjectMillis();
+        log.warn(
+                "AI 서버 복제본을 잠시 제외합니다. baseUrl={}, ejectMillis={}",
+                endpoint.baseUrl,
+                balancerProps.getEjectMillis());
+    }
+
+    private Endpoint pickLeastOutstanding(Endpoint excluded, boolean availableOnly) {
+        long now = System.currentTimeMillis();
+        int size = endpoints.size();
+
+        // 처리 중인 요청 수가 같으면 돌아가며 고르도록 시작 위치를 옮긴다
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+
+        Endpoint best = null;
+        for (int i = 0; i < size; i++) {
+            Endpoint candidate = endpoints.get((start + i) % size);
+            if (candidate == excluded || (availableOnly && !candidate.isAvailable(now))) {
+                continue;
+            }
+            if (best == null || candidate.outstanding.get() < best.outstanding.get()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    public static final class Endpoint {
+
+        private final String baseUrl;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile long ejectedUntilMillis;
+
+        private Endpoint(String baseUrl) {
+            this.baseUrl =
+                    baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        }
+
+        public String resolve(String path) {
+            return baseUrl + path;
+        }
+
+        public void acquire() {
+            outstanding.incrementAndGet();
+        }
+
+        public void release() {
+            outstanding.decrementAndGet();
+        }
+
+        private boolean isAvailable(long nowMillis) {
+            return ejectedUntilMillis <= nowMillis;
+        }
+    }
+
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        private synchronized void add(long latencyMillis) {
+            samples[next] = latencyMillis;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized long percentile(double percentile) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
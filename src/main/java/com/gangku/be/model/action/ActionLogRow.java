@@ -0,0 +1,7 @@
+package com.gangku.be.model.action;
+
+import com.gangku.be.constant.action.UserAction;
+import java.time.LocalDateTime;
+
+public record ActionLogRow(
+        Long id, Long userId, Long gatheringId, UserAction status, LocalDateTime createdAt) {}
@@ -0,0 +1,47 @@
+package com.gangku.be.model.action;
+
+import com.gangku.be.constant.action.RollupGranularity;
+import com.gangku.be.constant.action.UserAction;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 집계 버킷 하나에 더할 클릭/참여 수
+public record EngagementDelta(
+        Long gatheringId,
+        RollupGranularity granularity,
+        LocalDateTime bucketStart,
+        long clicks,
+        long joins) {
+
+    // 같은 순서로 행을 잠가서 여러 노드가 동시에 갱신해도 교착이 덜 나도록 정렬해 둔다
+    private static final Comparator<BucketKey> BUCKET_ORDER =
+            Comparator.comparing(BucketKey::gatheringId).thenComparing(BucketKey::bucketStart);
+
+    public static List<EngagementDelta> hourlyOf(Collection<UserActionEvent> events) {
+        Map<BucketKey, long[]> counts = new TreeMap<>(BUCKET_ORDER);
+
+        for (UserActionEvent event : events) {
+            LocalDateTime bucketStart = RollupGranularity.HOUR.bucketOf(event.occurredAt());
+            BucketKey key = new BucketKey(event.gatheringId(), bucketStart);
+            long[] count = counts.computeIfAbsent(key, k -> new long[2]);
+            count[event.status() == UserAction.CLICK ? 0 : 1]++;
+        }
+
+        return counts.entrySet().stream()
+                .map(
+                        entry ->
+                                new EngagementDelta(
+                                        entry.getKey().gatheringId(),
+                                        RollupGranularity.HOUR,
+                                        entry.getKey().bucketStart(),
+                                        entry.getValue()[0],
+                                        entry.getValue()[1]))
+                .toList();
+    }
+
+    private record BucketKey(Long gatheringId, LocalDateTime bucketStart) {}
+}
@@ -0,0 +1,3 @@
+package com.gangku.be.model.action;
+
+public record GatheringEngagement(Long gatheringId, Long clicks, Long joins) {}
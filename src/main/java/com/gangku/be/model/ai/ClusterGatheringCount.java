@@ -0,0 +1,3 @@
+package com.gangku.be.model.ai;
+
+public record ClusterGatheringCount(Integer clusterId, Long gatheringId, Long joinCount) {}
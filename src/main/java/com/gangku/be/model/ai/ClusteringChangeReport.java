@@ -0,0 +1,15 @@
+package com.gangku.be.model.ai;
+
+public record ClusteringChangeReport(
+        int totalUsers, int changedUsers, int removedUsers, String digest, String previousDigest) {
+
+    public double changedRatio() {
+        int baseline = totalUsers + removedUsers;
+        return baseline == 0 ? 0.0 : (double) (changedUsers + removedUsers) / baseline;
+    }
+
+    // 한 번도 실행한 적이 없으면 변경 비율과 관계없이 실행한다
+    public boolean shouldSkip(double skipChangedRatio) {
+        return previousDigest != null && changedRatio() < skipChangedRatio;
+    }
+}
@@ -7,4 +7,6 @@ public record ClusteringRefreshResponse(
         @JsonProperty("n_users") int nUsers,
         @JsonProperty("n_clusters") int nClusters,
         @JsonProperty("inertia") float inertia,
-        @JsonProperty("cluster_sizes") Map<Integer, Integer> clusterSizes) {}
+        @JsonProperty("cluster_sizes") Map<Integer, Integer> clusterSizes,
+        // 유저 id -> 클러스터 번호. 엔진이 주지 않으면 null
+        @JsonProperty("user_clusters") Map<Long, Integer> userClusters) {}
@@ -0,0 +1,4 @@
+package com.gangku.be.model.ai;
+
+public record ClusteringUserRow(
+        Long userId, Integer age, Integer enrollNumber, long preferredCategoryMask) {}
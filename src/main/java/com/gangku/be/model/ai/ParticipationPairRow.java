@@ -0,0 +1,4 @@
+package com.gangku.be.model.ai;
+
+public record ParticipationPairRow(
+        Long participationId, Long userId, Long gatheringId, Long categoryId) {}
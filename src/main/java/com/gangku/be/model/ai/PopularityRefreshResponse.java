@@ -8,4 +8,4 @@ public record PopularityRefreshResponse(
         @JsonProperty("total_logs") int totalLogs,
         @JsonProperty("n_clusters") int nClusters,
         @JsonProperty("top_n") int topN,
-        @JsonProperty("cluster_popularity") Map<Integer, List<Integer>> clusterPopularity) {}
+        @JsonProperty("cluster_popularity") Map<Integer, List<Long>> clusterPopularity) {}
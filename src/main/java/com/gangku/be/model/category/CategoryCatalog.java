@@ -0,0 +1,10 @@
+package com.gangku.be.model.category;
+
+import java.util.List;
+
+/**
+ * 카테고리 이름 목록(이름 오름차순)과 그 목록으로 만든 강한 ETag.
+ *
+ * @param eTag 따옴표를 포함한 ETag 값 (목록이 같으면 노드가 달라도 같다)
+ */
+public record CategoryCatalog(List<String> names, String eTag) {}
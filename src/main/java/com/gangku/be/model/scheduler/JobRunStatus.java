@@ -0,0 +1,24 @@
+package com.gangku.be.model.scheduler;
+
+import com.gangku.be.constant.scheduler.JobOutcome;
+import com.gangku.be.domain.JobRunHistory;
+import java.time.LocalDateTime;
+
+public record JobRunStatus(
+        LocalDateTime startedAt,
+        Long durationMillis,
+        Integer rowsShipped,
+        JobOutcome outcome,
+        String nodeId,
+        String errorMessage) {
+
+    public static JobRunStatus from(JobRunHistory history) {
+        return new JobRunStatus(
+                history.getStartedAt(),
+                history.getDurationMillis(),
+                history.getRowsShipped(),
+                history.getOutcome(),
+                history.getNodeId(),
+                history.getErrorMessage());
+    }
+}
@@ -0,0 +1,64 @@
+package com.gangku.be.repository;
+
+import com.gangku.be.constant.action.RollupGranularity;
+import com.gangku.be.domain.GatheringEngagementRollup;
+import com.gangku.be.model.action.GatheringEngagement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GatheringEngagementRollupRepository
+        extends JpaRepository<GatheringEngagementRollup, Long> {
+
+    // since 이후 버킷의 모임별 클릭/참여 합계 (원본 로그 대신 집계 테이블만 읽는다)
+    @Query(
+            """
+    SELECT new com.gangku.be.model.action.GatheringEngagement(
+        r.gatheringId, SUM(r.clicks), SUM(r.joins))
+    FROM GatheringEngagementRollup r
+    WHERE r.gatheringId IN :gatheringIds
+      AND r.bucketStart >= :since
+    GROUP BY r.gatheringId
+""")
+    List<GatheringEngagement> sumEngagementSince(
+            @Param("gatheringIds") Collection<Long> gatheringIds,
+            @Param("since") LocalDateTime since);
+
+    @Query(
+            """
+    SELECT MIN(r.bucketStart)
+    FROM GatheringEngagementRollup r
+    WHERE r.granularity = :granularity
+""")
+    LocalDateTime findOldestBucketStart(@Param("granularity") RollupGranularity granularity);
+
+    @Query(
+            """
+    SELECT r
+    FROM GatheringEngagementRollup r
+    WHERE r.granularity = :granularity
+      AND r.bucketStart >= :from
+      AND r.bucketStart < :to
+""")
+    List<GatheringEngagementRollup> findBuckets(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(
+            """
+    DELETE FROM GatheringEngagementRollup r
+    WHERE r.granularity = :granularity
+      AND r.bucketStart >= :from
+      AND r.bucketStart < :to
+""")
+    int deleteBuckets(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
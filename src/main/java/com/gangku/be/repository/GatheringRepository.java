@@ -1,6 +1,7 @@
 package com.gangku.be.repository;
 
 import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
 import com.gangku.be.domain.Category;
 import com.gangku.be.domain.Gathering;
 import com.gangku.be.domain.User;
@@ -22,12 +23,14 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     FROM Gathering g
     JOIN FETCH g.host
     WHERE g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """,
             countQuery =
                     """
     SELECT COUNT(g)
     FROM Gathering g
     WHERE g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """)
     Page<Gathering> findLatestGatherings(Pageable pageable);
 
@@ -40,6 +43,7 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     JOIN FETCH g.host
     WHERE g.category = :category
       AND g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """,
             countQuery =
                     """
@@ -47,6 +51,7 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     FROM Gathering g
     WHERE g.category = :category
       AND g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """)
     Page<Gathering> findLatestGatheringsByCategory(
             @Param("category") Category category, Pageable pageable);
@@ -59,12 +64,14 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     FROM Gathering g
     JOIN FETCH g.host
     WHERE g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """,
             countQuery =
                     """
     SELECT COUNT(g)
     FROM Gathering g
     WHERE g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """)
     Page<Gathering> findPopularGatherings(Pageable pageable);
 
@@ -77,6 +84,7 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     JOIN FETCH g.host
     WHERE g.category = :category
       AND g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """,
             countQuery =
                     """
@@ -84,6 +92,7 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     FROM Gathering g
     WHERE g.category = :category
       AND g.status <> com.gangku.be.constant.gathering.GatheringStatus.FINISHED
+      AND g.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
 """)
     Page<Gathering> findPopularGatheringsByCategory(
             @Param("category") Category category, Pageable pageable);
@@ -105,10 +114,11 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     """)
     Page<Gathering> findByHostId(@Param("host") User host, Pageable pageable);
 
-    List<Gathering> findTop50ByStatusNotOrderByCreatedAtDesc(GatheringStatus status);
+    List<Gathering> findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+            GatheringStatus status, ModerationStatus moderationStatus);
 
-    List<Gathering> findTop50ByCategoryAndStatusNotOrderByCreatedAtDesc(
-            Category category, GatheringStatus status);
+    List<Gathering> findTop50ByCategoryAndStatusNotAndModerationStatusOrderByCreatedAtDesc(
+            Category category, GatheringStatus status, ModerationStatus moderationStatus);
 
     // AI가 추천해준 ID 리스트로 조회
     List<Gathering> findByIdIn(Collection<Long> ids);
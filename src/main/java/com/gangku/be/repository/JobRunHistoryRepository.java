@@ -0,0 +1,10 @@
+package com.gangku.be.repository;
+
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.domain.JobRunHistory;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobRunHistoryRepository extends JpaRepository<JobRunHistory, Long> {
+    Optional<JobRunHistory> findTopByJobNameOrderByIdDesc(ScheduledJob jobName);
+}
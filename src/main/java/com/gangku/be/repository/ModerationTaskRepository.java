@@ -0,0 +1,79 @@
+package com.gangku.be.repository;
+
+import com.gangku.be.constant.moderation.ModerationTargetType;
+import com.gangku.be.domain.ModerationTask;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ModerationTaskRepository extends JpaRepository<ModerationTask, Long> {
+
+    // 아직 선점되지 않았거나 선점이 만료되었고, 재시도 대기 중이 아닌 작업.
+    // 재시도 한도를 넘긴 작업도 가져가서 워커가 반려로 정리한다
+    @Query(
+            """
+            select t.id
+            from ModerationTask t
+            where (t.claimedAt is null or t.claimedAt < :staleBefore)
+              and (t.nextAttemptAt is null or t.nextAttemptAt <= :now)
+            order by t.id asc
+            """)
+    List<Long> findClaimableIds(
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    // 조건부 update로 선점해서 여러 인스턴스가 같은 작업을 중복 처리하지 않도록 한다
+    @Modifying(clearAutomatically = true)
+    @Query(
+            """
+            update ModerationTask t
+            set t.claimToken = :claimToken,
+                t.claimedAt = :now,
+                t.attempts = t.attempts + 1
+            where t.id in :ids
+              and (t.claimedAt is null or t.claimedAt < :staleBefore)
+            """)
+    int claim(
+            @Param("ids") Collection<Long> ids,
+            @Param("claimToken") String claimToken,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore);
+
+    List<ModerationTask> findByClaimToken(String claimToken);
+
+    // 실패한 작업의 선점을 풀고 다음 시도를 미룬다
+    @Modifying
+    @Query(
+            """
+            update ModerationTask t
+            set t.claimToken = null,
+                t.claimedAt = null,
+                t.nextAttemptAt = :nextAttemptAt
+            where t.id = :id
+            """)
+    int releaseClaim(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // AI 서버 장애로 못 한 시도는 반려 한도에서 돌려주고 미룬 횟수로 센다
+    @Modifying
+    @Query(
+            """
+            update ModerationTask t
+            set t.claimToken = null,
+                t.claimedAt = null,
+                t.nextAttemptAt = :nextAttemptAt,
+                t.attempts = t.attempts - 1,
+                t.deferrals = t.deferrals + 1
+            where t.id = :id
+            """)
+    int deferForOutage(
+            @Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    boolean existsByTargetTypeAndTargetIdAndIdGreaterThan(
+            ModerationTargetType targetType, Long targetId, Long id);
+}
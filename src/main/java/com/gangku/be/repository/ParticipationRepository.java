@@ -3,6 +3,10 @@ package com.gangku.be.repository;
 import com.gangku.be.domain.Gathering;
 import com.gangku.be.domain.Participation;
 import com.gangku.be.domain.User;
+import com.gangku.be.model.ai.ClusterGatheringCount;
+import com.gangku.be.model.ai.ParticipationPairRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -16,7 +20,23 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
 
     Optional<Participation> findByUserAndGathering(User user, Gathering gathering);
 
-    Page<Participation> findByGatheringId(Long gatheringId, Pageable pageable);
+    // 참여자 미리보기에서 사용자 정보를 바로 쓰므로 한 번에 가져온다 (OSIV 를 끈 뒤 N+1 방지)
+    @Query(
+            value =
+                    """
+SELECT p
+FROM Participation p
+JOIN FETCH p.user
+WHERE p.gathering.id = :gatheringId
+""",
+            countQuery =
+                    """
+SELECT COUNT(p)
+FROM Participation p
+WHERE p.gathering.id = :gatheringId
+""")
+    Page<Participation> findByGatheringId(
+            @Param("gatheringId") Long gatheringId, Pageable pageable);
 
     @Query(
             """
@@ -55,5 +75,67 @@ order by p1.gathering.date desc
 """)
     List<Object[]> countApprovedParticipationGroupByUserId();
 
+    // 위와 같지만 주어진 유저 묶음만 센다 (클러스터링 내보내기 배치용)
+    @Query(
+            """
+    SELECT p.user.id, COUNT(p)
+    FROM Participation p
+    WHERE p.status = 'APPROVED'
+      AND p.user.id IN :userIds
+    GROUP BY p.user.id
+""")
+    List<Object[]> countApprovedParticipationByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 유저가 참여한 모임의 카테고리별 횟수 (로컬 추천의 카테고리 선호도 계산용)
+    @Query(
+            """
+    SELECT g.category.id, COUNT(p)
+    FROM Participation p
+    JOIN p.gathering g
+    WHERE p.user.id = :userId
+      AND p.status = 'APPROVED'
+    GROUP BY g.category.id
+""")
+    List<Object[]> countApprovedParticipationByCategory(@Param("userId") Long userId);
+
+    // 모임 간 유사도 계산용: 승인된 참여를 (유저, 모임, 카테고리) 스칼라로 키셋 페이지 조회
+    @Query(
+            """
+    SELECT new com.gangku.be.model.ai.ParticipationPairRow(p.id, p.user.id, g.id, g.category.id)
+    FROM Participation p
+    JOIN p.gathering g
+    WHERE p.status = 'APPROVED'
+      AND p.id > :afterId
+    ORDER BY p.id ASC
+""")
+    List<ParticipationPairRow> findParticipationPairsAfter(
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    // 유저가 최근에 참여한 모임 id (협업 필터링의 seed)
+    @Query(
+            """
+    SELECT p.gathering.id
+    FROM Participation p
+    WHERE p.user.id = :userId
+      AND p.status = 'APPROVED'
+    ORDER BY p.joinedAt DESC
+""")
+    List<Long> findRecentJoinedGatheringIds(@Param("userId") Long userId, Pageable pageable);
+
+    // 로컬 클러스터별 인기 모임 계산용: 최근 승인된 참여를 (클러스터, 모임) 별로 센다
+    @Query(
+            """
+    SELECT new com.gangku.be.model.ai.ClusterGatheringCount(u.clusterId, g.id, COUNT(p))
+    FROM Participation p
+    JOIN p.user u
+    JOIN p.gathering g
+    WHERE p.status = 'APPROVED'
+      AND p.joinedAt >= :since
+      AND u.clusterId IS NOT NULL
+      AND g.status <> 'FINISHED'
+    GROUP BY u.clusterId, g.id
+""")
+    List<ClusterGatheringCount> countRecentJoinsByCluster(@Param("since") LocalDateTime since);
+
     List<Participation> findAllByUser(User user);
 }
@@ -3,9 +3,12 @@ package com.gangku.be.repository;
 import com.gangku.be.domain.Category;
 import com.gangku.be.domain.PreferredCategory;
 import com.gangku.be.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /** PreferredCategory 엔티티에 대한 DB 접근을 위한 JPA 레포지토리 - 사용자별 선호 카테고리 조회 - 특정 유저-카테고리 조합 존재 여부 확인 */
 public interface PreferredCategoryRepository extends JpaRepository<PreferredCategory, Long> {
@@ -16,4 +19,13 @@ public interface PreferredCategoryRepository extends JpaRepository<PreferredCate
     void deleteByUser(User user);
 
     User id(Long id);
+
+    // 유저 묶음의 선호 카테고리 id 를 한 번에 가져온다 (row[0] = userId, row[1] = categoryId)
+    @Query(
+            """
+    SELECT pc.user.id, pc.category.id
+    FROM PreferredCategory pc
+    WHERE pc.user.id IN :userIds
+""")
+    List<Object[]> findCategoryIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
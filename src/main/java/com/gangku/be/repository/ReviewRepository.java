@@ -12,15 +12,39 @@ import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    Page<Review> findByRevieweeId(Long revieweeId, Pageable pageable);
+    // 검수 중이거나 반려된 리뷰는 대상자 프로필에 노출하지 않는다
+    @Query(
+            value =
+                    """
+            select r
+            from Review r
+            where r.reviewee.id = :revieweeId
+              and r.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
+            """,
+            countQuery =
+                    """
+            select count(r)
+            from Review r
+            where r.reviewee.id = :revieweeId
+              and r.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
+            """)
+    Page<Review> findByRevieweeId(@Param("revieweeId") Long revieweeId, Pageable pageable);
 
-    Long countByRevieweeId(Long revieweeId);
+    @Query(
+            """
+            select count(r)
+            from Review r
+            where r.reviewee.id = :revieweeId
+              and r.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
+            """)
+    Long countByRevieweeId(@Param("revieweeId") Long revieweeId);
 
     @Query(
             """
             select r
             from Review r
             where r.reviewee.id = :revieweeId
+              and r.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
             """)
     List<Review> findFirstPageByRevieweeId(@Param("revieweeId") Long revieweeId, Pageable pageable);
 
@@ -29,6 +53,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             select r
             from Review r
             where r.reviewee.id = :revieweeId
+              and r.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
               and (
                     r.createdAt < :createdAt
                     or (r.createdAt = :createdAt and r.id < :id)
@@ -46,6 +71,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
         select avg(r.rating)
         from Review r
         where r.reviewee.id = :revieweeId
+          and r.moderationStatus = com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED
         """)
     Double findAverageRatingByRevieweeId(@Param("revieweeId") Long revieweeId);
 
@@ -1,12 +1,67 @@
 package com.gangku.be.repository;
 
 import com.gangku.be.domain.UserActionCollection;
+import com.gangku.be.model.action.ActionLogRow;
+import com.gangku.be.model.ai.UserActionRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserActionCollectionRepository extends JpaRepository<UserActionCollection, Long> {
-    // user action 로그 수집
-    @Query("SELECT ua FROM UserActionCollection ua JOIN FETCH ua.user JOIN FETCH ua.gathering")
-    List<UserActionCollection> findAllWithUserAndGathering();
+    // user action 로그 수집: 워터마크(id) 이후 로그를 엔티티 대신 스칼라로 읽는다.
+    // 최근 로그를 여기서 걸러내면 그보다 작은 id 가 워터마크 뒤로 밀려 영영 빠지므로, 시각은 호출한 쪽에서 보고 끊는다
+    @Query(
+            """
+    SELECT new com.gangku.be.model.ai.UserActionRow(
+        ua.id, ua.user.id, ua.gathering.id, ua.status, ua.createdAt)
+    FROM UserActionCollection ua
+    WHERE ua.id > :afterId
+    ORDER BY ua.id ASC
+""")
+    List<UserActionRow> findActionRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 보관 기간이 지난 로그를 (created_at, id) 순으로 읽는다 (보관 파일로 옮긴 뒤 지운다).
+    // created_at 인덱스에는 PK(id)가 붙어 있으므로 이 순서면 정렬 없이 인덱스 순서대로 끊어 읽는다
+    @Query(
+            """
+    SELECT new com.gangku.be.model.action.ActionLogRow(
+        ua.id, ua.user.id, ua.gathering.id, ua.status, ua.createdAt)
+    FROM UserActionCollection ua
+    WHERE ua.createdAt < :createdBefore
+    ORDER BY ua.createdAt ASC, ua.id ASC
+""")
+    List<ActionLogRow> findExpiredActionRows(
+            @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+    // 직전 배치의 마지막 (created_at, id) 뒤부터 이어 읽는다
+    @Query(
+            """
+    SELECT new com.gangku.be.model.action.ActionLogRow(
+        ua.id, ua.user.id, ua.gathering.id, ua.status, ua.createdAt)
+    FROM UserActionCollection ua
+    WHERE ua.createdAt < :createdBefore
+      AND (
+            ua.createdAt > :afterCreatedAt
+            OR (ua.createdAt = :afterCreatedAt AND ua.id > :afterId)
+      )
+    ORDER BY ua.createdAt ASC, ua.id ASC
+""")
+    List<ActionLogRow> findExpiredActionRowsAfter(
+            @Param("createdBefore") LocalDateTime createdBefore,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Modifying
+    @Query(
+            """
+    DELETE FROM UserActionCollection ua
+    WHERE ua.id IN :ids
+""")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -3,8 +3,14 @@
 package com.gangku.be.repository;
 
 import com.gangku.be.domain.User;
+import com.gangku.be.model.ai.ClusteringUserRow;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email); // 이메일을 기준으로 User 조회 메서드
@@ -14,4 +20,51 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNicknameAndIdNot(String nickname, Long id); // 본인 제외 닉네임 중복 확인
 
     boolean existsByEmail(String email); // 이메일 존재 여부 확인 메서드
+
+    // 클러스터링 내보내기용 키셋 페이지: id 이후의 유저를 엔티티 대신 필요한 컬럼만 읽는다
+    @Query(
+            """
+    SELECT new com.gangku.be.model.ai.ClusteringUserRow(
+        u.id, u.age, u.enrollNumber, u.preferredCategoryMask)
+    FROM User u
+    WHERE u.id > :afterId
+    ORDER BY u.id ASC
+""")
+    List<ClusteringUserRow> findClusteringUsersAfter(
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    // 추천 미리 계산용 키셋 페이지: since 이후 클릭/참여 로그가 있는 유저만 읽는다
+    @Query(
+            """
+    SELECT new com.gangku.be.model.ai.ClusteringUserRow(
+        u.id, u.age, u.enrollNumber, u.preferredCategoryMask)
+    FROM User u
+    WHERE u.id > :afterId
+      AND EXISTS (
+          SELECT 1
+          FROM UserActionCollection ua
+          WHERE ua.user = u
+            AND ua.createdAt >= :since)
+    ORDER BY u.id ASC
+""")
+    List<ClusteringUserRow> findActiveUsersAfter(
+            @Param("afterId") Long afterId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable);
+
+    // 선호 카테고리 행은 있는데 비트마스크가 비어 있는 유저 (컬럼 추가 전에 가입한 유저) 의 키셋 페이지
+    @Query(
+            """
+    SELECT u.id
+    FROM User u
+    WHERE u.id > :afterId
+      AND u.preferredCategoryMask = 0
+      AND EXISTS (
+          SELECT 1
+          FROM PreferredCategory pc
+          WHERE pc.user = u)
+    ORDER BY u.id ASC
+""")
+    List<Long> findUnmaskedPreferredUserIdsAfter(
+            @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,136 @@
+package com.gangku.be.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gangku.be.config.action.ActionRetentionProps;
+import com.gangku.be.model.action.ActionLogRow;
+import com.gangku.be.repository.UserActionCollectionRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 보관 기간이 지난 유저 행동 로그를 월별 gzip NDJSON 파일로 옮기고 작은 배치로 지운다.
+ *
+ * <p>user_action_collection 은 FK 가 있어 MySQL 파티셔닝을 쓸 수 없으므로, 월 단위로 잘라 파티션을 떼어내는 것과 같은 효과를 청크
+ * 삭제로 낸다. 모임별 클릭/참여 합계는 집계 테이블에 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActionLogRetentionService {
+
+    private final UserActionCollectionRepository actionCollectionRepository;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final ActionRetentionProps actionRetentionProps;
+
+    // 지운 로그 수를 돌려준다
+    public int purgeExpiredLogs() {
+        // 달 중간에서 자르지 않도록 기준 시각을 달의 첫날로 내린다
+        LocalDateTime cutoff =
+                YearMonth.from(LocalDate.now().minusDays(actionRetentionProps.getRetentionDays()))
+                        .atDay(1)
+                        .atStartOfDay();
+
+        int batchSize = actionRetentionProps.getPurgeBatchSize();
+        int purgedCount = 0;
+        ActionLogRow last = null;
+        List<ActionLogRow> rows;
+
+        do {
+            rows = findExpiredBatch(cutoff, last, batchSize);
+
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            // 파일에 먼저 쓰고 지운다. 지우기 전에 죽으면 다음 실행에서 같은 행이 한 번 더 보관될 수 있다
+            archive(rows);
+
+            List<Long> ids = rows.stream().map(ActionLogRow::id).toList();
+            purgedCount +=
+                    transactionOperations.execute(
+                            status -> actionCollectionRepository.deleteByIdIn(ids));
+            last = rows.get(rows.size() - 1);
+
+            pause();
+        } while (rows.size() == batchSize);
+
+        log.info("유저 행동 로그 정리 - 지운 로그 수: {}, 기준 시각: {}", purgedCount, cutoff);
+        return purgedCount;
+    }
+
+    // (created_at, id) 키셋으로 읽어 이미 지운 구간의 인덱스를 다시 훑지 않는다
+    private List<ActionLogRow> findExpiredBatch(
+            LocalDateTime cutoff, ActionLogRow last, int batchSize) {
+        PageRequest page = PageRequest.of(0, batchSize);
+
+        if (last == null) {
+            return actionCollectionRepository.findExpiredActionRows(cutoff, page);
+        }
+
+        return actionCollectionRepository.findExpiredActionRowsAfter(
+                cutoff, last.createdAt(), last.id(), page);
+    }
+
+    private void archive(List<ActionLogRow> rows) {
+        Map<YearMonth, List<ActionLogRow>> rowsByMonth =
+                rows.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        row -> YearMonth.from(row.createdAt()),
+                                        TreeMap::new,
+                                        Collectors.toList()));
+
+        rowsByMonth.forEach(this::appendToArchive);
+    }
+
+    // gzip 멤버를 이어 붙이면 하나의 스트림으로 읽히므로 배치마다 새 멤버로 덧붙인다
+    private void appendToArchive(YearMonth month, List<ActionLogRow> rows) {
+        Path archiveFile =
+                Path.of(actionRetentionProps.getArchiveDir())
+                        .resolve("user_action_collection-" + month + ".ndjson.gz");
+
+        try {
+            Files.createDirectories(archiveFile.getParent());
+
+            try (OutputStream fileStream =
+                            Files.newOutputStream(
+                                    archiveFile,
+                                    StandardOpenOption.CREATE,
+                                    StandardOpenOption.APPEND);
+                    GZIPOutputStream gzipStream = new GZIPOutputStream(fileStream, 64 * 1024)) {
+                for (ActionLogRow row : rows) {
+                    gzipStream.write(objectMapper.writeValueAsBytes(row));
+                    gzipStream.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(actionRetentionProps.getBatchPauseMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
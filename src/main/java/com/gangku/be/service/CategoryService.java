@@ -1,22 +1,18 @@
 package com.gangku.be.service;
 
-import com.gangku.be.domain.Category;
-import com.gangku.be.repository.CategoryRepository;
-import java.util.List;
+import com.gangku.be.model.category.CategoryCatalog;
+import com.gangku.be.util.category.CategoryRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
 
-    @Transactional(readOnly = true)
-    public List<String> getAllCategories() {
-        return categoryRepository.findAllByOrderByNameAsc().stream()
-                .map(Category::getName)
-                .toList();
+    // 카테고리 목록은 레지스트리 스냅샷에서 바로 돌려준다 (DB 조회 없음)
+    public CategoryCatalog getCategoryCatalog() {
+        return categoryRegistry.catalog();
     }
 }
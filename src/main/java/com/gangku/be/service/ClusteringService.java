@@ -1,23 +1,39 @@
 package com.gangku.be.service;
 
-import com.gangku.be.domain.User;
-import com.gangku.be.domain.UserActionCollection;
-import com.gangku.be.dto.ai.request.ClusteringRefreshRequestDto;
+import com.gangku.be.config.ai.ClusteringProps;
+import com.gangku.be.constant.ai.ClusteringEngineType;
 import com.gangku.be.dto.ai.request.ClusteringRefreshRequestDto.ClusteringUserData;
 import com.gangku.be.dto.ai.request.PopularityRefreshRequestDto;
 import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.ai.ClusterGatheringCount;
+import com.gangku.be.model.ai.ClusteringChangeReport;
 import com.gangku.be.model.ai.ClusteringRefreshResponse;
+import com.gangku.be.model.ai.ClusteringUserRow;
 import com.gangku.be.model.ai.PopularityRefreshResponse;
+import com.gangku.be.model.ai.UserActionRow;
 import com.gangku.be.repository.ParticipationRepository;
 import com.gangku.be.repository.UserActionCollectionRepository;
 import com.gangku.be.repository.UserRepository;
+import com.gangku.be.util.ai.ClusterPopularityStore;
+import com.gangku.be.util.ai.ClusteringEngine;
+import com.gangku.be.util.ai.ClusteringFingerprint;
+import com.gangku.be.util.ai.LocalClusteringEngine;
+import com.gangku.be.util.ai.RemoteClusteringEngine;
+import com.gangku.be.util.category.CategoryRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -28,82 +44,323 @@ public class ClusteringService {
     private final ParticipationRepository participationRepository;
     private final UserActionCollectionRepository actionCollectionRepository;
     private final AiApiClient aiApiClient;
+    private final RemoteClusteringEngine remoteClusteringEngine;
+    private final LocalClusteringEngine localClusteringEngine;
+    private final ClusterPopularityStore clusterPopularityStore;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ClusteringProps clusteringProps;
+    private final CategoryRegistry categoryRegistry;
 
-    @Transactional(readOnly = true)
-    public void refreshClustering() {
-        // 1) 전체 유저 조회
-        List<User> users = userRepository.findAll();
-
-        // 2-0) DB 에서 따온 userCount 한 번에 관리
-        Map<Long, Integer> joinCountMap =
-                participationRepository.countApprovedParticipationGroupByUserId().stream()
-                        .collect(
-                                Collectors.toMap(
-                                        row -> (Long) row[0], row -> ((Long) row[1]).intValue()));
-
-        // 2-1) DTO 조립
-        List<ClusteringUserData> clusteringUserDataList =
-                users.stream()
-                        .map(
-                                user ->
-                                        ClusteringUserData.builder()
-                                                .userId(user.getId().intValue())
-                                                .preferredCategories(
-                                                        user.getPreferredCategories().stream()
-                                                                .map(
-                                                                        pc ->
-                                                                                pc.getCategory()
-                                                                                        .getName())
-                                                                .toList())
-                                                .age(user.getAge())
-                                                .enrollNumber(user.getEnrollNumber())
-                                                .userJoinCount(
-                                                        joinCountMap.getOrDefault(user.getId(), 0))
-                                                .build())
-                        .toList();
-
-        ClusteringRefreshRequestDto request =
-                ClusteringRefreshRequestDto.builder().users(clusteringUserDataList).build();
-
-        // 3) AI 호출
-        ClusteringRefreshResponse response = aiApiClient.refreshClustering(request);
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    private static final String CLUSTERING_FINGERPRINT_KEY = "ai:clustering:fingerprints";
+    private static final String CLUSTERING_FINGERPRINT_STAGING_KEY =
+            "ai:clustering:fingerprints:staging";
+    private static final String CLUSTERING_DIGEST_KEY = "ai:clustering:digest";
+
+    private static final String POPULARITY_WATERMARK_KEY = "ai:popularity:watermark";
+    private static final int POPULARITY_BATCH_SIZE = 5000;
+    private static final Duration POPULARITY_COMMIT_LAG = Duration.ofMinutes(1);
+
+    // 유저를 키셋 페이지로 읽으면서 설정된 엔진(AI 서버 또는 로컬 k-means)으로 흘려보낸다. 클러스터링한 유저수를 돌려준다
+    public int refreshClustering() {
+        ClusteringChangeReport report = detectClusteringChanges();
+
+        if (report.shouldSkip(clusteringProps.getSkipChangedRatio())) {
+            stringRedisTemplate.delete(CLUSTERING_FINGERPRINT_STAGING_KEY);
+            log.info(
+                    "클러스터링 생략 - 변경 비율: {}, 변경 유저수: {}, 삭제 유저수: {}, 전체 유저수: {}, 다이제스트: {}",
+                    report.changedRatio(),
+                    report.changedUsers(),
+                    report.removedUsers(),
+                    report.totalUsers(),
+                    report.digest());
+            return 0;
+        }
+
+        log.info(
+                "클러스터링 실행 - 변경 비율: {}, 변경 유저수: {}, 삭제 유저수: {}, 전체 유저수: {}, 다이제스트: {} -> {}",
+                report.changedRatio(),
+                report.changedUsers(),
+                report.removedUsers(),
+                report.totalUsers(),
+                report.previousDigest(),
+                report.digest());
+
+        ClusteringEngine engine = clusteringEngine();
+        ClusteringRefreshResponse response = engine.cluster(this::forEachClusteringUserBatch);
+
+        commitClusteringFingerprints(report);
+
+        // 엔진이 유저별 클러스터를 주지 않으면 지난 배정을 그대로 둔다
+        if (response.userClusters() != null) {
+            clusterPopularityStore.replaceUserClusters(response.userClusters());
+        }
 
         log.info(
-                "클러스터링 완료 - 유저수: {}, 클러스터수: {}, inertia: {}, 클러스터별 유저수: {}",
+                "클러스터링 완료 - 엔진: {}, 유저수: {}, 클러스터수: {}, inertia: {}, 클러스터별 유저수: {}",
+                engine.type(),
                 response.nUsers(),
                 response.nClusters(),
                 response.inertia(),
                 response.clusterSizes());
+
+        return report.totalUsers();
     }
 
-    public void refreshPopularity() {
-        // 1) 전체 로그리스트 조회
-        List<UserActionCollection> logList =
-                actionCollectionRepository.findAllWithUserAndGathering();
-
-        // 2) DTO 조립
-        List<PopularityRefreshRequestDto.UserActionLog> clusteringPopularityDataList =
-                logList.stream()
-                        .map(
-                                ua ->
-                                        PopularityRefreshRequestDto.UserActionLog.builder()
-                                                .userId(ua.getUser().getId().intValue())
-                                                .gatheringId(ua.getGathering().getId().intValue())
-                                                .status(ua.getStatus().name())
-                                                .build())
-                        .toList();
-
-        PopularityRefreshRequestDto request =
-                PopularityRefreshRequestDto.builder().logList(clusteringPopularityDataList).build();
-
-        // 3) AI 호출 (response 로 뭘 하는게 아니므로 단순 호출만)
-        PopularityRefreshResponse response = aiApiClient.refreshPopularity(request);
+    // 지난번에 보낸 로그(워터마크) 이후의 새 로그만 델타로 보낸다. 워터마크가 없으면 전체 재동기화
+    public int refreshPopularity() {
+        String watermark = stringRedisTemplate.opsForValue().get(POPULARITY_WATERMARK_KEY);
 
-        log.info(
-                "클러스터링 완료 - 토탈 로그 수: {}, 클러스터수: {}, top N 수: {}, 클러스터별 Popularity: {}",
-                response.totalLogs(),
-                response.nClusters(),
-                response.topN(),
-                response.clusterPopularity());
+        if (watermark == null) {
+            return resyncPopularity();
+        }
+
+        int shippedCount = shipPopularityLogs(Long.parseLong(watermark), true);
+
+        if (shippedCount == 0) {
+            log.info("인기도 갱신 생략 - 새 로그 없음, 워터마크: {}", watermark);
+        }
+
+        return shippedCount;
+    }
+
+    // 전체 로그를 다시 보낸다. 첫 배치로 AI 서버 로그를 교체하고 이후 배치는 이어 붙인다
+    public int resyncPopularity() {
+        return shipPopularityLogs(0L, false);
+    }
+
+    private int shipPopularityLogs(long afterId, boolean delta) {
+        // 커밋이 늦은 트랜잭션의 로그를 건너뛰지 않도록 최근 로그는 다음 갱신으로 미룬다
+        LocalDateTime createdBefore = LocalDateTime.now().minus(POPULARITY_COMMIT_LAG);
+
+        long lastActionId = afterId;
+        int shippedCount = 0;
+        boolean appending = delta;
+        boolean reachedRecent;
+        List<UserActionRow> fetched;
+        PopularityRefreshResponse lastResponse = null;
+
+        do {
+            fetched =
+                    actionCollectionRepository.findActionRowsAfter(
+                            lastActionId, PageRequest.of(0, POPULARITY_BATCH_SIZE));
+
+            // id 순으로 처음 나온 최근 로그에서 멈춰야 그 뒤에 늦게 들어온 작은 id 를 건너뛰지 않는다
+            List<UserActionRow> rows = settledPrefix(fetched, createdBefore);
+            reachedRecent = rows.size() < fetched.size();
+
+            if (rows.isEmpty() && appending) {
+                break;
+            }
+
+            List<PopularityRefreshRequestDto.UserActionLog> logList =
+                    rows.stream()
+                            .map(
+                                    row ->
+                                            PopularityRefreshRequestDto.UserActionLog.builder()
+                                                    .userId(row.userId())
+                                                    .gatheringId(row.gatheringId())
+                                                    .status(row.status().name())
+                                                    .build())
+                            .toList();
+
+            PopularityRefreshRequestDto request =
+                    PopularityRefreshRequestDto.builder().delta(appending).logList(logList).build();
+
+            // AI 호출 (response 로 뭘 하는게 아니므로 로그만 남긴다)
+            PopularityRefreshResponse response = aiApiClient.refreshPopularity(request);
+            lastResponse = response;
+
+            if (!rows.isEmpty()) {
+                lastActionId = rows.get(rows.size() - 1).id();
+            }
+            shippedCount += rows.size();
+            appending = true;
+
+            // 성공한 배치까지만 워터마크를 옮겨서 실패하면 다음 갱신에서 이어 보낸다
+            stringRedisTemplate
+                    .opsForValue()
+                    .set(POPULARITY_WATERMARK_KEY, String.valueOf(lastActionId));
+
+            log.info(
+                    "인기도 갱신 - 전송 로그 수: {}, 델타: {}, 워터마크: {}, 토탈 로그 수: {}, 클러스터수: {}, top N 수: {}",
+                    rows.size(),
+                    request.isDelta(),
+                    lastActionId,
+                    response.totalLogs(),
+                    response.nClusters(),
+                    response.topN());
+        } while (!reachedRecent && fetched.size() == POPULARITY_BATCH_SIZE);
+
+        storeClusterPopularity(lastResponse);
+
+        return shippedCount;
+    }
+
+    private static List<UserActionRow> settledPrefix(
+            List<UserActionRow> rows, LocalDateTime createdBefore) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (!rows.get(i).createdAt().isBefore(createdBefore)) {
+                return rows.subList(0, i);
+            }
+        }
+        return rows;
+    }
+
+    // 클러스터별 인기 모임을 저장해 두고 홈의 "나와 비슷한 사람들이 많이 참여한 모임" 을 그대로 읽어 쓴다.
+    // LOCAL 엔진이면 AI 서버의 클러스터 번호가 로컬 배정과 달라서 로컬 배정 기준으로 직접 센다
+    private void storeClusterPopularity(PopularityRefreshResponse lastResponse) {
+        if (clusteringProps.getEngine() == ClusteringEngineType.LOCAL) {
+            clusterPopularityStore.replaceClusterPopularity(countLocalClusterPopularity());
+            return;
+        }
+
+        if (lastResponse == null || lastResponse.clusterPopularity() == null) {
+            return;
+        }
+
+        clusterPopularityStore.replaceClusterPopularity(lastResponse.clusterPopularity());
+    }
+
+    private Map<Integer, List<Long>> countLocalClusterPopularity() {
+        LocalDateTime since =
+                LocalDateTime.now().minusDays(clusteringProps.getPopularityLookbackDays());
+
+        Comparator<ClusterGatheringCount> byJoinCount =
+                Comparator.comparing(ClusterGatheringCount::joinCount)
+                        .thenComparing(ClusterGatheringCount::gatheringId)
+                        .reversed();
+
+        return participationRepository.countRecentJoinsByCluster(since).stream()
+                .collect(
+                        Collectors.groupingBy(
+                                ClusterGatheringCount::clusterId,
+                                Collectors.collectingAndThen(
+                                        Collectors.toList(),
+                                        counts ->
+                                                counts.stream()
+                                                        .sorted(byJoinCount)
+                                                        .limit(clusteringProps.getPopularityTopN())
+                                                        .map(ClusterGatheringCount::gatheringId)
+                                                        .toList())));
+    }
+
+    private ClusteringEngine clusteringEngine() {
+        return clusteringProps.getEngine() == ClusteringEngineType.LOCAL
+                ? localClusteringEngine
+                : remoteClusteringEngine;
+    }
+
+    // 유저 지문을 지난 실행 때 저장한 지문과 비교한다. 새 지문은 실행이 끝날 때까지 임시 키에 모은다
+    private ClusteringChangeReport detectClusteringChanges() {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        stringRedisTemplate.delete(CLUSTERING_FINGERPRINT_STAGING_KEY);
+
+        FingerprintTally tally = new FingerprintTally();
+
+        forEachClusteringUserBatch(
+                batch -> {
+                    List<String> userIds =
+                            batch.stream().map(data -> String.valueOf(data.getUserId())).toList();
+                    List<String> previousFingerprints =
+                            hashOperations.multiGet(CLUSTERING_FINGERPRINT_KEY, userIds);
+
+                    Map<String, String> fingerprints = new HashMap<>();
+                    for (int i = 0; i < batch.size(); i++) {
+                        long fingerprint = ClusteringFingerprint.of(batch.get(i));
+                        String hex = ClusteringFingerprint.toHex(fingerprint);
+                        String previous = previousFingerprints.get(i);
+
+                        if (previous != null) {
+                            tally.matchedUsers++;
+                        }
+                        if (!hex.equals(previous)) {
+                            tally.changedUsers++;
+                        }
+                        tally.digest += fingerprint;
+                        fingerprints.put(userIds.get(i), hex);
+                    }
+
+                    tally.totalUsers += batch.size();
+                    hashOperations.putAll(CLUSTERING_FINGERPRINT_STAGING_KEY, fingerprints);
+                });
+
+        Long storedCount = hashOperations.size(CLUSTERING_FINGERPRINT_KEY);
+        long previousUsers = storedCount == null ? 0 : storedCount;
+        int removedUsers = (int) Math.max(0, previousUsers - tally.matchedUsers);
+
+        return new ClusteringChangeReport(
+                tally.totalUsers,
+                tally.changedUsers,
+                removedUsers,
+                ClusteringFingerprint.toHex(tally.digest),
+                stringRedisTemplate.opsForValue().get(CLUSTERING_DIGEST_KEY));
+    }
+
+    // 엔진이 이번 데이터로 클러스터링을 마친 뒤에만 기준 지문을 교체한다
+    private void commitClusteringFingerprints(ClusteringChangeReport report) {
+        if (report.totalUsers() == 0) {
+            stringRedisTemplate.delete(CLUSTERING_FINGERPRINT_KEY);
+        } else {
+            stringRedisTemplate.rename(
+                    CLUSTERING_FINGERPRINT_STAGING_KEY, CLUSTERING_FINGERPRINT_KEY);
+        }
+        stringRedisTemplate.opsForValue().set(CLUSTERING_DIGEST_KEY, report.digest());
+    }
+
+    // 한 배치마다 유저 조회 1번, 참여 횟수 1번만 쿼리한다. 선호 카테고리는 유저 행의 비트마스크를 푼다
+    private int forEachClusteringUserBatch(Consumer<List<ClusteringUserData>> batchConsumer) {
+        long lastUserId = 0L;
+        int userCount = 0;
+
+        while (true) {
+            List<ClusteringUserRow> rows =
+                    userRepository.findClusteringUsersAfter(
+                            lastUserId, PageRequest.of(0, EXPORT_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Long> userIds = rows.stream().map(ClusteringUserRow::userId).toList();
+
+            Map<Long, Integer> joinCountMap =
+                    participationRepository.countApprovedParticipationByUserIdIn(userIds).stream()
+                            .collect(
+                                    Collectors.toMap(
+                                            row -> (Long) row[0],
+                                            row -> ((Long) row[1]).intValue()));
+
+            List<ClusteringUserData> batch =
+                    rows.stream()
+                            .map(
+                                    row ->
+                                            ClusteringUserData.builder()
+                                                    .userId(row.userId())
+                                                    .preferredCategories(
+                                                            categoryRegistry.namesOf(
+                                                                    row.preferredCategoryMask()))
+                                                    .age(row.age())
+                                                    .enrollNumber(row.enrollNumber())
+                                                    .userJoinCount(
+                                                            joinCountMap.getOrDefault(
+                                                                    row.userId(), 0))
+                                                    .build())
+                            .toList();
+
+            batchConsumer.accept(batch);
+
+            lastUserId = rows.get(rows.size() - 1).userId();
+            userCount += rows.size();
+        }
+
+        return userCount;
+    }
+
+    private static final class FingerprintTally {
+        private int totalUsers;
+        private int changedUsers; // 신규 유저 포함
+        private int matchedUsers; // 지난 실행 때도 있던 유저
+        private long digest;
     }
 }
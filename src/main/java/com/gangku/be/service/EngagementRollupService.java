@@ -0,0 +1,82 @@
+package com.gangku.be.service;
+
+import com.gangku.be.config.action.ActionIngestProps;
+import com.gangku.be.constant.action.RollupGranularity;
+import com.gangku.be.domain.GatheringEngagementRollup;
+import com.gangku.be.model.action.EngagementDelta;
+import com.gangku.be.repository.GatheringEngagementRollupRepository;
+import com.gangku.be.util.action.EngagementRollupStore;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EngagementRollupService {
+
+    private final GatheringEngagementRollupRepository engagementRollupRepository;
+    private final EngagementRollupStore engagementRollupStore;
+    private final TransactionOperations transactionOperations;
+    private final ActionIngestProps actionIngestProps;
+
+    // 보존 기간이 지난 시간 단위 버킷을 하루씩 일 단위 버킷으로 합친다. 합친 시간 단위 버킷 수를 돌려준다
+    public int compactHourlyBuckets() {
+        LocalDateTime cutoff =
+                LocalDate.now()
+                        .minusDays(actionIngestProps.getRollupHourlyRetentionDays())
+                        .atStartOfDay();
+
+        int compactedCount = 0;
+        LocalDateTime oldest;
+
+        while ((oldest = engagementRollupRepository.findOldestBucketStart(RollupGranularity.HOUR))
+                        != null
+                && oldest.isBefore(cutoff)) {
+            LocalDate day = oldest.toLocalDate();
+            // 하루치는 한 트랜잭션으로 옮겨서 중간에 실패해도 두 번 더해지지 않는다
+            compactedCount += transactionOperations.execute(status -> compactDay(day));
+        }
+
+        log.info("참여 집계 압축 - 합친 시간 단위 버킷 수: {}, 기준 시각: {}", compactedCount, cutoff);
+        return compactedCount;
+    }
+
+    private int compactDay(LocalDate day) {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+
+        List<GatheringEngagementRollup> hourlyBuckets =
+                engagementRollupRepository.findBuckets(RollupGranularity.HOUR, from, to);
+
+        Map<Long, long[]> dailyCounts = new TreeMap<>();
+        for (GatheringEngagementRollup bucket : hourlyBuckets) {
+            long[] count = dailyCounts.computeIfAbsent(bucket.getGatheringId(), k -> new long[2]);
+            count[0] += bucket.getClicks();
+            count[1] += bucket.getJoins();
+        }
+
+        List<EngagementDelta> deltas =
+                dailyCounts.entrySet().stream()
+                        .map(
+                                entry ->
+                                        new EngagementDelta(
+                                                entry.getKey(),
+                                                RollupGranularity.DAY,
+                                                from,
+                                                entry.getValue()[0],
+                                                entry.getValue()[1]))
+                        .toList();
+
+        engagementRollupStore.add(deltas);
+        engagementRollupRepository.deleteBuckets(RollupGranularity.HOUR, from, to);
+
+        return hourlyBuckets.size();
+    }
+}
@@ -1,7 +1,12 @@
 package com.gangku.be.service;
 
+import com.gangku.be.config.action.TrendingProps;
+import com.gangku.be.config.ai.ItemSimilarityProps;
+import com.gangku.be.config.ai.LocalRecommenderProps;
 import com.gangku.be.constant.gathering.GatheringSort;
 import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.constant.moderation.ModerationTargetType;
 import com.gangku.be.constant.participation.ParticipationRole;
 import com.gangku.be.domain.Category;
 import com.gangku.be.domain.Gathering;
@@ -24,42 +29,68 @@ import com.gangku.be.exception.constant.GatheringErrorCode;
 import com.gangku.be.exception.constant.UserErrorCode;
 import com.gangku.be.external.ai.AiApiClient;
 import com.gangku.be.model.gathering.GatheringList;
+import com.gangku.be.model.gathering.GatheringListItem;
 import com.gangku.be.model.participation.ParticipantsPreview;
-import com.gangku.be.repository.CategoryRepository;
 import com.gangku.be.repository.GatheringRepository;
 import com.gangku.be.repository.ParticipationRepository;
 import com.gangku.be.repository.UserRepository;
+import com.gangku.be.util.action.GatheringTrendingIndex;
+import com.gangku.be.util.action.UserActionRecorder;
 import com.gangku.be.util.ai.AiTextFilterMapper;
+import com.gangku.be.util.ai.ClusterPopularityStore;
+import com.gangku.be.util.ai.ItemSimilarityIndex;
+import com.gangku.be.util.ai.LocalGatheringRecommender;
+import com.gangku.be.util.ai.RecommendationStore;
+import com.gangku.be.util.category.CategoryRegistry;
 import com.gangku.be.util.object.FileUrlResolver;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GatheringService {
 
     private final GatheringRepository gatheringRepository;
-    private final CategoryRepository categoryRepository;
     private final ParticipationRepository participationRepository;
     private final UserRepository userRepository;
 
     private final FileUrlResolver fileUrlResolver;
     private final AiApiClient aiApiClient;
     private final AiTextFilterMapper aiTextFilterMapper;
+    private final ModerationService moderationService;
+    private final TransactionOperations transactionOperations;
+    private final TransactionOperations readOnlyTransactionOperations;
+    private final UserActionRecorder userActionRecorder;
+    private final GatheringTrendingIndex gatheringTrendingIndex;
+    private final TrendingProps trendingProps;
+    private final LocalGatheringRecommender localGatheringRecommender;
+    private final LocalRecommenderProps localRecommenderProps;
+    private final ItemSimilarityIndex itemSimilarityIndex;
+    private final ItemSimilarityProps itemSimilarityProps;
+    private final ClusterPopularityStore clusterPopularityStore;
+    private final RecommendationStore recommendationStore;
+    private final CategoryRegistry categoryRegistry;
 
     // 모임 생성 메서드
-    @Transactional
+    // AI 검수는 트랜잭션 밖에서 끝내고, 저장만 짧은 쓰기 트랜잭션으로 묶는다
     public GatheringResponseDto createGathering(
             GatheringCreateRequestDto gatheringCreateRequestDto, Long hostId) {
 
@@ -67,7 +98,11 @@ public class GatheringService {
 
         Category category = findCategoryByName(gatheringCreateRequestDto.getCategory());
 
-        validateGatheringContentFromGatheringCreate(gatheringCreateRequestDto);
+        boolean asyncModeration = moderationService.isAsyncEnabled();
+
+        if (!asyncModeration) {
+            validateGatheringContentFromGatheringCreate(gatheringCreateRequestDto);
+        }
 
         // 엔티티 생성
         Gathering gathering =
@@ -81,12 +116,31 @@ public class GatheringService {
                         gatheringCreateRequestDto.getDate(),
                         gatheringCreateRequestDto.getLocation(),
                         gatheringCreateRequestDto.getOpenChatUrl());
-        Gathering savedGathering = gatheringRepository.save(gathering);
 
-        // 호스트도 참여자로 추가
-        Participation participation =
-                Participation.create(host, savedGathering, ParticipationRole.HOST);
-        participationRepository.save(participation);
+        // 비동기 검수 모드에서는 검수가 끝날 때까지 호스트에게만 보인다
+        if (asyncModeration) {
+            gathering.changeModerationStatus(ModerationStatus.PENDING_MODERATION);
+        }
+
+        Gathering savedGathering =
+                transactionOperations.execute(
+                        status -> {
+                            Gathering saved = gatheringRepository.save(gathering);
+
+                            // 호스트도 참여자로 추가
+                            Participation participation =
+                                    Participation.create(host, saved, ParticipationRole.HOST);
+                            participationRepository.save(participation);
+
+                            if (asyncModeration) {
+                                moderationService.requestModeration(
+                                        ModerationTargetType.GATHERING,
+                                        saved.getId(),
+                                        aiTextFilterMapper.fromGatheringCreate(
+                                                gatheringCreateRequestDto));
+                            }
+                            return saved;
+                        });
 
         // 4. 응답 DTO 생성
         return GatheringResponseDto.from(
@@ -95,7 +149,7 @@ public class GatheringService {
     }
 
     // 모임 수정 메서드
-    @Transactional
+    // 권한 확인과 AI 검수는 트랜잭션 밖에서 하고, 쓰기 트랜잭션에서 최신 상태를 다시 읽어 반영한다
     public GatheringResponseDto updateGathering(
             Long gatheringId, Long userId, GatheringUpdateRequestDto gatheringUpdateRequestDto) {
 
@@ -103,15 +157,40 @@ public class GatheringService {
 
         validateGatheringHost(userId, gathering);
 
-        validateGatheringContentFromGatheringUpdate(gatheringUpdateRequestDto);
-
-        updateRequestBody(gatheringUpdateRequestDto, gathering);
+        boolean asyncModeration =
+                moderationService.isAsyncEnabled() && hasTextContent(gatheringUpdateRequestDto);
 
-        Gathering updatedGathering = gatheringRepository.save(gathering);
+        if (!asyncModeration) {
+            validateGatheringContentFromGatheringUpdate(gatheringUpdateRequestDto);
+        }
 
-        return GatheringResponseDto.from(
-                updatedGathering,
-                fileUrlResolver.toPublicUrl(updatedGathering.getGatheringImageObjectKey()));
+        return transactionOperations.execute(
+                status -> {
+                    // AI 호출 동안 바뀌었을 수 있는 참여 인원 등을 덮어쓰지 않도록 다시 조회한다
+                    Gathering managedGathering = findGatheringById(gatheringId);
+
+                    updateRequestBody(gatheringUpdateRequestDto, managedGathering);
+
+                    // 제목/설명이 바뀌면 다시 검수가 끝날 때까지 호스트에게만 보인다
+                    if (asyncModeration) {
+                        managedGathering.changeModerationStatus(
+                                ModerationStatus.PENDING_MODERATION);
+                    }
+
+                    Gathering updatedGathering = gatheringRepository.save(managedGathering);
+
+                    if (asyncModeration) {
+                        moderationService.requestModeration(
+                                ModerationTargetType.GATHERING,
+                                updatedGathering.getId(),
+                                aiTextFilterMapper.fromGathering(updatedGathering));
+                    }
+
+                    return GatheringResponseDto.from(
+                            updatedGathering,
+                            fileUrlResolver.toPublicUrl(
+                                    updatedGathering.getGatheringImageObjectKey()));
+                });
     }
 
     // 모임 삭제 메서드
@@ -142,6 +221,8 @@ public class GatheringService {
             Long gatheringId, int page, int size, Long userId) {
 
         Gathering gathering = findGatheringById(gatheringId);
+        validateGatheringVisible(userId, gathering);
+
         User user = findUserById(userId);
 
         boolean joined = participationRepository.existsByUserAndGathering(user, gathering);
@@ -165,36 +246,71 @@ public class GatheringService {
             gatheringImageUrl = fileUrlResolver.toPublicUrl(gatheringKey);
         }
 
+        List<GatheringListItem> alsoJoined = getAlsoJoinedGatherings(gatheringId);
+
+        userActionRecorder.recordClick(userId, gatheringId);
+
         return GatheringDetailResponseDto.from(
-                gathering, participantsPreview, gatheringImageUrl, joined);
+                gathering, participantsPreview, gatheringImageUrl, joined, alsoJoined);
     }
 
-    // 외부 AI 호출만 -> Client로 위임
-    @Transactional
+    // 외부 AI 호출만 -> Client로 위임 (DB 를 쓰지 않으므로 트랜잭션을 열지 않는다)
     public IntroCreateResponseDto createGatheringIntro(
             IntroCreateRequestDto introCreateRequestDto) {
         return aiApiClient.createIntro(introCreateRequestDto);
     }
 
-    @Transactional(readOnly = true)
+    // 스트리밍이 끝날 때까지 DB 커넥션을 잡지 않도록 트랜잭션 없이 위임한다
+    public Flux<ServerSentEvent<String>> streamGatheringIntro(
+            IntroCreateRequestDto introCreateRequestDto) {
+        return aiApiClient
+                .streamIntro(introCreateRequestDto)
+                .onErrorResume(
+                        CustomException.class,
+                        e ->
+                                Flux.just(
+                                        ServerSentEvent.<String>builder()
+                                                .event("error")
+                                                .data(e.getErrorCode().getCode())
+                                                .build()));
+    }
+
+    // 추천 순위(AI 호출, 로컬 대체)는 트랜잭션 밖에서 정하고, 목록 조회만 짧은 읽기 트랜잭션으로 묶는다
     public GatheringListResponseDto getGatheringList(
             Long userId, String categoryName, int page, int size, String sort) {
 
         Category category = findCategoryByName(categoryName);
         GatheringSort sortType = GatheringSort.from(sort);
 
-        Page<Gathering> gatheringPage =
-                switch (sortType) {
-                    case LATEST, POPULAR -> getNormalGatheringPage(category, sortType, page, size);
-                    case RECOMMEND -> getRecommendedGatheringPage(userId, category, page, size);
-                };
+        List<Long> recommendedIds =
+                sortType == GatheringSort.RECOMMEND
+                        ? findRecommendedGatheringIds(userId, category)
+                        : List.of();
 
         String sortedByForSpec = getSortedByForSpec(sortType);
 
-        GatheringList gatheringList =
-                GatheringList.from(gatheringPage, sortedByForSpec, this::resolveGatheringImageUrl);
-
-        return GatheringListResponseDto.from(gatheringList);
+        return readOnlyTransactionOperations.execute(
+                status -> {
+                    Page<Gathering> gatheringPage =
+                            switch (sortType) {
+                                case LATEST, POPULAR ->
+                                        getNormalGatheringPage(category, sortType, page, size);
+                                case RECOMMEND ->
+                                        getRecommendedGatheringPage(
+                                                recommendedIds, category, page, size);
+                                case TRENDING -> getTrendingGatheringPage(category, page, size);
+                                case PEER_POPULAR ->
+                                        getPeerPopularGatheringPage(userId, category, page, size);
+                            };
+
+                    GatheringList gatheringList =
+                            GatheringList.from(
+                                    gatheringPage,
+                                    sortedByForSpec,
+                                    this::resolveGatheringImageUrl);
+
+                    return GatheringListResponseDto.from(gatheringList);
+                });
     }
 
     @Transactional(readOnly = true)
@@ -243,47 +359,153 @@ public class GatheringService {
         return getGatheringPage(category, sortType, pageable);
     }
 
+    // 추천 순위가 없으면(비로그인, 후보 없음, 빈 결과) 최신순으로 대신한다
     private Page<Gathering> getRecommendedGatheringPage(
-            Long userId, Category category, int page, int size) {
+            List<Long> recommendedIds, Category category, int page, int size) {
 
-        if (userId == null) {
+        if (recommendedIds == null || recommendedIds.isEmpty()) {
             return getNormalGatheringPage(category, GatheringSort.LATEST, page, size);
         }
 
+        return buildRankedPage(recommendedIds, category, page, size);
+    }
+
+    private List<Long> findRecommendedGatheringIds(Long userId, Category category) {
+
+        if (userId == null) {
+            return List.of();
+        }
+
+        // 미리 계산한 목록은 카테고리 없는 후보로 만든 것이라 카테고리 없는 요청에만 쓴다
+        if (category == null) {
+            List<Long> precomputedIds = recommendationStore.find(userId);
+
+            if (!precomputedIds.isEmpty()) {
+                return precomputedIds;
+            }
+        }
+
+        // 지연 로딩되는 카테고리/호스트까지 읽어 요청을 만든 뒤 커넥션을 돌려주고 AI 서버를 부른다
+        RecommendationInput recommendationInput =
+                readOnlyTransactionOperations.execute(
+                        status -> getRecommendationInput(userId, category));
+
+        if (recommendationInput.candidates().isEmpty()) {
+            return List.of();
+        }
+
+        return recommendGatheringIds(recommendationInput);
+    }
+
+    private RecommendationInput getRecommendationInput(Long userId, Category category) {
         User user = findUserById(userId);
 
         List<String> preferredCategories =
-                user.getPreferredCategories().stream()
-                        .map(pc -> pc.getCategory().getName())
-                        .toList();
+                categoryRegistry.namesOf(user.getPreferredCategoryMask());
 
-        List<Gathering> candidates = getRecommendationCandidates(category);
+        List<Gathering> candidates = getRecommendationCandidates(userId, category);
 
-        if (candidates.isEmpty()) {
-            return getNormalGatheringPage(category, GatheringSort.LATEST, page, size);
-        }
+        return new RecommendationInput(
+                user,
+                candidates,
+                RecommendationRequestDto.from(user, preferredCategories, candidates));
+    }
 
-        RecommendationRequestDto recommendationRequestDto =
-                RecommendationRequestDto.from(user, preferredCategories, candidates);
+    // AI 서버가 실패하거나 빈 결과를 주면 로컬 휴리스틱 순위로 대신한다
+    private List<Long> recommendGatheringIds(RecommendationInput recommendationInput) {
 
-        List<Long> recommendedIds =
-                aiApiClient.recommend(recommendationRequestDto).getGatheringsId();
+        User user = recommendationInput.user();
+        List<Gathering> candidates = recommendationInput.candidates();
+
+        long startedNanos = System.nanoTime();
+        List<Long> recommendedIds;
+
+        try {
+            recommendedIds = aiApiClient.recommend(recommendationInput.request()).getGatheringsId();
+        } catch (CustomException e) {
+            if (e.getErrorCode() != CommonErrorCode.AI_SERVICE_ERROR
+                    || !localRecommenderProps.isFallbackEnabled()) {
+                throw e;
+            }
+            log.warn("AI 추천 실패, 로컬 추천으로 대신함. userId={}", user.getId());
+            return localGatheringRecommender.rank(user, candidates);
+        }
 
         if (recommendedIds == null || recommendedIds.isEmpty()) {
-            return getNormalGatheringPage(category, GatheringSort.LATEST, page, size);
+            return localRecommenderProps.isFallbackEnabled()
+                    ? localGatheringRecommender.rank(user, candidates)
+                    : recommendedIds;
         }
 
-        return buildRecommendedPage(recommendedIds, page, size);
+        if (localRecommenderProps.isShadowEnabled()) {
+            localGatheringRecommender.shadowCompare(
+                    user, candidates, recommendedIds, System.nanoTime() - startedNanos);
+        }
+
+        return recommendedIds;
+    }
+
+    // 최근 클릭/참여에 시간 감쇠를 건 점수 순. 점수가 쌓이기 전이면 인기순으로 대신한다
+    private Page<Gathering> getTrendingGatheringPage(Category category, int page, int size) {
+        List<Long> trendingIds =
+                gatheringTrendingIndex.topGatheringIds(trendingProps.getCandidateSize());
+
+        if (trendingIds.isEmpty()) {
+            return getNormalGatheringPage(category, GatheringSort.POPULAR, page, size);
+        }
+
+        return buildRankedPage(trendingIds, category, page, size);
+    }
+
+    // 같은 클러스터 유저들이 많이 참여한 모임. 갱신 때 저장해 둔 목록만 읽고 AI 서버는 부르지 않는다
+    private Page<Gathering> getPeerPopularGatheringPage(
+            Long userId, Category category, int page, int size) {
+
+        List<Long> peerPopularIds =
+                userId == null ? List.of() : clusterPopularityStore.findPopularGatheringIds(userId);
+
+        if (peerPopularIds.isEmpty()) {
+            return getNormalGatheringPage(category, GatheringSort.POPULAR, page, size);
+        }
+
+        return buildRankedPage(peerPopularIds, category, page, size);
     }
 
-    private List<Gathering> getRecommendationCandidates(Category category) {
+    // 최신 모임에 유저가 최근 참여한 모임과 함께 참여된 모임을 더해 AI 서버에도 협업 필터링 후보가 가도록 한다
+    private List<Gathering> getRecommendationCandidates(Long userId, Category category) {
+        List<Gathering> latest = getLatestCandidates(category);
+
+        Set<Long> latestIds = latest.stream().map(Gathering::getId).collect(Collectors.toSet());
+        List<Long> similarIds =
+                itemSimilarityIndex
+                        .similarToRecentJoins(userId, itemSimilarityProps.getCandidateSize())
+                        .stream()
+                        .filter(id -> !latestIds.contains(id))
+                        .toList();
+
+        if (similarIds.isEmpty()) {
+            return latest;
+        }
+
+        List<Gathering> similar =
+                gatheringRepository.findByIdIn(similarIds).stream()
+                        .filter(Gathering::isPublished)
+                        .filter(g -> g.getStatus() != GatheringStatus.FINISHED)
+                        .filter(g -> isInCategory(g, category))
+                        .toList();
+
+        return Stream.concat(latest.stream(), similar.stream()).toList();
+    }
+
+    private List<Gathering> getLatestCandidates(Category category) {
         if (category != null) {
-            return gatheringRepository.findTop50ByCategoryAndStatusNotOrderByCreatedAtDesc(
-                    category, GatheringStatus.FINISHED);
+            return gatheringRepository
+                    .findTop50ByCategoryAndStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                            category, GatheringStatus.FINISHED, ModerationStatus.PUBLISHED);
         }
 
-        return gatheringRepository.findTop50ByStatusNotOrderByCreatedAtDesc(
-                GatheringStatus.FINISHED);
+        return gatheringRepository.findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                GatheringStatus.FINISHED, ModerationStatus.PUBLISHED);
     }
 
     private String getSortedByForSpec(GatheringSort sortType) {
@@ -291,21 +513,30 @@ public class GatheringService {
             case POPULAR -> "participantCount,desc,id,desc";
             case LATEST -> "createdAt,desc,id,desc";
             case RECOMMEND -> "recommended,desc";
+            case TRENDING -> "trending,desc";
+            case PEER_POPULAR -> "peerPopular,desc";
         };
     }
 
-    private Page<Gathering> buildRecommendedPage(List<Long> recommendedIds, int page, int size) {
+    private Page<Gathering> buildRankedPage(
+            List<Long> rankedIds, Category category, int page, int size) {
 
         // 1) DB 조회
-        List<Gathering> found = gatheringRepository.findByIdIn(recommendedIds);
+        List<Gathering> found = gatheringRepository.findByIdIn(rankedIds);
 
         // 2) id -> entity map
         Map<Long, Gathering> byId =
                 found.stream().collect(Collectors.toMap(Gathering::getId, Function.identity()));
 
-        // 3) AI가 준 순서대로 재정렬 (삭제된 건 제외)
+        // 3) 받은 순서대로 재정렬 (삭제됐거나 검수를 통과하지 못했거나 끝난 모임, 다른 카테고리는 제외)
         List<Gathering> ordered =
-                recommendedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+                rankedIds.stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .filter(Gathering::isPublished)
+                        .filter(g -> g.getStatus() != GatheringStatus.FINISHED)
+                        .filter(g -> isInCategory(g, category))
+                        .toList();
 
         // 4) 페이지 슬라이스
         int totalElements = ordered.size();
@@ -318,6 +549,26 @@ public class GatheringService {
         return new PageImpl<>(content, pageable, totalElements);
     }
 
+    // 유사도 이웃 중 아직 열려 있는 공개 모임만 보여준다
+    private List<GatheringListItem> getAlsoJoinedGatherings(Long gatheringId) {
+        int size = itemSimilarityProps.getAlsoJoinedSize();
+        List<Long> neighborIds = itemSimilarityIndex.alsoJoined(gatheringId, size * 2);
+
+        if (neighborIds.isEmpty()) {
+            return List.of();
+        }
+
+        return buildRankedPage(neighborIds, null, 1, size).getContent().stream()
+                .map(g -> GatheringListItem.from(g, resolveGatheringImageUrl(g)))
+                .toList();
+    }
+
+    private boolean isInCategory(Gathering gathering, Category category) {
+        return category == null
+                || (gathering.getCategory() != null
+                        && category.getId().equals(gathering.getCategory().getId()));
+    }
+
     private String resolveGatheringImageUrl(Gathering g) {
         return resolveImageUrl(g.getGatheringImageObjectKey());
     }
@@ -343,7 +594,7 @@ public class GatheringService {
         Category category = null;
         if (categoryName != null) {
             category =
-                    categoryRepository
+                    categoryRegistry
                             .findByName(categoryName)
                             .orElseThrow(
                                     () ->
@@ -387,6 +638,23 @@ public class GatheringService {
         }
     }
 
+    private void validateGatheringVisible(Long userId, Gathering gathering) {
+        if (!gathering.isVisibleTo(userId)) {
+            throw new CustomException(GatheringErrorCode.GATHERING_NOT_FOUND);
+        }
+    }
+
+    private boolean hasTextContent(GatheringUpdateRequestDto gatheringUpdateRequestDto) {
+        boolean hasTitle =
+                gatheringUpdateRequestDto.getTitle() != null
+                        && !gatheringUpdateRequestDto.getTitle().isBlank();
+        boolean hasDescription =
+                gatheringUpdateRequestDto.getDescription() != null
+                        && !gatheringUpdateRequestDto.getDescription().isBlank();
+
+        return hasTitle || hasDescription;
+    }
+
     private void validateGatheringContentFromGatheringCreate(
             GatheringCreateRequestDto gatheringCreateRequestDto) {
         TextFilterRequestDto textFilterRequestDto =
@@ -400,14 +668,7 @@ public class GatheringService {
 
     private void validateGatheringContentFromGatheringUpdate(
             GatheringUpdateRequestDto gatheringUpdateRequestDto) {
-        boolean hasTitle =
-                gatheringUpdateRequestDto.getTitle() != null
-                        && !gatheringUpdateRequestDto.getTitle().isBlank();
-        boolean hasDescription =
-                gatheringUpdateRequestDto.getDescription() != null
-                        && !gatheringUpdateRequestDto.getDescription().isBlank();
-
-        if (!hasTitle && !hasDescription) {
+        if (!hasTextContent(gatheringUpdateRequestDto)) {
             return;
         }
 
@@ -439,4 +700,8 @@ public class GatheringService {
         }
         return gatheringPage;
     }
+
+    // 추천 후보를 읽은 읽기 트랜잭션 밖으로 들고 나오는 값. AI 실패 시 로컬 추천이 같은 후보를 쓴다
+    private record RecommendationInput(
+            User user, List<Gathering> candidates, RecommendationRequestDto request) {}
 }
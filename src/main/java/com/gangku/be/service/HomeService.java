@@ -4,14 +4,13 @@ import com.gangku.be.constant.gathering.GatheringSort;
 import com.gangku.be.dto.home.response.HomeResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class HomeService {
     private final GatheringService gatheringService;
 
-    @Transactional(readOnly = true)
+    // 섹션마다 짧은 읽기 트랜잭션을 따로 연다. 감싸 두면 추천 섹션의 AI 호출 동안 커넥션을 잡고 있게 된다
     public HomeResponseDto getHome(Long userId, int page, int size) {
         return HomeResponseDto.builder()
                 .recommended(
@@ -23,6 +22,9 @@ public class HomeService {
                 .popular(
                         gatheringService.getGatheringList(
                                 userId, null, page, size, GatheringSort.POPULAR.getSort()))
+                .peerPopular(
+                        gatheringService.getGatheringList(
+                                userId, null, page, size, GatheringSort.PEER_POPULAR.getSort()))
                 .build();
     }
 }
@@ -0,0 +1,169 @@
+package com.gangku.be.service;
+
+import com.gangku.be.config.moderation.ModerationProps;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.constant.moderation.ModerationTargetType;
+import com.gangku.be.domain.ModerationTask;
+import com.gangku.be.domain.User;
+import com.gangku.be.dto.ai.request.TextFilterRequestDto;
+import com.gangku.be.repository.GatheringRepository;
+import com.gangku.be.repository.ModerationTaskRepository;
+import com.gangku.be.repository.ReviewRepository;
+import com.gangku.be.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ModerationService {
+
+    private final ModerationTaskRepository moderationTaskRepository;
+    private final ReviewRepository reviewRepository;
+    private final GatheringRepository gatheringRepository;
+    private final UserRepository userRepository;
+
+    private final ModerationProps moderationProps;
+
+    public boolean isAsyncEnabled() {
+        return moderationProps.isAsyncEnabled();
+    }
+
+    // 호출한 쪽 트랜잭션에 함께 묶여서 콘텐츠 저장과 검수 요청이 같이 커밋된다
+    @Transactional
+    public void requestModeration(
+            ModerationTargetType targetType,
+            Long targetId,
+            TextFilterRequestDto textFilterRequestDto) {
+        moderationTaskRepository.save(
+                ModerationTask.create(targetType, targetId, textFilterRequestDto.getText()));
+    }
+
+    @Transactional
+    public List<ModerationTask> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(moderationProps.getClaimTimeoutSeconds());
+
+        List<Long> claimableIds =
+                moderationTaskRepository.findClaimableIds(
+                        staleBefore, now, PageRequest.of(0, moderationProps.getBatchSize()));
+
+        if (claimableIds.isEmpty()) {
+            return List.of();
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        moderationTaskRepository.claim(claimableIds, claimToken, now, staleBefore);
+
+        return moderationTaskRepository.findByClaimToken(claimToken);
+    }
+
+    @Transactional
+    public void applyResult(ModerationTask task, boolean allowed) {
+        // 같은 대상에 더 최근 검수 요청이 있으면 최신 내용 기준으로 판단하도록 이 결과는 버린다
+        boolean superseded =
+                moderationTaskRepository.existsByTargetTypeAndTargetIdAndIdGreaterThan(
+                        task.getTargetType(), task.getTargetId(), task.getId());
+
+        if (!superseded) {
+            ModerationStatus moderationStatus =
+                    allowed ? ModerationStatus.PUBLISHED : ModerationStatus.REJECTED;
+
+            switch (task.getTargetType()) {
+                case REVIEW ->
+                        reviewRepository
+                                .findById(task.getTargetId())
+                                .ifPresent(
+                                        review -> review.changeModerationStatus(moderationStatus));
+                case GATHERING ->
+                        gatheringRepository
+                                .findById(task.getTargetId())
+                                .ifPresent(
+                                        gathering ->
+                                                gathering.changeModerationStatus(moderationStatus));
+                case NICKNAME ->
+                        userRepository
+                                .findById(task.getTargetId())
+                                .ifPresent(user -> applyNicknameResult(user, allowed));
+            }
+
+            log.info(
+                    "검수 완료. targetType={}, targetId={}, status={}",
+                    task.getTargetType(),
+                    task.getTargetId(),
+                    moderationStatus);
+        }
+
+        moderationTaskRepository.deleteById(task.getId());
+    }
+
+    // 재시도 한도를 다 쓴 작업은 검수를 통과하지 못한 것으로 보고 반려한다 (닉네임은 변경 요청을 버린다)
+    @Transactional
+    public void rejectExhausted(ModerationTask task) {
+        log.warn(
+                "검수 재시도 한도 초과로 반려. taskId={}, targetType={}, targetId={}, attempts={}",
+                task.getId(),
+                task.getTargetType(),
+                task.getTargetId(),
+                task.getAttempts());
+
+        applyResult(task, false);
+    }
+
+    // 바로 다시 잡으면 같은 이유로 또 실패하기 쉬우므로 실패 횟수만큼 늘린 뒤에 재시도한다
+    @Transactional
+    public void releaseClaim(ModerationTask task) {
+        moderationTaskRepository.releaseClaim(
+                task.getId(), LocalDateTime.now().plus(retryDelay(task.getAttempts())));
+    }
+
+    // AI 서버 장애는 콘텐츠 판정이 아니므로 반려하지 않고 검수 대기로 둔 채 미룬다
+    @Transactional
+    public void deferForOutage(ModerationTask task) {
+        int deferrals = task.getDeferrals() + 1;
+
+        moderationTaskRepository.deferForOutage(
+                task.getId(), LocalDateTime.now().plus(retryDelay(deferrals)));
+
+        if (deferrals == moderationProps.getOutageAlertDeferrals()) {
+            log.error(
+                    "AI 서버 장애로 검수가 계속 밀리는 중. taskId={}, targetType={}, targetId={},"
+                            + " deferrals={}",
+                    task.getId(),
+                    task.getTargetType(),
+                    task.getTargetId(),
+                    deferrals);
+        }
+    }
+
+    // 첫 실패는 기본 대기, 이후 실패마다 두 배 (상한까지)
+    private Duration retryDelay(int failures) {
+        int exponent = Math.min(Math.max(failures - 1, 0), 20);
+        long delaySeconds = moderationProps.getRetryBackoffSeconds() << exponent;
+
+        return Duration.ofSeconds(
+                Math.min(delaySeconds, moderationProps.getMaxRetryBackoffSeconds()));
+    }
+
+    private void applyNicknameResult(User user, boolean allowed) {
+        String pendingNickname = user.getPendingNickname();
+
+        if (pendingNickname == null) {
+            return;
+        }
+
+        // 검수 대기 중에 다른 사용자가 같은 닉네임을 선점했을 수 있다
+        if (allowed && !userRepository.existsByNicknameAndIdNot(pendingNickname, user.getId())) {
+            user.applyPendingNickname();
+        } else {
+            user.discardPendingNickname();
+        }
+    }
+}
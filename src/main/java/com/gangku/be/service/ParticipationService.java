@@ -15,6 +15,7 @@ import com.gangku.be.model.participation.ParticipantsPreview;
 import com.gangku.be.repository.GatheringRepository;
 import com.gangku.be.repository.ParticipationRepository;
 import com.gangku.be.repository.UserRepository;
+import com.gangku.be.util.action.UserActionRecorder;
 import com.gangku.be.util.object.FileUrlResolver;
 import lombok.*;
 import org.springframework.data.domain.Page;
@@ -32,11 +33,14 @@ public class ParticipationService {
     private final GatheringRepository gatheringRepository;
     private final UserRepository userRepository;
     private final FileUrlResolver fileUrlResolver;
+    private final UserActionRecorder userActionRecorder;
 
     @Transactional
     public ParticipationResponseDto joinParticipation(Long gatheringId, Long userId) {
 
         Gathering gathering = findGatheringById(gatheringId);
+        validateGatheringPublished(gathering);
+
         User user = findUserById(userId);
 
         validateConflict(user, gathering);
@@ -48,6 +52,8 @@ public class ParticipationService {
 
         participationRepository.save(participation);
 
+        userActionRecorder.recordJoin(userId, gatheringId);
+
         return ParticipationResponseDto.from(participation, gathering, user);
     }
 
@@ -117,6 +123,13 @@ public class ParticipationService {
         }
     }
 
+    // 검수를 통과하지 못한 모임에는 참여할 수 없다
+    private void validateGatheringPublished(Gathering gathering) {
+        if (!gathering.isPublished()) {
+            throw new CustomException(GatheringErrorCode.GATHERING_NOT_FOUND);
+        }
+    }
+
     private void validateConflict(User user, Gathering gathering) {
         if (participationRepository.existsByUserAndGathering(user, gathering)) {
             throw new CustomException(ParticipationErrorCode.ALREADY_JOINED);
@@ -0,0 +1,237 @@
+package com.gangku.be.service;
+
+import com.gangku.be.config.ai.ItemSimilarityProps;
+import com.gangku.be.config.ai.RecommendationPrecomputeProps;
+import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.dto.ai.request.RecommendationRequestDto;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.ai.ClusteringUserRow;
+import com.gangku.be.model.ai.RecommendationGatheringItem;
+import com.gangku.be.repository.GatheringRepository;
+import com.gangku.be.repository.UserRepository;
+import com.gangku.be.util.ai.ItemSimilarityIndex;
+import com.gangku.be.util.ai.RecommendationStore;
+import com.gangku.be.util.category.CategoryRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 최근 활동한 유저의 추천 목록을 AI 서버에서 미리 받아 Redis 에 저장한다.
+ *
+ * <p>유저는 키셋 페이지로 읽고, 한 페이지의 요청을 고정 크기 스레드 풀로 보내 AI 서버로 가는 동시 요청 수를 설정값 이하로 묶는다. 한 페이지가 다
+ * 끝나야 다음 페이지를 읽으므로 메모리에 쌓이는 요청도 한 페이지를 넘지 않는다. 실패한 유저는 건너뛰고 읽을 때 실시간으로 추천한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationPrecomputeService {
+
+    private static final int USER_BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final GatheringRepository gatheringRepository;
+    private final AiApiClient aiApiClient;
+    private final RecommendationStore recommendationStore;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionOperations transactionOperations;
+    private final RecommendationPrecomputeProps recommendationPrecomputeProps;
+    private final ItemSimilarityIndex itemSimilarityIndex;
+    private final ItemSimilarityProps itemSimilarityProps;
+
+    // 추천 목록을 저장한 유저수를 돌려준다
+    public int precomputeRecommendations() {
+        if (!recommendationPrecomputeProps.isEnabled()) {
+            return 0;
+        }
+
+        List<RecommendationGatheringItem> candidates =
+                transactionOperations.execute(status -> findCandidateItems());
+
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime since =
+                LocalDateTime.now().minusDays(recommendationPrecomputeProps.getActiveDays());
+        Duration timeToLive = Duration.ofHours(recommendationPrecomputeProps.getTtlHours());
+
+        AtomicInteger savedCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+        Map<Long, RecommendationGatheringItem> similarItems = new HashMap<>();
+        long lastUserId = 0L;
+        int userCount = 0;
+        List<ClusteringUserRow> rows;
+
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, recommendationPrecomputeProps.getConcurrency()));
+
+        try {
+            do {
+                rows =
+                        userRepository.findActiveUsersAfter(
+                                lastUserId, since, PageRequest.of(0, USER_BATCH_SIZE));
+
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                Map<Long, List<Long>> similarIdsByUser = findSimilarIds(rows, candidates);
+                loadSimilarItems(similarIdsByUser, similarItems);
+
+                List<CompletableFuture<Void>> futures = new ArrayList<>(rows.size());
+
+                for (ClusteringUserRow row : rows) {
+                    RecommendationRequestDto request =
+                            RecommendationRequestDto.builder()
+                                    .userId(row.userId())
+                                    .preferredCategories(
+                                            categoryRegistry.namesOf(row.preferredCategoryMask()))
+                                    .age(row.age())
+                                    .enrollNumber(row.enrollNumber())
+                                    .gatheringItems(
+                                            withSimilar(
+                                                    candidates,
+                                                    similarIdsByUser.get(row.userId()),
+                                                    similarItems))
+                                    .build();
+
+                    futures.add(
+                            CompletableFuture.runAsync(
+                                    () -> {
+                                        if (precompute(request, timeToLive)) {
+                                            savedCount.incrementAndGet();
+                                        } else {
+                                            failedCount.incrementAndGet();
+                                        }
+                                    },
+                                    executor));
+                }
+
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+                lastUserId = rows.get(rows.size() - 1).userId();
+                userCount += rows.size();
+            } while (rows.size() == USER_BATCH_SIZE);
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info(
+                "추천 미리 계산 - 활동 유저수: {}, 저장: {}, 실패/빈 결과: {}, 후보 모임수: {}",
+                userCount,
+                savedCount.get(),
+                failedCount.get(),
+                candidates.size());
+
+        return savedCount.get();
+    }
+
+    private boolean precompute(RecommendationRequestDto request, Duration timeToLive) {
+        try {
+            List<Long> recommendedIds = aiApiClient.recommend(request).getGatheringsId();
+
+            if (recommendedIds == null || recommendedIds.isEmpty()) {
+                return false;
+            }
+
+            recommendationStore.save(request.getUserId(), recommendedIds, timeToLive);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("추천 미리 계산 실패. userId={}", request.getUserId(), e);
+            return false;
+        }
+    }
+
+    // 유저마다 최근 참여 모임과 함께 참여된 모임 중 공통 후보에 없는 것만 고른다
+    private Map<Long, List<Long>> findSimilarIds(
+            List<ClusteringUserRow> rows, List<RecommendationGatheringItem> candidates) {
+        Set<Long> candidateIds =
+                candidates.stream()
+                        .map(RecommendationGatheringItem::gatheringId)
+                        .collect(Collectors.toSet());
+        Map<Long, List<Long>> similarIdsByUser = new HashMap<>();
+
+        for (ClusteringUserRow row : rows) {
+            List<Long> similarIds =
+                    itemSimilarityIndex
+                            .similarToRecentJoins(
+                                    row.userId(), itemSimilarityProps.getCandidateSize())
+                            .stream()
+                            .filter(id -> !candidateIds.contains(id))
+                            .toList();
+            similarIdsByUser.put(row.userId(), similarIds);
+        }
+
+        return similarIdsByUser;
+    }
+
+    // 아직 읽지 않은 유사 모임만 한 번에 읽어 실행 동안 재사용한다. 끝났거나 검수 중인 모임은 후보에서 뺀다
+    private void loadSimilarItems(
+            Map<Long, List<Long>> similarIdsByUser,
+            Map<Long, RecommendationGatheringItem> similarItems) {
+        Set<Long> missingIds =
+                similarIdsByUser.values().stream()
+                        .flatMap(List::stream)
+                        .filter(id -> !similarItems.containsKey(id))
+                        .collect(Collectors.toSet());
+
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        List<RecommendationGatheringItem> loaded =
+                transactionOperations.execute(
+                        status ->
+                                gatheringRepository.findByIdIn(missingIds).stream()
+                                        .filter(Gathering::isPublished)
+                                        .filter(g -> g.getStatus() != GatheringStatus.FINISHED)
+                                        .map(RecommendationGatheringItem::from)
+                                        .toList());
+
+        loaded.forEach(item -> similarItems.put(item.gatheringId(), item));
+    }
+
+    private static List<RecommendationGatheringItem> withSimilar(
+            List<RecommendationGatheringItem> candidates,
+            List<Long> similarIds,
+            Map<Long, RecommendationGatheringItem> similarItems) {
+        if (similarIds == null || similarIds.isEmpty()) {
+            return candidates;
+        }
+
+        return Stream.concat(
+                        candidates.stream(),
+                        similarIds.stream().map(similarItems::get).filter(Objects::nonNull))
+                .toList();
+    }
+
+    // 읽는 쪽의 카테고리 없는 추천과 같은 후보를 쓴다. 지연 로딩 연관을 트랜잭션 안에서 다 읽어 둔다
+    private List<RecommendationGatheringItem> findCandidateItems() {
+        return gatheringRepository
+                .findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                        GatheringStatus.FINISHED, ModerationStatus.PUBLISHED)
+                .stream()
+                .map(RecommendationGatheringItem::from)
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.gangku.be.service;
 
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.constant.moderation.ModerationTargetType;
 import com.gangku.be.domain.Gathering;
 import com.gangku.be.domain.Review;
 import com.gangku.be.domain.User;
@@ -19,7 +21,7 @@ import com.gangku.be.repository.UserRepository;
 import com.gangku.be.util.ai.AiTextFilterMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 @RequiredArgsConstructor
@@ -32,8 +34,10 @@ public class ReviewService {
 
     private final AiApiClient aiApiClient;
     private final AiTextFilterMapper aiTextFilterMapper;
+    private final ModerationService moderationService;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
+    // 조회와 AI 검수는 트랜잭션 밖에서 끝내고, 저장만 짧은 쓰기 트랜잭션으로 묶는다
     public ReviewCreateResponseDto createReview(
             Long reviewerId, Long revieweeId, ReviewCreateRequestDto reviewCreateRequestDto) {
 
@@ -48,7 +52,11 @@ public class ReviewService {
 
         validateNotDuplicatedReview(gatheringId, reviewerId, revieweeId);
 
-        validateReviewCommentAllowed(reviewCreateRequestDto);
+        boolean asyncModeration = moderationService.isAsyncEnabled();
+
+        if (!asyncModeration) {
+            validateReviewCommentAllowed(reviewCreateRequestDto);
+        }
 
         Review review =
                 Review.create(
@@ -57,7 +65,23 @@ public class ReviewService {
                         gathering,
                         reviewCreateRequestDto.getRating(),
                         reviewCreateRequestDto.getComment());
-        reviewRepository.save(review);
+
+        // 비동기 검수 모드에서는 검수가 끝날 때까지 작성자에게만 보인다
+        if (asyncModeration) {
+            review.changeModerationStatus(ModerationStatus.PENDING_MODERATION);
+        }
+
+        transactionOperations.executeWithoutResult(
+                status -> {
+                    reviewRepository.save(review);
+
+                    if (asyncModeration) {
+                        moderationService.requestModeration(
+                                ModerationTargetType.REVIEW,
+                                review.getId(),
+                                aiTextFilterMapper.fromReviewCreate(reviewCreateRequestDto));
+                    }
+                });
 
         return ReviewCreateResponseDto.from(review);
     }
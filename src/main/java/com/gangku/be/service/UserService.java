@@ -1,5 +1,6 @@
 package com.gangku.be.service;
 
+import com.gangku.be.constant.moderation.ModerationTargetType;
 import com.gangku.be.constant.user.UserReviewSort;
 import com.gangku.be.domain.*;
 import com.gangku.be.domain.Category;
@@ -28,9 +29,12 @@ import com.gangku.be.repository.PreferredCategoryRepository;
 import com.gangku.be.repository.ReviewRepository;
 import com.gangku.be.repository.UserRepository;
 import com.gangku.be.util.ai.AiTextFilterMapper;
+import com.gangku.be.util.category.CategoryRegistry;
 import com.gangku.be.util.object.FileUrlResolver;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -38,7 +42,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 @RequiredArgsConstructor
@@ -49,6 +55,7 @@ public class UserService {
     private final CategoryRepository categoryRepository;
     private final ParticipationRepository participationRepository;
     private final PreferredCategoryRepository preferredCategoryRepository;
+    private final CategoryRegistry categoryRegistry;
 
     private final FileUrlResolver fileUrlResolver;
     private final StringRedisTemplate stringRedisTemplate;
@@ -57,7 +64,11 @@ public class UserService {
 
     private final AiApiClient aiApiClient;
     private final AiTextFilterMapper aiTextFilterMapper;
+    private final ModerationService moderationService;
+    private final TransactionOperations transactionOperations;
 
+    // 검증과 AI 닉네임 검수는 트랜잭션 밖에서 끝내고, 저장만 짧은 쓰기 트랜잭션으로 묶는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User registerUser(SignUpRequestDto signUpRequestDto, String sessionId) {
 
         validateEmailVerification(sessionId, signUpRequestDto.getEmail());
@@ -81,13 +92,18 @@ public class UserService {
                         signUpRequestDto.getEnrollNumber(),
                         signUpRequestDto.getProfileImageObjectKey());
 
-        userRepository.save(newUser);
+        transactionOperations.executeWithoutResult(
+                status -> {
+                    userRepository.save(newUser);
 
-        stringRedisTemplate.delete("auth:signup:session:" + sessionId);
+                    if (signUpRequestDto.getPreferredCategories() != null) {
+                        assignPreferredCategories(
+                                signUpRequestDto.getPreferredCategories(), newUser);
+                    }
+                });
 
-        if (signUpRequestDto.getPreferredCategories() != null) {
-            assignPreferredCategories(signUpRequestDto.getPreferredCategories(), newUser);
-        }
+        // 커밋이 끝난 뒤에 가입 세션을 지워야 저장 실패 시 같은 세션으로 다시 시도할 수 있다
+        stringRedisTemplate.delete("auth:signup:session:" + sessionId);
 
         return newUser;
     }
@@ -119,9 +135,7 @@ public class UserService {
         User user = findUserById(userId);
         String profileImageUrl = resolveImageUrl(user.getProfileImageObjectKey());
         List<String> preferredCategories =
-                user.getPreferredCategories().stream()
-                        .map(pc -> pc.getCategory().getName())
-                        .toList();
+                categoryRegistry.namesOf(user.getPreferredCategoryMask());
 
         Long reviewCount = reviewRepository.countByRevieweeId(userId);
 
@@ -157,7 +171,8 @@ public class UserService {
                 reviewsPreview);
     }
 
-    @Transactional
+    // 권한 확인과 AI 닉네임 검수는 트랜잭션 밖에서 하고, 쓰기 트랜잭션에서 다시 읽어 반영한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserProfileUpdateResponseDto updateUserProfile(
             Long targetUserId, Long currentUserId, UserProfileUpdateRequestDto requestDto) {
 
@@ -165,24 +180,42 @@ public class UserService {
 
         validateUserProfileOwner(currentUserId, user);
 
-        validateNickNameAllowedFromProfileUpdate(requestDto);
+        boolean asyncNicknameModeration =
+                moderationService.isAsyncEnabled() && hasNickname(requestDto);
 
-        updateProfileFields(user, requestDto);
-
-        if (requestDto.getPreferredCategories() != null) {
-            replacePreferredCategories(user, requestDto.getPreferredCategories());
+        if (!asyncNicknameModeration) {
+            validateNickNameAllowedFromProfileUpdate(requestDto);
         }
 
-        User savedUser = userRepository.save(user);
+        return transactionOperations.execute(
+                status -> {
+                    User managedUser = findUserById(targetUserId);
 
-        String profileImageUrl = resolveImageUrl(savedUser.getProfileImageObjectKey());
+                    updateProfileFields(managedUser, requestDto, asyncNicknameModeration);
 
-        List<String> preferredCategories =
-                savedUser.getPreferredCategories().stream()
-                        .map(pc -> pc.getCategory().getName())
-                        .toList();
+                    if (requestDto.getPreferredCategories() != null) {
+                        replacePreferredCategories(
+                                managedUser, requestDto.getPreferredCategories());
+                    }
+
+                    User savedUser = userRepository.save(managedUser);
+
+                    if (asyncNicknameModeration) {
+                        moderationService.requestModeration(
+                                ModerationTargetType.NICKNAME,
+                                savedUser.getId(),
+                                aiTextFilterMapper.fromProfileUpdate(requestDto));
+                    }
 
-        return UserProfileUpdateResponseDto.from(savedUser, profileImageUrl, preferredCategories);
+                    String profileImageUrl =
+                            resolveImageUrl(savedUser.getProfileImageObjectKey());
+
+                    List<String> preferredCategories =
+                            categoryRegistry.namesOf(savedUser.getPreferredCategoryMask());
+
+                    return UserProfileUpdateResponseDto.from(
+                            savedUser, profileImageUrl, preferredCategories);
+                });
     }
 
     @Transactional
@@ -247,15 +280,24 @@ public class UserService {
         return fileUrlResolver.toPublicUrl(key);
     }
 
-    private void updateProfileFields(User user, UserProfileUpdateRequestDto requestDto) {
+    private void updateProfileFields(
+            User user, UserProfileUpdateRequestDto requestDto, boolean asyncNicknameModeration) {
         if (requestDto.getNickname() != null
                 && userRepository.existsByNicknameAndIdNot(
                         requestDto.getNickname(), user.getId())) {
             throw new CustomException(UserErrorCode.NICKNAME_ALREADY_EXISTS);
         }
+
+        // 비동기 검수 모드에서는 검수가 끝날 때까지 기존 닉네임을 유지한다
+        String nickname = requestDto.getNickname();
+        if (asyncNicknameModeration) {
+            user.requestNicknameChange(nickname.trim());
+            nickname = null;
+        }
+
         user.updateProfile(
                 requestDto.getProfileImageObjectKey(),
-                requestDto.getNickname(),
+                nickname,
                 requestDto.getAge(),
                 requestDto.getGender(),
                 requestDto.getEnrollNumber());
@@ -269,10 +311,27 @@ public class UserService {
         return Math.round(value * 10) / 10.0;
     }
 
+    // 전부 지우고 다시 넣지 않고, 빠진 카테고리 행만 지우고 새로 생긴 카테고리 행만 넣는다
     private void replacePreferredCategories(User user, List<String> preferredCategories) {
-        user.getPreferredCategories().clear();
-        userRepository.flush();
-        assignPreferredCategories(preferredCategories, user);
+        List<Category> categories = findCategoriesByNames(preferredCategories);
+
+        user.retainPreferredCategories(
+                categories.stream().map(Category::getId).collect(Collectors.toSet()));
+
+        Set<Long> keptCategoryIds =
+                user.getPreferredCategories().stream()
+                        .map(pc -> pc.getCategory().getId())
+                        .collect(Collectors.toSet());
+
+        List<PreferredCategory> addedCategories =
+                categories.stream()
+                        .filter(category -> !keptCategoryIds.contains(category.getId()))
+                        .map(category -> newPreferredCategory(user, category))
+                        .toList();
+
+        if (!addedCategories.isEmpty()) {
+            preferredCategoryRepository.saveAll(addedCategories);
+        }
     }
 
     /** --- 검증 및 반환 헬퍼 메서드 --- */
@@ -314,30 +373,40 @@ public class UserService {
 
     private void assignPreferredCategories(List<String> preferredCategories, User newUser) {
 
-        if (preferredCategories != null && preferredCategories.isEmpty()) {
+        List<Category> categories = findCategoriesByNames(preferredCategories);
+
+        if (categories.isEmpty()) {
             return;
         }
 
-        List<String> distinctCategories = preferredCategories.stream().distinct().toList();
-
-        List<Category> categories = categoryRepository.findByNameIn(distinctCategories);
-
         List<PreferredCategory> preferredCategoryList =
                 categories.stream()
-                        .map(
-                                category -> {
-                                    PreferredCategory preferredCategory = new PreferredCategory();
-                                    preferredCategory.assignCategory(category);
-
-                                    newUser.addPreferredCategory(preferredCategory);
-
-                                    return preferredCategory;
-                                })
+                        .map(category -> newPreferredCategory(newUser, category))
                         .toList();
 
         preferredCategoryRepository.saveAll(preferredCategoryList);
     }
 
+    private List<Category> findCategoriesByNames(List<String> preferredCategories) {
+        if (preferredCategories.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> distinctCategories = preferredCategories.stream().distinct().toList();
+
+        return categoryRepository.findByNameIn(distinctCategories);
+    }
+
+    // 유저 쪽 목록에 붙이면서 선호 카테고리 비트마스크도 함께 맞춰진다
+    private PreferredCategory newPreferredCategory(User user, Category category) {
+        PreferredCategory preferredCategory = new PreferredCategory();
+        preferredCategory.assignCategory(category);
+
+        user.addPreferredCategory(preferredCategory);
+
+        return preferredCategory;
+    }
+
     private User findUserById(Long userId) {
         return userRepository
                 .findById(userId)
@@ -372,10 +441,14 @@ public class UserService {
         user.changeReviewPublic(reviewSetting);
     }
 
+    private boolean hasNickname(UserProfileUpdateRequestDto userProfileUpdateRequestDto) {
+        return userProfileUpdateRequestDto.getNickname() != null
+                && !userProfileUpdateRequestDto.getNickname().isBlank();
+    }
+
     private void validateNickNameAllowedFromProfileUpdate(
             UserProfileUpdateRequestDto userProfileUpdateRequestDto) {
-        if (userProfileUpdateRequestDto.getNickname() != null
-                && !userProfileUpdateRequestDto.getNickname().isBlank()) {
+        if (hasNickname(userProfileUpdateRequestDto)) {
             TextFilterRequestDto textFilterRequestDto =
                     aiTextFilterMapper.fromProfileUpdate(userProfileUpdateRequestDto);
             TextFilterResponseDto textFilterResponseDto =
@@ -0,0 +1,80 @@
+package com.gangku.be.util.action;
+
+import com.gangku.be.model.action.EngagementDelta;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 집계 버킷에 클릭/참여 수를 더한다. 버킷이 없으면 만든다.
+ *
+ * <p>UPDATE 후 INSERT 로 나눠 쓰면 두 노드가 같은 빈 버킷을 동시에 넣을 때 MySQL 갭 락끼리 교착이 생기므로, 한 문장짜리
+ * upsert(MySQL 은 ON DUPLICATE KEY UPDATE, H2 는 MERGE)를 쓴다. 호출하는 쪽의 트랜잭션에 참여한다.
+ */
+@Component
+public class EngagementRollupStore {
+
+    private static final String MYSQL_UPSERT_SQL =
+            """
+        INSERT INTO gathering_engagement_rollup
+            (gathering_id, granularity, bucket_start, clicks, joins)
+        VALUES (?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE clicks = clicks + ?, joins = joins + ?
+    """;
+
+    private static final String H2_UPSERT_SQL =
+            """
+        MERGE INTO gathering_engagement_rollup r
+        USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(10)), CAST(? AS TIMESTAMP),
+                       CAST(? AS BIGINT), CAST(? AS BIGINT)))
+            AS d (gathering_id, granularity, bucket_start, clicks, joins)
+        ON r.gathering_id = d.gathering_id
+            AND r.granularity = d.granularity
+            AND r.bucket_start = d.bucket_start
+        WHEN MATCHED THEN UPDATE SET clicks = r.clicks + ?, joins = r.joins + ?
+        WHEN NOT MATCHED THEN INSERT (gathering_id, granularity, bucket_start, clicks, joins)
+            VALUES (d.gathering_id, d.granularity, d.bucket_start, d.clicks, d.joins)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public EngagementRollupStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = upsertSql(jdbcTemplate);
+    }
+
+    public void add(List<EngagementDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                upsertSql,
+                deltas,
+                deltas.size(),
+                (ps, delta) -> {
+                    ps.setLong(1, delta.gatheringId());
+                    ps.setString(2, delta.granularity().name());
+                    ps.setTimestamp(3, Timestamp.valueOf(delta.bucketStart()));
+                    ps.setLong(4, delta.clicks());
+                    ps.setLong(5, delta.joins());
+                    ps.setLong(6, delta.clicks());
+                    ps.setLong(7, delta.joins());
+                });
+    }
+
+    private static String upsertSql(JdbcTemplate jdbcTemplate) {
+        String productName =
+                jdbcTemplate.execute(
+                        (ConnectionCallback<String>)
+                                connection -> connection.getMetaData().getDatabaseProductName());
+
+        return DatabaseDriver.fromProductName(productName) == DatabaseDriver.H2
+                ? H2_UPSERT_SQL
+                : MYSQL_UPSERT_SQL;
+    }
+}
@@ -0,0 +1,204 @@
+package com.gangku.be.util.action;
+
+import com.gangku.be.config.action.TrendingProps;
+import com.gangku.be.constant.action.RollupGranularity;
+import com.gangku.be.constant.action.UserAction;
+import com.gangku.be.domain.GatheringEngagementRollup;
+import com.gangku.be.model.action.UserActionEvent;
+import com.gangku.be.repository.GatheringEngagementRollupRepository;
+import com.gangku.be.util.scheduler.JobLeaseLock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 감쇠 트렌딩 점수를 Redis ZSET 에 증분으로 유지한다.
+ *
+ * <p>점수는 {@code ln(Σ weight · e^(λ·(t - EPOCH)))} 로 저장한다. 모든 점수가 같은 {@code e^(-λ·now)} 만큼 감쇠하므로 순서는
+ * 그대로이고, 전체를 주기적으로 다시 계산하지 않아도 ZREVRANGE 한 번(O(log n))으로 현재 순위를 읽을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatheringTrendingIndex {
+
+    private static final String TRENDING_KEY = "gathering:trending";
+    private static final String TRENDING_REBUILD_KEY = "gathering:trending:rebuild";
+    private static final String REBUILD_LOCK_KEY = "trending-rebuild";
+    private static final Duration REBUILD_LOCK_DURATION = Duration.ofMinutes(1);
+
+    // 점수가 지수적으로 커지지 않도록 시간 원점을 고정해 둔다
+    private static final long EPOCH_SECONDS =
+            LocalDateTime.of(2025, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    // 기여도가 클릭 0.01 번보다 작아진 모임은 ZSET 에서 뺀다
+    private static final double PRUNE_LOG_WEIGHT = Math.log(0.01);
+
+    // log(e^a + e^b) 를 넘치지 않게 더한다
+    private static final String REDIS_LOG_ADD_SCRIPT =
+            """
+      local added = tonumber(ARGV[2])
+      local current = redis.call('ZSCORE', KEYS[1], ARGV[1])
+      if current then
+        current = tonumber(current)
+        local high = math.max(current, added)
+        local low = math.min(current, added)
+        added = high + math.log(1 + math.exp(low - high))
+      end
+      redis.call('ZADD', KEYS[1], added, ARGV[1])
+      return 1
+    """;
+
+    private static final DefaultRedisScript<Long> LOG_ADD_SCRIPT =
+            new DefaultRedisScript<>(REDIS_LOG_ADD_SCRIPT, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final GatheringEngagementRollupRepository engagementRollupRepository;
+    private final JobLeaseLock jobLeaseLock;
+    private final TrendingProps trendingProps;
+
+    // Redis 장애가 로그 저장을 실패시키지 않도록 예외는 삼킨다
+    public void add(List<UserActionEvent> events) {
+        try {
+            Map<Long, Double> logScores = new HashMap<>();
+
+            for (UserActionEvent event : events) {
+                double logScore = logScore(event.status(), event.occurredAt(), 1);
+                logScores.merge(event.gatheringId(), logScore, GatheringTrendingIndex::logAdd);
+            }
+
+            logScores.forEach(
+                    (gatheringId, logScore) -> {
+                        if (Double.isFinite(logScore)) {
+                            logAdd(TRENDING_KEY, gatheringId, logScore);
+                        }
+                    });
+            prune();
+        } catch (RuntimeException e) {
+            log.warn("트렌딩 점수 갱신 실패. message={}", e.getMessage());
+        }
+    }
+
+    // 점수 순서대로 모임 id 를 돌려준다. 키가 비어 있으면 집계 테이블에서 다시 쌓는다.
+    // Redis 장애면 빈 목록을 돌려주어 호출한 쪽이 인기순으로 대신하게 한다
+    public List<Long> topGatheringIds(int limit) {
+        try {
+            List<Long> ids = readTop(limit);
+
+            if (ids.isEmpty() && rebuildFromRollup()) {
+                ids = readTop(limit);
+            }
+
+            return ids;
+        } catch (RuntimeException e) {
+            log.warn("트렌딩 순위 조회 실패. message={}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<Long> readTop(int limit) {
+        Set<String> members =
+                stringRedisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, limit - 1);
+
+        if (members == null) {
+            return List.of();
+        }
+
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    // 여러 노드가 동시에 다시 쌓지 않도록 락을 잡고, 잡은 뒤 1분 동안은 다시 시도하지 않는다
+    private boolean rebuildFromRollup() {
+        Optional<String> token = jobLeaseLock.tryAcquire(REBUILD_LOCK_KEY, REBUILD_LOCK_DURATION);
+
+        if (token.isEmpty()) {
+            return false;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<GatheringEngagementRollup> buckets =
+                    engagementRollupRepository.findBuckets(
+                            RollupGranularity.HOUR,
+                            now.minusDays(trendingProps.getRebuildLookbackDays()),
+                            now.plusHours(1));
+
+            if (buckets.isEmpty()) {
+                return false;
+            }
+
+            stringRedisTemplate.delete(TRENDING_REBUILD_KEY);
+
+            for (GatheringEngagementRollup bucket : buckets) {
+                double logScore = bucketLogScore(bucket);
+                if (Double.isFinite(logScore)) {
+                    logAdd(TRENDING_REBUILD_KEY, bucket.getGatheringId(), logScore);
+                }
+            }
+
+            stringRedisTemplate.rename(TRENDING_REBUILD_KEY, TRENDING_KEY);
+            log.info("트렌딩 점수 재구성 - 집계 버킷 수: {}", buckets.size());
+            return true;
+        } finally {
+            jobLeaseLock.release(REBUILD_LOCK_KEY, token.get(), REBUILD_LOCK_DURATION);
+        }
+    }
+
+    private double bucketLogScore(GatheringEngagementRollup bucket) {
+        double clickLogScore =
+                logScore(UserAction.CLICK, bucket.getBucketStart(), bucket.getClicks());
+        double joinLogScore = logScore(UserAction.JOIN, bucket.getBucketStart(), bucket.getJoins());
+        return logAdd(clickLogScore, joinLogScore);
+    }
+
+    private void prune() {
+        double floor = decayExponent(LocalDateTime.now()) + PRUNE_LOG_WEIGHT;
+        stringRedisTemplate
+                .opsForZSet()
+                .removeRangeByScore(TRENDING_KEY, Double.NEGATIVE_INFINITY, floor);
+    }
+
+    private void logAdd(String key, Long gatheringId, double logScore) {
+        stringRedisTemplate.execute(
+                LOG_ADD_SCRIPT,
+                List.of(key),
+                String.valueOf(gatheringId),
+                String.valueOf(logScore));
+    }
+
+    // ln(weight · count) + λ·(t - EPOCH). count 가 0 이면 -∞
+    private double logScore(UserAction action, LocalDateTime occurredAt, long count) {
+        double weight =
+                action == UserAction.JOIN
+                        ? trendingProps.getJoinWeight()
+                        : trendingProps.getClickWeight();
+        return Math.log(weight * count) + decayExponent(occurredAt);
+    }
+
+    private double decayExponent(LocalDateTime time) {
+        double halfLifeSeconds = trendingProps.getHalfLifeHours() * 3600;
+        long elapsedSeconds = time.toEpochSecond(ZoneOffset.UTC) - EPOCH_SECONDS;
+        return Math.log(2) / halfLifeSeconds * elapsedSeconds;
+    }
+
+    private static double logAdd(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) {
+            return b;
+        }
+        if (b == Double.NEGATIVE_INFINITY) {
+            return a;
+        }
+        double high = Math.max(a, b);
+        return high + Math.log1p(Math.exp(Math.min(a, b) - high));
+    }
+}
@@ -0,0 +1,91 @@
+package com.gangku.be.util.action;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없이 동작하는 고정 크기 링 버퍼 (Vyukov bounded queue).
+ *
+ * <p>슬롯마다 시퀀스 번호를 두어 여러 생산자가 CAS 한 번으로 자리를 잡고, 단일 소비자가 시퀀스를 확인하며 꺼낸다. 가득 차면 기다리지 않고
+ * {@link #offer} 가 false 를 돌려준다.
+ */
+public class RingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> items;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public RingBuffer(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.mask = size - 1;
+        this.items = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(T item) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    items.set(index, item);
+                    // 시퀀스를 올려야 소비자가 슬롯을 읽을 수 있다
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // 소비자가 아직 한 바퀴 전 값을 꺼내지 않았다
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    // 소비자 스레드 하나에서만 호출해야 한다
+    public int drainTo(List<T> sink, int maxItems) {
+        long position = head.get();
+        int drained = 0;
+
+        while (drained < maxItems) {
+            int index = (int) position & mask;
+
+            // 비었거나 생산자가 자리를 잡고 아직 값을 쓰는 중이다
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+
+            sink.add(items.get(index));
+            items.set(index, null);
+            sequences.set(index, position + mask + 1);
+
+            position++;
+            drained++;
+        }
+
+        head.set(position);
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
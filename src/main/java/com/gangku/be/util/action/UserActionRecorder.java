@@ -0,0 +1,161 @@
+package com.gangku.be.util.action;
+
+import com.gangku.be.config.action.ActionIngestProps;
+import com.gangku.be.constant.action.UserAction;
+import com.gangku.be.model.action.UserActionEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 요청 스레드에서 클릭/참여 이벤트를 링 버퍼에 넣기만 한다. DB 저장은 {@link UserActionWriter} 가 모아서 한다.
+ *
+ * <p>버퍼가 가득 차면 요청을 기다리게 하지 않고 이벤트를 버린 뒤 카운터만 올린다.
+ */
+@Component
+public class UserActionRecorder {
+
+    private static final String METRIC_NAME = "user.action.ingest";
+
+    private final ActionIngestProps actionIngestProps;
+    private final RingBuffer<UserActionEvent> buffer;
+    private final int clickShedThreshold;
+
+    // (유저, 모임) -> 마지막으로 기록한 클릭 시각(ms)
+    private final ConcurrentHashMap<ClickKey, Long> recentClicks = new ConcurrentHashMap<>();
+
+    private final Counter acceptedClickCounter;
+    private final Counter acceptedJoinCounter;
+    private final Counter droppedClickCounter;
+    private final Counter droppedJoinCounter;
+    private final Counter duplicateClickCounter;
+
+    public UserActionRecorder(ActionIngestProps actionIngestProps, MeterRegistry meterRegistry) {
+        this.actionIngestProps = actionIngestProps;
+        this.buffer = new RingBuffer<>(actionIngestProps.getBufferCapacity());
+        this.clickShedThreshold =
+                (int) (buffer.capacity() * actionIngestProps.getClickShedRatio());
+
+        this.acceptedClickCounter = resultCounter(meterRegistry, UserAction.CLICK, "accepted");
+        this.acceptedJoinCounter = resultCounter(meterRegistry, UserAction.JOIN, "accepted");
+        this.droppedClickCounter = resultCounter(meterRegistry, UserAction.CLICK, "dropped");
+        this.droppedJoinCounter = resultCounter(meterRegistry, UserAction.JOIN, "dropped");
+        this.duplicateClickCounter = resultCounter(meterRegistry, UserAction.CLICK, "duplicate");
+
+        Gauge.builder(METRIC_NAME + ".buffer.size", buffer, RingBuffer::size)
+                .description("저장을 기다리는 유저 행동 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    public void recordClick(Long userId, Long gatheringId) {
+        if (!actionIngestProps.isEnabled()) {
+            return;
+        }
+
+        ClickKey key = new ClickKey(userId, gatheringId);
+        long now = System.currentTimeMillis();
+        Long lastClickedAt = recentClicks.get(key);
+
+        if (lastClickedAt != null && now - lastClickedAt < clickDedupMillis()) {
+            duplicateClickCounter.increment();
+            return;
+        }
+
+        // 버퍼가 차오르면 클릭부터 버려서 참여 이벤트가 들어갈 자리를 남긴다.
+        // 버린 클릭은 중복으로 기록하지 않아야 같은 클릭이 다음에 다시 들어올 수 있다
+        if (buffer.size() >= clickShedThreshold) {
+            droppedClickCounter.increment();
+            return;
+        }
+
+        if (!markClicked(key, lastClickedAt, now)) {
+            duplicateClickCounter.increment();
+            return;
+        }
+
+        UserActionEvent event =
+                new UserActionEvent(userId, gatheringId, UserAction.CLICK, LocalDateTime.now());
+
+        if (buffer.offer(event)) {
+            acceptedClickCounter.increment();
+        } else {
+            recentClicks.remove(key, now);
+            droppedClickCounter.increment();
+        }
+    }
+
+    public void recordJoin(Long userId, Long gatheringId) {
+        if (!actionIngestProps.isEnabled()) {
+            return;
+        }
+
+        UserActionEvent event =
+                new UserActionEvent(userId, gatheringId, UserAction.JOIN, LocalDateTime.now());
+
+        // 롤백된 참여가 로그로 남지 않도록 트랜잭션 안이면 커밋된 뒤에 넣는다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            publish(event, acceptedJoinCounter, droppedJoinCounter);
+                        }
+                    });
+            return;
+        }
+
+        publish(event, acceptedJoinCounter, droppedJoinCounter);
+    }
+
+    // 저장 스레드 하나에서만 호출한다
+    public int drainTo(List<UserActionEvent> sink, int maxEvents) {
+        return buffer.drainTo(sink, maxEvents);
+    }
+
+    public void evictExpiredClicks() {
+        long expiredBefore = System.currentTimeMillis() - clickDedupMillis();
+        recentClicks.values().removeIf(clickedAt -> clickedAt <= expiredBefore);
+    }
+
+    private void publish(UserActionEvent event, Counter acceptedCounter, Counter droppedCounter) {
+        if (buffer.offer(event)) {
+            acceptedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    // 동시에 들어온 같은 클릭 중 먼저 갱신한 쪽만 기록한다. 맵이 가득 차면 중복 검사 없이 받는다
+    private boolean markClicked(ClickKey key, Long lastClickedAt, long now) {
+        if (lastClickedAt == null) {
+            if (recentClicks.size() >= actionIngestProps.getClickDedupMaxEntries()) {
+                return true;
+            }
+            return recentClicks.putIfAbsent(key, now) == null;
+        }
+
+        return recentClicks.replace(key, lastClickedAt, now);
+    }
+
+    private long clickDedupMillis() {
+        return TimeUnit.SECONDS.toMillis(actionIngestProps.getClickDedupSeconds());
+    }
+
+    private static Counter resultCounter(
+            MeterRegistry meterRegistry, UserAction action, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("유저 행동 이벤트 수집 결과")
+                .tag("action", action.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record ClickKey(Long userId, Long gatheringId) {}
+}
@@ -0,0 +1,207 @@
+package com.gangku.be.util.action;
+
+import com.gangku.be.config.action.ActionIngestProps;
+import com.gangku.be.model.action.EngagementDelta;
+import com.gangku.be.model.action.UserActionEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * {@link UserActionRecorder} 버퍼에 쌓인 이벤트를 백그라운드에서 모아 user_action_collection 에 bulk INSERT 한다.
+ *
+ * <p>엔티티를 거치지 않고 JDBC 배치로 바로 쓰므로 IDENTITY 키 때문에 배치가 풀리지 않는다. 같은 트랜잭션에서 모임별 시간 단위 집계
+ * (gathering_engagement_rollup)도 함께 더하고, 커밋된 뒤 트렌딩 점수에 반영한다.
+ */
+@Slf4j
+@Component
+public class UserActionWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            """
+        INSERT INTO user_action_collection (user_id, gathering_id, status, created_at)
+        VALUES (?, ?, ?, ?)
+    """;
+
+    // 웹 서버 시작/종료(DEFAULT_PHASE - 2048)와 graceful shutdown(DEFAULT_PHASE - 1024)보다 낮다
+    private static final int WRITER_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long DEDUP_EVICT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final UserActionRecorder userActionRecorder;
+    private final JdbcTemplate jdbcTemplate;
+    private final EngagementRollupStore engagementRollupStore;
+    private final GatheringTrendingIndex gatheringTrendingIndex;
+    private final TransactionOperations transactionOperations;
+    private final ActionIngestProps actionIngestProps;
+
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private ScheduledExecutorService flusher;
+    private volatile boolean running;
+    private long lastEvictedAt;
+
+    public UserActionWriter(
+            UserActionRecorder userActionRecorder,
+            JdbcTemplate jdbcTemplate,
+            EngagementRollupStore engagementRollupStore,
+            GatheringTrendingIndex gatheringTrendingIndex,
+            TransactionOperations transactionOperations,
+            ActionIngestProps actionIngestProps,
+            MeterRegistry meterRegistry) {
+        this.userActionRecorder = userActionRecorder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.engagementRollupStore = engagementRollupStore;
+        this.gatheringTrendingIndex = gatheringTrendingIndex;
+        this.transactionOperations = transactionOperations;
+        this.actionIngestProps = actionIngestProps;
+        this.writtenCounter = writeCounter(meterRegistry, "written");
+        this.failedCounter = writeCounter(meterRegistry, "failed");
+    }
+
+    @Override
+    public void start() {
+        flusher =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "user-action-writer");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+
+        running = true;
+
+        flusher.scheduleWithFixedDelay(
+                this::flushSafely,
+                actionIngestProps.getFlushIntervalMillis(),
+                actionIngestProps.getFlushIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flusher.shutdown();
+
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 직전에 남은 이벤트까지 저장한다
+        flushSafely();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return actionIngestProps.isEnabled();
+    }
+
+    // 웹 서버(graceful shutdown 포함)보다 낮은 단계라, 요청을 다 흘려보낸 뒤에 멈추면서 마지막 이벤트까지 저장한다
+    @Override
+    public int getPhase() {
+        return WRITER_PHASE;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+            evictExpiredClicksPeriodically();
+        } catch (Exception e) {
+            log.warn("유저 행동 로그 저장 실패. message={}", e.getMessage(), e);
+        }
+    }
+
+    // 가득 찬 배치가 나오면 쌓인 이벤트가 있다는 뜻이므로 대기 없이 바로 다음 배치를 쓴다
+    private void flush() {
+        int batchSize = actionIngestProps.getBatchSize();
+        List<UserActionEvent> batch = new ArrayList<>(batchSize);
+
+        do {
+            batch.clear();
+            userActionRecorder.drainTo(batch, batchSize);
+
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } while (batch.size() >= batchSize);
+    }
+
+    private void write(List<UserActionEvent> batch) {
+        try {
+            transactionOperations.executeWithoutResult(
+                    status -> {
+                        jdbcTemplate.batchUpdate(
+                                INSERT_SQL, batch, batch.size(), UserActionWriter::bind);
+                        engagementRollupStore.add(EngagementDelta.hourlyOf(batch));
+                    });
+            writtenCounter.increment(batch.size());
+            gatheringTrendingIndex.add(batch);
+        } catch (DataAccessException e) {
+            // 삭제된 모임/유저 같은 한 건 때문에 배치 전체를 잃지 않도록 한 건씩 다시 쓴다
+            log.warn("유저 행동 로그 배치 저장 실패, 한 건씩 재시도. size={}", batch.size(), e);
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(UserActionEvent event) {
+        try {
+            transactionOperations.executeWithoutResult(
+                    status -> {
+                        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+                        engagementRollupStore.add(EngagementDelta.hourlyOf(List.of(event)));
+                    });
+            writtenCounter.increment();
+            gatheringTrendingIndex.add(List.of(event));
+        } catch (DataAccessException e) {
+            failedCounter.increment();
+            log.debug("유저 행동 로그 저장 실패. event={}, message={}", event, e.getMessage());
+        }
+    }
+
+    private void evictExpiredClicksPeriodically() {
+        long now = System.currentTimeMillis();
+
+        if (now - lastEvictedAt >= DEDUP_EVICT_INTERVAL_MILLIS) {
+            userActionRecorder.evictExpiredClicks();
+            lastEvictedAt = now;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, UserActionEvent event) throws SQLException {
+        ps.setLong(1, event.userId());
+        ps.setLong(2, event.gatheringId());
+        ps.setString(3, event.status().name());
+        ps.setTimestamp(4, Timestamp.valueOf(event.occurredAt()));
+    }
+
+    private static Counter writeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.action.ingest.write")
+                .description("유저 행동 로그 DB 저장 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
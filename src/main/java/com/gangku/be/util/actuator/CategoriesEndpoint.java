@@ -0,0 +1,34 @@
+package com.gangku.be.util.actuator;
+
+import com.gangku.be.model.category.CategoryCatalog;
+import com.gangku.be.util.category.CategoryRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 레지스트리 확인/갱신용 관리 엔드포인트.
+ *
+ * <p>카테고리 테이블을 직접 바꾼 뒤 {@code POST /actuator/categories} 로 호출하면 이 노드가 다시 읽고 Redis 채널로 다른 노드에도
+ * 알린다. 웹 노출은 {@code management.endpoints.web.exposure.include} 에 명시해야 켜진다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "categories")
+public class CategoriesEndpoint {
+
+    private final CategoryRegistry categoryRegistry;
+
+    @ReadOperation
+    public CategoryCatalog catalog() {
+        return categoryRegistry.catalog();
+    }
+
+    @WriteOperation
+    public CategoryCatalog reload() {
+        categoryRegistry.publishChange();
+        return categoryRegistry.catalog();
+    }
+}
@@ -0,0 +1,36 @@
+package com.gangku.be.util.actuator;
+
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.model.scheduler.JobRunStatus;
+import com.gangku.be.repository.JobRunHistoryRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/** 예약 작업별 마지막 실행 상태 ({@code GET /actuator/jobs}). 한 번도 실행되지 않은 작업은 null 이다. */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "jobs")
+public class JobsEndpoint {
+
+    private final JobRunHistoryRepository jobRunHistoryRepository;
+
+    @ReadOperation
+    public Map<ScheduledJob, JobRunStatus> jobs() {
+        Map<ScheduledJob, JobRunStatus> lastRuns = new LinkedHashMap<>();
+
+        for (ScheduledJob job : ScheduledJob.values()) {
+            lastRuns.put(
+                    job,
+                    jobRunHistoryRepository
+                            .findTopByJobNameOrderByIdDesc(job)
+                            .map(JobRunStatus::from)
+                            .orElse(null));
+        }
+
+        return lastRuns;
+    }
+}
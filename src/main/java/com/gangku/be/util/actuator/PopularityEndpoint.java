@@ -0,0 +1,34 @@
+package com.gangku.be.util.actuator;
+
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.model.scheduler.JobRunStatus;
+import com.gangku.be.service.ClusteringService;
+import com.gangku.be.util.scheduler.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기도 로그 전체 재동기화를 운영자가 필요할 때만 실행하는 관리용 엔드포인트.
+ *
+ * <p>평소에는 워터마크 이후 델타만 보내므로, AI 서버 상태가 어긋났을 때 {@code POST /actuator/popularity} 로 호출한다.
+ * 예약된 인기도 갱신과 같은 락을 쓰므로 갱신이 도는 중이면 실행하지 않고 null 을 돌려준다. 웹 노출은 {@code
+ * management.endpoints.web.exposure.include} 에 명시해야 켜진다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "popularity")
+public class PopularityEndpoint {
+
+    private final ClusteringService clusteringService;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @WriteOperation
+    public JobRunStatus resync() {
+        return scheduledJobRunner
+                .run(ScheduledJob.POPULARITY_RESYNC, clusteringService::resyncPopularity)
+                .map(JobRunStatus::from)
+                .orElse(null);
+    }
+}
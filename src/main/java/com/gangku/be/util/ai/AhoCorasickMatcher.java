@@ -0,0 +1,190 @@
+package com.gangku.be.util.ai;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 금칙어를 한 번의 순회로 찾는 Aho-Corasick 오토마톤.
+ *
+ * <p>생성 후에는 불변이라 여러 스레드에서 동시에 써도 된다. 각 노드의 간선은 정렬된 char 배열로 압축해서 이진 탐색한다. 상태마다 그
+ * 상태에서 끝나는 금칙어 길이를 들고 있어서, {@link #matchesWholeWord} 는 매칭 앞뒤가 단어 경계인지까지 확인한다.
+ */
+public final class AhoCorasickMatcher {
+
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final boolean[] terminal;
+    private final int[][] outputLengths;
+
+    private AhoCorasickMatcher(
+            char[][] edgeChars,
+            int[][] edgeTargets,
+            int[] failure,
+            boolean[] terminal,
+            int[][] outputLengths) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.terminal = terminal;
+        this.outputLengths = outputLengths;
+    }
+
+    public static AhoCorasickMatcher of(Collection<String> patterns) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> output = new ArrayList<>();
+        List<Integer> depth = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        output.add(false);
+        depth.add(0);
+
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = trie.get(state).get(c);
+
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    output.add(false);
+                    depth.add(i + 1);
+                }
+                state = next;
+            }
+            output.set(state, true);
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        boolean[] terminal = new boolean[size];
+        int[][] outputLengths = new int[size][];
+
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+
+            int index = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][index] = edge.getKey();
+                edgeTargets[state][index] = edge.getValue();
+                index++;
+            }
+            terminal[state] = output.get(state);
+            outputLengths[state] = terminal[state] ? new int[] {depth.get(state)} : new int[0];
+        }
+
+        // BFS 순서로 실패 링크를 만들고, 접미사 중 금칙어가 있으면 현재 상태도 매칭으로 표시한다
+        int[] failure = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        for (int child : edgeTargets[0]) {
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+
+                int fallback = failure[state];
+                int next = transition(edgeChars, edgeTargets, fallback, c);
+                while (fallback != 0 && next < 0) {
+                    fallback = failure[fallback];
+                    next = transition(edgeChars, edgeTargets, fallback, c);
+                }
+
+                failure[child] = next < 0 ? 0 : next;
+                terminal[child] |= terminal[failure[child]];
+                outputLengths[child] = concat(outputLengths[child], outputLengths[failure[child]]);
+                queue.add(child);
+            }
+        }
+
+        return new AhoCorasickMatcher(edgeChars, edgeTargets, failure, terminal, outputLengths);
+    }
+
+    // 금칙어가 단어의 일부로라도 들어 있으면 true
+    public boolean matches(CharSequence text) {
+        int state = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+
+            if (terminal[state]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // 금칙어 앞뒤가 텍스트 처음/끝이거나 separator 일 때만 true ("시발점" 안의 "시발"은 걸리지 않는다)
+    public boolean matchesWholeWord(CharSequence text, char separator) {
+        int state = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+
+            if (!terminal[state]) {
+                continue;
+            }
+
+            boolean endsAtBoundary = i + 1 == text.length() || text.charAt(i + 1) == separator;
+            if (!endsAtBoundary) {
+                continue;
+            }
+
+            for (int length : outputLengths[state]) {
+                int start = i - length + 1;
+                if (start == 0 || text.charAt(start - 1) == separator) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return edgeChars[0].length == 0;
+    }
+
+    private int step(int state, char c) {
+        int next = transition(edgeChars, edgeTargets, state, c);
+        while (state != 0 && next < 0) {
+            state = failure[state];
+            next = transition(edgeChars, edgeTargets, state, c);
+        }
+        return next < 0 ? 0 : next;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        int[] merged = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, merged, first.length, second.length);
+        return merged;
+    }
+
+    private static int transition(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index < 0 ? -1 : edgeTargets[state][index];
+    }
+}
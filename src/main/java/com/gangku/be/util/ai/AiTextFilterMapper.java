@@ -1,5 +1,6 @@
 package com.gangku.be.util.ai;
 
+import com.gangku.be.domain.Gathering;
 import com.gangku.be.dto.ai.request.TextFilterRequestDto;
 import com.gangku.be.dto.gathering.request.GatheringCreateRequestDto;
 import com.gangku.be.dto.gathering.request.GatheringUpdateRequestDto;
@@ -43,6 +44,10 @@ public class AiTextFilterMapper {
                         gatheringUpdateRequestDto.getDescription()));
     }
 
+    public TextFilterRequestDto fromGathering(Gathering gathering) {
+        return new TextFilterRequestDto(joinText(gathering.getTitle(), gathering.getDescription()));
+    }
+
     private String joinText(String title, String description) {
         String safeTitle = title == null ? "" : title.trim();
         String safeDescription = description == null ? "" : description.trim();
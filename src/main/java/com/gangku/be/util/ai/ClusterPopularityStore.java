@@ -0,0 +1,95 @@
+package com.gangku.be.util.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 갱신 때 계산해 둔 유저별 클러스터와 클러스터별 인기 모임 목록을 Redis 해시에 들고 있는다.
+ *
+ * <p>요청 시점에는 해시 두 번만 읽으므로 AI 서버를 부르지 않는다. 갱신은 임시 키에 다 쓴 뒤 RENAME 으로 한 번에 바꿔서 읽는 쪽이 반쯤 쓴 목록을 보지
+ * 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterPopularityStore {
+
+    private static final String USER_CLUSTER_KEY = "ai:cluster:users";
+    private static final String USER_CLUSTER_STAGING_KEY = "ai:cluster:users:staging";
+    private static final String CLUSTER_POPULARITY_KEY = "ai:popularity:clusters";
+    private static final String CLUSTER_POPULARITY_STAGING_KEY =
+            "ai:popularity:clusters:staging";
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void replaceUserClusters(Map<Long, Integer> userClusters) {
+        replace(
+                USER_CLUSTER_KEY,
+                USER_CLUSTER_STAGING_KEY,
+                userClusters.entrySet().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        e -> String.valueOf(e.getKey()),
+                                        e -> String.valueOf(e.getValue()))));
+    }
+
+    public void replaceClusterPopularity(Map<Integer, List<Long>> clusterPopularity) {
+        replace(
+                CLUSTER_POPULARITY_KEY,
+                CLUSTER_POPULARITY_STAGING_KEY,
+                clusterPopularity.entrySet().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        e -> String.valueOf(e.getKey()),
+                                        e ->
+                                                e.getValue().stream()
+                                                        .map(String::valueOf)
+                                                        .collect(Collectors.joining(",")))));
+    }
+
+    // 유저가 속한 클러스터의 인기 모임 id. 클러스터가 아직 없으면 빈 목록
+    public List<Long> findPopularGatheringIds(Long userId) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+
+        String clusterId = hashOperations.get(USER_CLUSTER_KEY, String.valueOf(userId));
+        if (clusterId == null) {
+            return List.of();
+        }
+
+        String gatheringIds = hashOperations.get(CLUSTER_POPULARITY_KEY, clusterId);
+        if (gatheringIds == null || gatheringIds.isEmpty()) {
+            return List.of();
+        }
+
+        return Arrays.stream(gatheringIds.split(",")).map(Long::valueOf).toList();
+    }
+
+    private void replace(String key, String stagingKey, Map<String, String> values) {
+        if (values.isEmpty()) {
+            stringRedisTemplate.delete(key);
+            return;
+        }
+
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        stringRedisTemplate.delete(stagingKey);
+
+        List<Map.Entry<String, String>> entries = new ArrayList<>(values.entrySet());
+        for (int from = 0; from < entries.size(); from += WRITE_BATCH_SIZE) {
+            Map<String, String> batch = new HashMap<>();
+            entries.subList(from, Math.min(from + WRITE_BATCH_SIZE, entries.size()))
+                    .forEach(e -> batch.put(e.getKey(), e.getValue()));
+            hashOperations.putAll(stagingKey, batch);
+        }
+
+        stringRedisTemplate.rename(stagingKey, key);
+    }
+}
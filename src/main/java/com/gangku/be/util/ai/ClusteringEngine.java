@@ -0,0 +1,21 @@
+package com.gangku.be.util.ai;
+
+import com.gangku.be.constant.ai.ClusteringEngineType;
+import com.gangku.be.dto.ai.request.ClusteringRefreshRequestDto.ClusteringUserData;
+import com.gangku.be.model.ai.ClusteringRefreshResponse;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** 유저 특징을 받아 클러스터링하고 유저수, inertia, 클러스터별 유저수를 돌려준다. */
+public interface ClusteringEngine {
+
+    ClusteringEngineType type();
+
+    ClusteringRefreshResponse cluster(UserSource userSource);
+
+    /** 유저 특징을 배치 단위로 흘려보내고 보낸 유저수를 돌려준다. 엔진이 필요할 때 한 번만 호출한다. */
+    @FunctionalInterface
+    interface UserSource {
+        int forEachBatch(Consumer<List<ClusteringUserData>> batchConsumer);
+    }
+}
@@ -0,0 +1,51 @@
+package com.gangku.be.util.ai;
+
+import com.gangku.be.dto.ai.request.ClusteringRefreshRequestDto.ClusteringUserData;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 클러스터링 입력 특징(선호 카테고리, 나이, 학번, 참여 횟수 구간)의 64비트 지문.
+ *
+ * <p>참여 횟수는 0, 1, 2~3, 4~7 ... 처럼 2의 거듭제곱 구간으로 묶어서 모임 하나 더 참여했다고 매번 바뀐 것으로 보지 않는다. 데이터셋
+ * 다이제스트는 유저 지문의 합이라 유저를 읽는 순서와 무관하다.
+ */
+public final class ClusteringFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ClusteringFingerprint() {}
+
+    public static long of(ClusteringUserData clusteringUserData) {
+        List<String> sortedCategories =
+                clusteringUserData.getPreferredCategories().stream().sorted().toList();
+
+        String canonical =
+                String.join(",", sortedCategories)
+                        + "|"
+                        + clusteringUserData.getAge()
+                        + "|"
+                        + clusteringUserData.getEnrollNumber()
+                        + "|"
+                        + joinCountBucket(clusteringUserData.getUserJoinCount());
+
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : canonical.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    public static int joinCountBucket(Integer joinCount) {
+        if (joinCount == null || joinCount <= 0) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(joinCount);
+    }
+
+    public static String toHex(long value) {
+        return Long.toHexString(value);
+    }
+}
@@ -0,0 +1,127 @@
+package com.gangku.be.util.ai;
+
+import com.gangku.be.config.ai.ItemSimilarityProps;
+import com.gangku.be.model.ai.ParticipationPairRow;
+import com.gangku.be.repository.ParticipationRepository;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드마다 메모리에 들고 있는 모임 간 유사도 인덱스. 다시 만드는 동안에는 이전 스냅샷을 그대로 읽는다.
+ *
+ * @see ItemSimilarityMatrix
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSimilarityIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final ParticipationRepository participationRepository;
+    private final ItemSimilarityProps itemSimilarityProps;
+
+    private volatile ItemSimilarityMatrix matrix = ItemSimilarityMatrix.EMPTY;
+
+    // 승인된 참여 전체를 기본형 배열로 읽어 유사도를 다시 계산한다. 인덱스에 들어간 모임 수를 돌려준다
+    public int rebuild() {
+        long startedNanos = System.nanoTime();
+
+        long[] userIds = new long[LOAD_BATCH_SIZE];
+        long[] gatheringIds = new long[LOAD_BATCH_SIZE];
+        long[] categoryIds = new long[LOAD_BATCH_SIZE];
+        int pairCount = 0;
+        long lastParticipationId = 0L;
+        List<ParticipationPairRow> rows;
+
+        do {
+            rows =
+                    participationRepository.findParticipationPairsAfter(
+                            lastParticipationId, PageRequest.of(0, LOAD_BATCH_SIZE));
+
+            if (pairCount + rows.size() > userIds.length) {
+                int capacity = Math.max(userIds.length * 2, pairCount + rows.size());
+                userIds = Arrays.copyOf(userIds, capacity);
+                gatheringIds = Arrays.copyOf(gatheringIds, capacity);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+            }
+
+            for (ParticipationPairRow row : rows) {
+                userIds[pairCount] = row.userId();
+                gatheringIds[pairCount] = row.gatheringId();
+                categoryIds[pairCount] = row.categoryId();
+                pairCount++;
+            }
+
+            if (!rows.isEmpty()) {
+                lastParticipationId = rows.get(rows.size() - 1).participationId();
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+
+        int parallelism =
+                itemSimilarityProps.getParallelism() > 0
+                        ? itemSimilarityProps.getParallelism()
+                        : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            matrix =
+                    ItemSimilarityMatrix.build(
+                            userIds,
+                            gatheringIds,
+                            categoryIds,
+                            pairCount,
+                            Math.max(1, itemSimilarityProps.getTopK()),
+                            itemSimilarityProps.getMinCoJoins(),
+                            pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info(
+                "모임 유사도 인덱스 갱신 - 참여 수: {}, 모임 수: {}, 소요: {}ms",
+                pairCount,
+                matrix.itemCount(),
+                (System.nanoTime() - startedNanos) / 1_000_000);
+
+        return matrix.itemCount();
+    }
+
+    public List<Long> alsoJoined(Long gatheringId, int limit) {
+        return matrix.neighbors(gatheringId, limit);
+    }
+
+    public Map<Long, Double> scoreNeighbors(List<Long> seedGatheringIds) {
+        return matrix.scoreNeighbors(seedGatheringIds);
+    }
+
+    // 유저가 최근 참여한 모임들과 함께 참여된 모임을 유사도 합 순으로 돌려준다 (이미 참여한 모임은 뺀다)
+    public List<Long> similarToRecentJoins(Long userId, int limit) {
+        List<Long> seedIds =
+                participationRepository.findRecentJoinedGatheringIds(
+                        userId, PageRequest.of(0, itemSimilarityProps.getSeedSize()));
+
+        if (seedIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = matrix.scoreNeighbors(seedIds);
+        seedIds.forEach(scores::remove);
+
+        return scores.entrySet().stream()
+                .sorted(
+                        Map.Entry.<Long, Double>comparingByValue()
+                                .reversed()
+                                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
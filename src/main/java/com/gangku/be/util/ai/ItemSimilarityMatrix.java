@@ -0,0 +1,305 @@
+package com.gangku.be.util.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 참여 이력으로 만든 모임 간 유사도 top-k 이웃 (불변 스냅샷).
+ *
+ * <p>같은 카테고리 안에서 함께 참여한 유저 수를 코사인 유사도 {@code co / sqrt(deg(i)·deg(j))} 로 바꾸고 모임마다 상위 k 개만 남긴다.
+ * 이웃은 CSR 형태의 int/float 배열에 담아 객체 없이 들고 있는다.
+ */
+public final class ItemSimilarityMatrix {
+
+    // 포크-조인 작업 하나가 맡는 최대 모임 수
+    private static final int LEAF_SIZE = 64;
+
+    public static final ItemSimilarityMatrix EMPTY =
+            new ItemSimilarityMatrix(new long[0], new int[] {0}, new int[0], new float[0]);
+
+    private final long[] itemIds; // 오름차순, 배열 위치가 모임의 내부 번호
+    private final int[] neighborOffsets;
+    private final int[] neighborItems;
+    private final float[] neighborScores;
+
+    private ItemSimilarityMatrix(
+            long[] itemIds, int[] neighborOffsets, int[] neighborItems, float[] neighborScores) {
+        this.itemIds = itemIds;
+        this.neighborOffsets = neighborOffsets;
+        this.neighborItems = neighborItems;
+        this.neighborScores = neighborScores;
+    }
+
+    /**
+     * @param userIds 참여 쌍의 유저 id
+     * @param gatheringIds 참여 쌍의 모임 id
+     * @param categoryIds 참여 쌍의 모임 카테고리 id
+     * @param pairCount 배열에서 유효한 참여 쌍 수
+     */
+    public static ItemSimilarityMatrix build(
+            long[] userIds,
+            long[] gatheringIds,
+            long[] categoryIds,
+            int pairCount,
+            int topK,
+            int minCoJoins,
+            ForkJoinPool pool) {
+
+        long[] itemIds = distinctSorted(gatheringIds, pairCount);
+        int itemCount = itemIds.length;
+
+        int[] pairItems = new int[pairCount];
+        int[] pairUsers = new int[pairCount];
+        int[] itemCategories = new int[itemCount];
+        Map<Long, Integer> userIndex = new HashMap<>();
+        Map<Long, Integer> categoryIndex = new HashMap<>();
+
+        for (int p = 0; p < pairCount; p++) {
+            pairItems[p] = Arrays.binarySearch(itemIds, gatheringIds[p]);
+            pairUsers[p] = userIndex.computeIfAbsent(userIds[p], k -> userIndex.size());
+            itemCategories[pairItems[p]] =
+                    categoryIndex.computeIfAbsent(categoryIds[p], k -> categoryIndex.size());
+        }
+
+        int[] userOffsets = new int[userIndex.size() + 1];
+        int[] userItems = groupBy(pairUsers, pairItems, userOffsets);
+        int[] itemOffsets = new int[itemCount + 1];
+        int[] itemUsers = groupBy(pairItems, pairUsers, itemOffsets);
+
+        int[][] neighbors = new int[itemCount][];
+        float[][] scores = new float[itemCount][];
+
+        pool.invoke(
+                new NeighborTask(
+                        0,
+                        itemCount,
+                        new Graph(
+                                userOffsets, userItems, itemOffsets, itemUsers, itemCategories),
+                        topK,
+                        minCoJoins,
+                        neighbors,
+                        scores));
+
+        return flatten(itemIds, neighbors, scores);
+    }
+
+    public int itemCount() {
+        return itemIds.length;
+    }
+
+    public List<Long> neighbors(long gatheringId, int limit) {
+        int item = Arrays.binarySearch(itemIds, gatheringId);
+
+        if (item < 0) {
+            return List.of();
+        }
+
+        int end = Math.min(neighborOffsets[item + 1], neighborOffsets[item] + limit);
+        List<Long> ids = new ArrayList<>(end - neighborOffsets[item]);
+
+        for (int n = neighborOffsets[item]; n < end; n++) {
+            ids.add(itemIds[neighborItems[n]]);
+        }
+
+        return ids;
+    }
+
+    // seed 모임들의 이웃 유사도를 모임별로 더한다
+    public Map<Long, Double> scoreNeighbors(Iterable<Long> seedIds) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (Long seedId : seedIds) {
+            int item = Arrays.binarySearch(itemIds, seedId);
+
+            if (item < 0) {
+                continue;
+            }
+
+            for (int n = neighborOffsets[item]; n < neighborOffsets[item + 1]; n++) {
+                scores.merge(itemIds[neighborItems[n]], (double) neighborScores[n], Double::sum);
+            }
+        }
+
+        return scores;
+    }
+
+    private static long[] distinctSorted(long[] values, int count) {
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    // keys 기준으로 values 를 묶은 CSR 배열을 만들고 offsets 를 채운다
+    private static int[] groupBy(int[] keys, int[] values, int[] offsets) {
+        for (int key : keys) {
+            offsets[key + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        int[] grouped = new int[values.length];
+
+        for (int p = 0; p < keys.length; p++) {
+            grouped[cursor[keys[p]]++] = values[p];
+        }
+
+        return grouped;
+    }
+
+    private static ItemSimilarityMatrix flatten(
+            long[] itemIds, int[][] neighbors, float[][] scores) {
+        int[] offsets = new int[itemIds.length + 1];
+
+        for (int i = 0; i < itemIds.length; i++) {
+            offsets[i + 1] = offsets[i] + neighbors[i].length;
+        }
+
+        int[] flatItems = new int[offsets[itemIds.length]];
+        float[] flatScores = new float[offsets[itemIds.length]];
+
+        for (int i = 0; i < itemIds.length; i++) {
+            System.arraycopy(neighbors[i], 0, flatItems, offsets[i], neighbors[i].length);
+            System.arraycopy(scores[i], 0, flatScores, offsets[i], scores[i].length);
+        }
+
+        return new ItemSimilarityMatrix(itemIds, offsets, flatItems, flatScores);
+    }
+
+    private record Graph(
+            int[] userOffsets,
+            int[] userItems,
+            int[] itemOffsets,
+            int[] itemUsers,
+            int[] itemCategories) {
+
+        int degree(int item) {
+            return itemOffsets[item + 1] - itemOffsets[item];
+        }
+    }
+
+    // 모임 범위를 반씩 나눠 병렬로 이웃을 계산한다. 잎 작업마다 공동 참여 카운터를 하나씩 쓴다
+    private static final class NeighborTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final Graph graph;
+        private final int topK;
+        private final int minCoJoins;
+        private final int[][] neighbors;
+        private final float[][] scores;
+
+        private NeighborTask(
+                int from,
+                int to,
+                Graph graph,
+                int topK,
+                int minCoJoins,
+                int[][] neighbors,
+                float[][] scores) {
+            this.from = from;
+            this.to = to;
+            this.graph = graph;
+            this.topK = topK;
+            this.minCoJoins = minCoJoins;
+            this.neighbors = neighbors;
+            this.scores = scores;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                        new NeighborTask(from, mid, graph, topK, minCoJoins, neighbors, scores),
+                        new NeighborTask(mid, to, graph, topK, minCoJoins, neighbors, scores));
+                return;
+            }
+
+            int itemCount = graph.itemCategories().length;
+            int[] coJoins = new int[itemCount];
+            int[] touched = new int[itemCount];
+
+            for (int item = from; item < to; item++) {
+                computeNeighbors(item, coJoins, touched);
+            }
+        }
+
+        private void computeNeighbors(int item, int[] coJoins, int[] touched) {
+            int touchedCount = 0;
+            int category = graph.itemCategories()[item];
+
+            for (int u = graph.itemOffsets()[item]; u < graph.itemOffsets()[item + 1]; u++) {
+                int user = graph.itemUsers()[u];
+
+                for (int o = graph.userOffsets()[user]; o < graph.userOffsets()[user + 1]; o++) {
+                    int other = graph.userItems()[o];
+
+                    if (other != item
+                            && graph.itemCategories()[other] == category
+                            && coJoins[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                }
+            }
+
+            int[] topItems = new int[topK];
+            float[] topScores = new float[topK];
+            int kept = 0;
+
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                int coJoinCount = coJoins[other];
+                coJoins[other] = 0;
+
+                if (coJoinCount < minCoJoins) {
+                    continue;
+                }
+
+                float score =
+                        (float)
+                                (coJoinCount
+                                        / Math.sqrt(
+                                                (double) graph.degree(item) * graph.degree(other)));
+
+                kept = insertTopK(topItems, topScores, kept, other, score);
+            }
+
+            neighbors[item] = Arrays.copyOf(topItems, kept);
+            scores[item] = Arrays.copyOf(topScores, kept);
+        }
+
+        // 점수 내림차순을 유지하며 끼워 넣는다. k 가 작으므로 삽입 정렬로 충분하다
+        private int insertTopK(int[] topItems, float[] topScores, int kept, int item, float score) {
+            if (kept == topK && score <= topScores[kept - 1]) {
+                return kept;
+            }
+
+            int position = kept < topK ? kept++ : kept - 1;
+
+            while (position > 0 && topScores[position - 1] < score) {
+                topItems[position] = topItems[position - 1];
+                topScores[position] = topScores[position - 1];
+                position--;
+            }
+
+            topItems[position] = item;
+            topScores[position] = score;
+            return kept;
+        }
+    }
+}
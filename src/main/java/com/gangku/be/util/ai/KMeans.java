@@ -0,0 +1,226 @@
+package com.gangku.be.util.ai;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 행 우선(row-major) float 행렬에 대한 k-means.
+ *
+ * <p>초기 중심점은 k-means++ 로 고르고, 가장 비싼 할당 단계는 행 범위를 반씩 나눠 포크-조인으로 돌린다. 각 작업은 배정과 함께 클러스터별 좌표
+ * 합계를 모아 오므로 중심점 갱신은 합계를 나누기만 하면 된다.
+ */
+public final class KMeans {
+
+    // 포크-조인 작업 하나가 맡는 최대 행 수
+    private static final int LEAF_SIZE = 1024;
+
+    private KMeans() {}
+
+    /**
+     * @param assignments 행마다 배정된 클러스터 번호
+     * @param clusterSizes 클러스터마다 배정된 행 수
+     * @param inertia 각 행과 배정된 중심점 사이 거리 제곱의 합
+     */
+    public record Result(int[] assignments, int[] clusterSizes, double inertia, int iterations) {}
+
+    public static Result fit(
+            float[] points,
+            int rows,
+            int dims,
+            int k,
+            int maxIterations,
+            double tolerance,
+            Random random,
+            ForkJoinPool pool) {
+
+        if (rows == 0 || k <= 0) {
+            return new Result(new int[0], new int[0], 0, 0);
+        }
+
+        int clusterCount = Math.min(k, rows);
+        float[] centers = seedCenters(points, rows, dims, clusterCount, random);
+        int[] assignments = new int[rows];
+        Arrays.fill(assignments, -1);
+
+        Step step = pool.invoke(new AssignTask(points, dims, centers, assignments, 0, rows));
+        int iterations = 1;
+
+        while (step.changed > 0 && iterations < maxIterations) {
+            double shift = moveCenters(centers, step, dims);
+            step = pool.invoke(new AssignTask(points, dims, centers, assignments, 0, rows));
+            iterations++;
+
+            if (shift <= tolerance) {
+                break;
+            }
+        }
+
+        return new Result(assignments, step.counts, step.inertia, iterations);
+    }
+
+    // 첫 중심점은 무작위, 이후는 가장 가까운 중심점까지 거리 제곱에 비례한 확률로 고른다
+    private static float[] seedCenters(
+            float[] points, int rows, int dims, int clusterCount, Random random) {
+        float[] centers = new float[clusterCount * dims];
+        System.arraycopy(points, random.nextInt(rows) * dims, centers, 0, dims);
+
+        double[] nearest = new double[rows];
+        for (int row = 0; row < rows; row++) {
+            nearest[row] = distance(points, row * dims, centers, 0, dims);
+        }
+
+        for (int center = 1; center < clusterCount; center++) {
+            int chosen = sample(nearest, random);
+            int offset = center * dims;
+            System.arraycopy(points, chosen * dims, centers, offset, dims);
+
+            for (int row = 0; row < rows; row++) {
+                nearest[row] =
+                        Math.min(nearest[row], distance(points, row * dims, centers, offset, dims));
+            }
+        }
+
+        return centers;
+    }
+
+    private static int sample(double[] weights, Random random) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        // 모든 점이 이미 중심점과 겹치면 아무 점이나 고른다
+        if (total == 0) {
+            return random.nextInt(weights.length);
+        }
+
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+
+        return weights.length - 1;
+    }
+
+    // 중심점을 배정된 점들의 평균으로 옮기고 가장 많이 움직인 거리를 돌려준다. 빈 클러스터는 제자리에 둔다
+    private static double moveCenters(float[] centers, Step step, int dims) {
+        double maxShift = 0;
+
+        for (int center = 0; center < step.counts.length; center++) {
+            if (step.counts[center] == 0) {
+                continue;
+            }
+
+            double shift = 0;
+            for (int d = 0; d < dims; d++) {
+                int index = center * dims + d;
+                float moved = (float) (step.sums[index] / step.counts[center]);
+                shift += (moved - centers[index]) * (double) (moved - centers[index]);
+                centers[index] = moved;
+            }
+            maxShift = Math.max(maxShift, Math.sqrt(shift));
+        }
+
+        return maxShift;
+    }
+
+    private static double distance(float[] a, int aOffset, float[] b, int bOffset, int dims) {
+        double sum = 0;
+        for (int d = 0; d < dims; d++) {
+            double diff = a[aOffset + d] - b[bOffset + d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    // 할당 단계 한 번의 결과. 하위 작업 결과는 더해서 합친다
+    private static final class Step {
+        private final double[] sums;
+        private final int[] counts;
+        private double inertia;
+        private int changed;
+
+        private Step(int clusterCount, int dims) {
+            this.sums = new double[clusterCount * dims];
+            this.counts = new int[clusterCount];
+        }
+
+        private Step merge(Step other) {
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] += other.sums[i];
+            }
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            inertia += other.inertia;
+            changed += other.changed;
+            return this;
+        }
+    }
+
+    private static final class AssignTask extends RecursiveTask<Step> {
+
+        private final float[] points;
+        private final int dims;
+        private final float[] centers;
+        private final int[] assignments;
+        private final int from;
+        private final int to;
+
+        private AssignTask(
+                float[] points, int dims, float[] centers, int[] assignments, int from, int to) {
+            this.points = points;
+            this.dims = dims;
+            this.centers = centers;
+            this.assignments = assignments;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Step compute() {
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                AssignTask left = new AssignTask(points, dims, centers, assignments, from, mid);
+                left.fork();
+                Step right = new AssignTask(points, dims, centers, assignments, mid, to).compute();
+                return right.merge(left.join());
+            }
+
+            int clusterCount = centers.length / dims;
+            Step step = new Step(clusterCount, dims);
+
+            for (int row = from; row < to; row++) {
+                int offset = row * dims;
+                int best = 0;
+                double bestDistance = Double.MAX_VALUE;
+
+                for (int center = 0; center < clusterCount; center++) {
+                    double distance = distance(points, offset, centers, center * dims, dims);
+                    if (distance < bestDistance) {
+                        best = center;
+                        bestDistance = distance;
+                    }
+                }
+
+                if (assignments[row] != best) {
+                    assignments[row] = best;
+                    step.changed++;
+                }
+
+                step.counts[best]++;
+                step.inertia += bestDistance;
+                for (int d = 0; d < dims; d++) {
+                    step.sums[best * dims + d] += points[offset + d];
+                }
+            }
+
+            return step;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.gangku.be.util.ai;
+
+import java.text.Normalizer;
+
+/**
+ * 금칙어 비교용 정규화.
+ *
+ * <p>한글 음절을 호환용 자모로 분해해서 "바보"와 "ㅂㅏㅂㅗ"처럼 자모를 풀어 쓴 우회 표기를 같은 문자열로 만든다. 전각 문자는 NFKC로
+ * 접고, 라틴 문자는 소문자로 바꾼다. 글자와 숫자가 아닌 문자(공백, 특수문자, 필드 구분자 {@code |||})가 이어진 구간은 {@link
+ * #WORD_SEPARATOR} 하나로 줄여서, 금칙어가 단어나 필드 경계를 넘어 이어 붙은 것처럼 보이지 않게 한다.
+ */
+public final class KoreanTextNormalizer {
+
+    public static final char WORD_SEPARATOR = ' ';
+
+    private static final int HANGUL_SYLLABLE_BEGIN = 0xAC00;
+    private static final int HANGUL_SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    // NFKC는 호환용 자모를 조합형 자모로 바꾸므로 다시 호환용 자모로 되돌린다
+    private static final int CONJOINING_CHOSEONG_BEGIN = 0x1100;
+    private static final int CONJOINING_JUNGSEONG_BEGIN = 0x1161;
+    private static final int CONJOINING_JONGSEONG_BEGIN = 0x11A8;
+
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ',
+        'ㅎ'
+    };
+
+    private static final char[] JUNGSEONG = {
+        'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ',
+        'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    // 0번은 받침 없음
+    private static final char[] JONGSEONG = {
+        0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ',
+        'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private KoreanTextNormalizer() {}
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder normalized = new StringBuilder(folded.length() * 3);
+
+        folded.codePoints()
+                .forEach(
+                        codePoint -> {
+                            if (codePoint >= HANGUL_SYLLABLE_BEGIN
+                                    && codePoint <= HANGUL_SYLLABLE_END) {
+                                appendJamo(normalized, codePoint - HANGUL_SYLLABLE_BEGIN);
+                            } else if (toCompatibilityJamo(codePoint) != 0) {
+                                normalized.append(toCompatibilityJamo(codePoint));
+                            } else if (Character.isLetterOrDigit(codePoint)) {
+                                normalized.appendCodePoint(Character.toLowerCase(codePoint));
+                            } else if (!normalized.isEmpty()
+                                    && normalized.charAt(normalized.length() - 1)
+                                            != WORD_SEPARATOR) {
+                                normalized.append(WORD_SEPARATOR);
+                            }
+                        });
+
+        // 끝에 붙은 구분자는 단어 경계 판정에 필요 없다
+        if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) == WORD_SEPARATOR) {
+            normalized.setLength(normalized.length() - 1);
+        }
+
+        return normalized.toString();
+    }
+
+    private static char toCompatibilityJamo(int codePoint) {
+        int choseongIndex = codePoint - CONJOINING_CHOSEONG_BEGIN;
+        if (choseongIndex >= 0 && choseongIndex < CHOSEONG.length) {
+            return CHOSEONG[choseongIndex];
+        }
+
+        int jungseongIndex = codePoint - CONJOINING_JUNGSEONG_BEGIN;
+        if (jungseongIndex >= 0 && jungseongIndex < JUNGSEONG.length) {
+            return JUNGSEONG[jungseongIndex];
+        }
+
+        // 받침 배열의 0번은 '받침 없음'이라 한 칸 밀려 있다
+        int jongseongIndex = codePoint - CONJOINING_JONGSEONG_BEGIN + 1;
+        if (jongseongIndex >= 1 && jongseongIndex < JONGSEONG.length) {
+            return JONGSEONG[jongseongIndex];
+        }
+
+        return 0;
+    }
+
+    private static void appendJamo(StringBuilder normalized, int syllableIndex) {
+        int syllablesPerChoseong = JUNGSEONG_COUNT * JONGSEONG_COUNT;
+        int choseongIndex = syllableIndex / syllablesPerChoseong;
+        int jungseongIndex = (syllableIndex % syllablesPerChoseong) / JONGSEONG_COUNT;
+        int jongseongIndex = syllableIndex % JONGSEONG_COUNT;
+
+        normalized.append(CHOSEONG[choseongIndex]).append(JUNGSEONG[jungseongIndex]);
+
+        if (jongseongIndex != 0) {
+            normalized.append(JONGSEONG[jongseongIndex]);
+        }
+    }
+}
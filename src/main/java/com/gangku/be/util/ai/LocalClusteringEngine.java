@@ -0,0 +1,217 @@
+package com.gangku.be.util.ai;
+
+import com.gangku.be.config.ai.ClusteringProps;
+import com.gangku.be.constant.ai.ClusteringEngineType;
+import com.gangku.be.dto.ai.request.ClusteringRefreshRequestDto.ClusteringUserData;
+import com.gangku.be.model.ai.ClusteringRefreshResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 없이 서버 안에서 k-means 로 유저를 클러스터링하고, 유저별 클러스터를 {@code users.cluster_id} 에 저장한다.
+ *
+ * <p>선호 카테고리는 원-핫으로, 나이/학번/참여 횟수는 0~1 로 맞춰 유저당 한 행짜리 float 행렬을 만든다. 참여 횟수는 소수의 헤비 유저에 끌려가지 않도록
+ * log 를 씌운 뒤 맞춘다. 값이 없으면 그 열의 평균으로 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalClusteringEngine implements ClusteringEngine {
+
+    private static final int UPDATE_BATCH_SIZE = 1000;
+
+    private static final String UPDATE_CLUSTER_ID_SQL =
+            "UPDATE users SET cluster_id = ? WHERE id = ?";
+
+    private final ClusteringProps clusteringProps;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ClusteringEngineType type() {
+        return ClusteringEngineType.LOCAL;
+    }
+
+    @Override
+    public ClusteringRefreshResponse cluster(UserSource userSource) {
+        long startedNanos = System.nanoTime();
+
+        UserFeatures features = new UserFeatures();
+        userSource.forEachBatch(batch -> batch.forEach(features::add));
+
+        int parallelism =
+                clusteringProps.getParallelism() > 0
+                        ? clusteringProps.getParallelism()
+                        : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        KMeans.Result result;
+
+        try {
+            result =
+                    KMeans.fit(
+                            features.toMatrix(),
+                            features.size,
+                            features.dims(),
+                            clusteringProps.getClusterCount(),
+                            clusteringProps.getMaxIterations(),
+                            clusteringProps.getTolerance(),
+                            new Random(clusteringProps.getRandomSeed()),
+                            pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        saveClusterIds(features.userIds, result.assignments());
+
+        Map<Integer, Integer> clusterSizes = new LinkedHashMap<>();
+        for (int cluster = 0; cluster < result.clusterSizes().length; cluster++) {
+            clusterSizes.put(cluster, result.clusterSizes()[cluster]);
+        }
+
+        Map<Long, Integer> userClusters = new HashMap<>(features.size * 2);
+        for (int row = 0; row < features.size; row++) {
+            userClusters.put(features.userIds[row], result.assignments()[row]);
+        }
+
+        log.info(
+                "로컬 클러스터링 - 유저수: {}, 특징 차원: {}, 반복: {}, 소요: {}ms",
+                features.size,
+                features.dims(),
+                result.iterations(),
+                (System.nanoTime() - startedNanos) / 1_000_000);
+
+        return new ClusteringRefreshResponse(
+                features.size,
+                clusterSizes.size(),
+                (float) result.inertia(),
+                clusterSizes,
+                userClusters);
+    }
+
+    private void saveClusterIds(long[] userIds, int[] assignments) {
+        List<Object[]> args = new ArrayList<>(UPDATE_BATCH_SIZE);
+
+        for (int row = 0; row < assignments.length; row++) {
+            args.add(new Object[] {assignments[row], userIds[row]});
+
+            if (args.size() == UPDATE_BATCH_SIZE || row == assignments.length - 1) {
+                jdbcTemplate.batchUpdate(UPDATE_CLUSTER_ID_SQL, args);
+                args.clear();
+            }
+        }
+    }
+
+    // 배치로 들어오는 유저 특징을 기본형 배열에 모은다
+    private static final class UserFeatures {
+
+        private static final int NUMERIC_FEATURES = 3; // 나이, 학번, 참여 횟수
+
+        private final Map<String, Integer> categoryIndex = new HashMap<>();
+
+        private long[] userIds = new long[1024];
+        private float[] ages = new float[1024];
+        private float[] enrollNumbers = new float[1024];
+        private float[] joinCounts = new float[1024];
+        private int[] categoryOffsets = new int[1025];
+        private int[] categories = new int[1024];
+        private int size;
+
+        private void add(ClusteringUserData data) {
+            if (size == userIds.length) {
+                int capacity = size * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                ages = Arrays.copyOf(ages, capacity);
+                enrollNumbers = Arrays.copyOf(enrollNumbers, capacity);
+                joinCounts = Arrays.copyOf(joinCounts, capacity);
+                categoryOffsets = Arrays.copyOf(categoryOffsets, capacity + 1);
+            }
+
+            List<String> names = data.getPreferredCategories();
+            int categoryCount = categoryOffsets[size];
+
+            if (names != null) {
+                if (categoryCount + names.size() > categories.length) {
+                    categories =
+                            Arrays.copyOf(
+                                    categories,
+                                    Math.max(categories.length * 2, categoryCount + names.size()));
+                }
+                for (String name : names) {
+                    categories[categoryCount++] =
+                            categoryIndex.computeIfAbsent(name, k -> categoryIndex.size());
+                }
+            }
+
+            userIds[size] = data.getUserId();
+            ages[size] = valueOrNaN(data.getAge());
+            enrollNumbers[size] = valueOrNaN(data.getEnrollNumber());
+            joinCounts[size] =
+                    data.getUserJoinCount() == null
+                            ? Float.NaN
+                            : (float) Math.log1p(data.getUserJoinCount());
+            categoryOffsets[size + 1] = categoryCount;
+            size++;
+        }
+
+        private int dims() {
+            return categoryIndex.size() + NUMERIC_FEATURES;
+        }
+
+        private float[] toMatrix() {
+            int dims = dims();
+            float[] matrix = new float[size * dims];
+
+            for (int row = 0; row < size; row++) {
+                for (int c = categoryOffsets[row]; c < categoryOffsets[row + 1]; c++) {
+                    matrix[row * dims + categories[c]] = 1f;
+                }
+            }
+
+            int numericColumn = categoryIndex.size();
+            scaleInto(ages, matrix, numericColumn, dims);
+            scaleInto(enrollNumbers, matrix, numericColumn + 1, dims);
+            scaleInto(joinCounts, matrix, numericColumn + 2, dims);
+
+            return matrix;
+        }
+
+        // min-max 로 0~1 에 맞춰 column 열에 쓴다. 값이 없는 행은 맞춘 값들의 평균으로 채운다
+        private void scaleInto(float[] values, float[] matrix, int column, int dims) {
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            double sum = 0;
+            int present = 0;
+
+            for (int row = 0; row < size; row++) {
+                if (!Float.isNaN(values[row])) {
+                    min = Math.min(min, values[row]);
+                    max = Math.max(max, values[row]);
+                    sum += values[row];
+                    present++;
+                }
+            }
+
+            float range = max - min;
+            float mean = present == 0 || range == 0 ? 0 : (float) ((sum / present - min) / range);
+
+            for (int row = 0; row < size; row++) {
+                float value = values[row];
+                matrix[row * dims + column] =
+                        Float.isNaN(value) ? mean : range == 0 ? 0 : (value - min) / range;
+            }
+        }
+
+        private static float valueOrNaN(Integer value) {
+            return value == null ? Float.NaN : value;
+        }
+    }
+}
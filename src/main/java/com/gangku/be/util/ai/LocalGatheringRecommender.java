@@ -0,0 +1,216 @@
+package com.gangku.be.util.ai;
+
+import com.gangku.be.config.ai.ItemSimilarityProps;
+import com.gangku.be.config.ai.LocalRecommenderProps;
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.domain.User;
+import com.gangku.be.model.action.GatheringEngagement;
+import com.gangku.be.repository.GatheringEngagementRollupRepository;
+import com.gangku.be.repository.ParticipationRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 없이 후보 모임 순위를 매기는 휴리스틱 추천기.
+ *
+ * <p>선호 카테고리 일치, 과거 참여 카테고리 분포, 최근 참여 모임과의 유사도(협업 필터링), 인기(최근 클릭/참여 집계), 최신성을 각각 0~1 로
+ * 맞춘 뒤 가중합한다. 후보를 한 번 훑어 특징을 기본형 배열로 만들어 두고 점수는 배열끼리만 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalGatheringRecommender {
+
+    private static final int SHADOW_QUEUE_CAPACITY = 64;
+
+    private final ParticipationRepository participationRepository;
+    private final LocalRecommenderProps localRecommenderProps;
+    private final ItemSimilarityIndex itemSimilarityIndex;
+    private final ItemSimilarityProps itemSimilarityProps;
+    private final GatheringEngagementRollupRepository engagementRollupRepository;
+
+    // 섀도 비교는 응답에 쓰지 않으므로 요청 스레드 대신 한 스레드에서 돌리고, 밀리면 새 비교는 버린다
+    private final ExecutorService shadowExecutor =
+            new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(SHADOW_QUEUE_CAPACITY),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "recommend-shadow");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    public List<Long> rank(User user, List<Gathering> candidates) {
+        int size = candidates.size();
+        long[] gatheringIds = new long[size];
+        long[] categoryIds = new long[size];
+        double[] engagements = new double[size];
+        double[] ageDays = new double[size];
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Double> recentEngagement = recentEngagement(candidates, now);
+        double maxEngagement = 0;
+
+        for (int i = 0; i < size; i++) {
+            Gathering gathering = candidates.get(i);
+            gatheringIds[i] = gathering.getId();
+            categoryIds[i] = gathering.getCategory() == null ? -1 : gathering.getCategory().getId();
+            engagements[i] =
+                    recentEngagement.isEmpty()
+                            ? gathering.getParticipantCount()
+                            : recentEngagement.getOrDefault(gathering.getId(), 0.0);
+            ageDays[i] = ageInDays(gathering.getCreatedAt(), now);
+            maxEngagement = Math.max(maxEngagement, engagements[i]);
+        }
+
+        long preferredCategoryMask = user.getPreferredCategoryMask();
+        Map<Long, Double> categoryAffinity = categoryAffinity(user.getId());
+        Map<Long, Double> neighborScores = neighborScores(user.getId());
+        double maxNeighborScore =
+                neighborScores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+
+        double[] scores = new double[size];
+        double popularityScale = Math.log1p(maxEngagement);
+        double recencyDecay = Math.log(2) / localRecommenderProps.getRecencyHalfLifeDays();
+
+        for (int i = 0; i < size; i++) {
+            double preferred =
+                    Category.maskContains(preferredCategoryMask, categoryIds[i]) ? 1 : 0;
+            double affinity = categoryAffinity.getOrDefault(categoryIds[i], 0.0);
+            double collaborative =
+                    maxNeighborScore == 0
+                            ? 0
+                            : neighborScores.getOrDefault(gatheringIds[i], 0.0) / maxNeighborScore;
+            double popularity =
+                    popularityScale == 0 ? 0 : Math.log1p(engagements[i]) / popularityScale;
+            double recency = Math.exp(-recencyDecay * ageDays[i]);
+
+            scores[i] =
+                    localRecommenderProps.getPreferredCategoryWeight() * preferred
+                            + localRecommenderProps.getCategoryAffinityWeight() * affinity
+                            + localRecommenderProps.getCollaborativeWeight() * collaborative
+                            + localRecommenderProps.getPopularityWeight() * popularity
+                            + localRecommenderProps.getRecencyWeight() * recency;
+        }
+
+        // 점수가 같으면 최신 모임(id 큰 쪽)을 앞에 둔다
+        return IntStream.range(0, size)
+                .boxed()
+                .sorted(
+                        (a, b) ->
+                                scores[a] != scores[b]
+                                        ? Double.compare(scores[b], scores[a])
+                                        : Long.compare(gatheringIds[b], gatheringIds[a]))
+                .map(i -> gatheringIds[i])
+                .toList();
+    }
+
+    // AI 순위와 로컬 순위의 상위 N개 겹침 비율과 로컬 계산 시간을 남긴다. 요청 스레드는 기다리지 않는다
+    public void shadowCompare(
+            User user, List<Gathering> candidates, List<Long> aiRankedIds, long aiNanos) {
+        try {
+            shadowExecutor.execute(() -> compare(user, candidates, aiRankedIds, aiNanos));
+        } catch (RejectedExecutionException e) {
+            log.debug("추천 섀도 비교 건너뜀 - 대기열이 가득 참. userId={}", user.getId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        shadowExecutor.shutdownNow();
+    }
+
+    private void compare(
+            User user, List<Gathering> candidates, List<Long> aiRankedIds, long aiNanos) {
+        try {
+            long startedNanos = System.nanoTime();
+            List<Long> localRankedIds = rank(user, candidates);
+            long localNanos = System.nanoTime() - startedNanos;
+
+            int topN = localRecommenderProps.getShadowTopN();
+            Set<Long> aiTop =
+                    new HashSet<>(aiRankedIds.subList(0, Math.min(topN, aiRankedIds.size())));
+            long overlap = localRankedIds.stream().limit(topN).filter(aiTop::contains).count();
+
+            log.info(
+                    "추천 섀도 비교 - userId: {}, 후보수: {}, 상위 {} 겹침: {}, AI: {}ms, 로컬: {}ms",
+                    user.getId(),
+                    candidates.size(),
+                    topN,
+                    aiTop.isEmpty() ? 0 : (double) overlap / aiTop.size(),
+                    Duration.ofNanos(aiNanos).toMillis(),
+                    Duration.ofNanos(localNanos).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("추천 섀도 비교 실패. message={}", e.getMessage());
+        }
+    }
+
+    // 후보별 최근 클릭/참여를 원본 로그 대신 시간 단위 집계 테이블에서 더한다. 집계가 없으면 빈 맵
+    private Map<Long, Double> recentEngagement(List<Gathering> candidates, LocalDateTime now) {
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> candidateIds = candidates.stream().map(Gathering::getId).toList();
+        LocalDateTime since = now.minusDays(localRecommenderProps.getPopularityLookbackDays());
+        double joinWeight = localRecommenderProps.getPopularityJoinWeight();
+
+        Map<Long, Double> engagement = new HashMap<>();
+        for (GatheringEngagement row :
+                engagementRollupRepository.sumEngagementSince(candidateIds, since)) {
+            engagement.put(row.gatheringId(), row.clicks() + joinWeight * row.joins());
+        }
+
+        return engagement;
+    }
+
+    // 최근 참여한 모임들과 함께 참여된 모임일수록 점수가 높다
+    private Map<Long, Double> neighborScores(Long userId) {
+        List<Long> seedIds =
+                participationRepository.findRecentJoinedGatheringIds(
+                        userId, PageRequest.of(0, itemSimilarityProps.getSeedSize()));
+
+        return seedIds.isEmpty() ? Map.of() : itemSimilarityIndex.scoreNeighbors(seedIds);
+    }
+
+    // 참여 횟수를 가장 많이 참여한 카테고리 기준 0~1 로 맞춘다
+    private Map<Long, Double> categoryAffinity(Long userId) {
+        List<Object[]> rows = participationRepository.countApprovedParticipationByCategory(userId);
+
+        long maxCount = rows.stream().mapToLong(row -> (Long) row[1]).max().orElse(0);
+        Map<Long, Double> affinity = new HashMap<>();
+
+        for (Object[] row : rows) {
+            affinity.put((Long) row[0], (double) (Long) row[1] / maxCount);
+        }
+
+        return affinity;
+    }
+
+    private static double ageInDays(LocalDateTime createdAt, LocalDateTime now) {
+        if (createdAt == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(createdAt, now).toMinutes() / (24.0 * 60));
+    }
+}
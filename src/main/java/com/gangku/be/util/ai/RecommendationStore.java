@@ -0,0 +1,37 @@
+package com.gangku.be.util.ai;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/** 유저별로 미리 계산한 추천 모임 id 목록 (순서 유지). */
+@Component
+@RequiredArgsConstructor
+public class RecommendationStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void save(Long userId, List<Long> gatheringIds, Duration timeToLive) {
+        String value = gatheringIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        stringRedisTemplate.opsForValue().set(recommendationKey(userId), value, timeToLive);
+    }
+
+    // 미리 계산한 목록이 없으면 빈 목록
+    public List<Long> find(Long userId) {
+        String value = stringRedisTemplate.opsForValue().get(recommendationKey(userId));
+
+        if (value == null || value.isEmpty()) {
+            return List.of();
+        }
+
+        return Arrays.stream(value.split(",")).map(Long::valueOf).toList();
+    }
+
+    private static String recommendationKey(Long userId) {
+        return "ai:recommend:user:" + userId;
+    }
+}
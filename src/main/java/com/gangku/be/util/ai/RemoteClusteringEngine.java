@@ -0,0 +1,50 @@
+package com.gangku.be.util.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gangku.be.constant.ai.ClusteringEngineType;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.ai.ClusteringRefreshResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/** 유저 특징을 NDJSON 스트림으로 AI 서버에 보내 클러스터링한다. 유저별 클러스터는 AI 서버가 들고 있는다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RemoteClusteringEngine implements ClusteringEngine {
+
+    private final AiApiClient aiApiClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public ClusteringEngineType type() {
+        return ClusteringEngineType.REMOTE;
+    }
+
+    @Override
+    public ClusteringRefreshResponse cluster(UserSource userSource) {
+        return aiApiClient.refreshClusteringStream(
+                outputStream -> writeClusteringUsers(userSource, outputStream));
+    }
+
+    private void writeClusteringUsers(UserSource userSource, OutputStream outputStream) {
+        int exportedCount =
+                userSource.forEachBatch(
+                        batch -> batch.forEach(data -> writeLine(outputStream, data)));
+
+        log.info("클러스터링 내보내기 완료 - 유저수: {}", exportedCount);
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
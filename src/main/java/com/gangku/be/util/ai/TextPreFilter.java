@@ -0,0 +1,105 @@
+package com.gangku.be.util.ai;
+
+import com.gangku.be.config.ai.TextFilterProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 텍스트 필터 앞단의 로컬 사전 필터.
+ *
+ * <p>정규화한 텍스트에 금칙어가 한 단어로 들어 있으면 바로 차단하고, 아주 짧은 텍스트는 바로 허용한다. 금칙어가 다른 단어의 일부로만
+ * 나오면("시발점") 오탐일 수 있으므로 AI 서버에 맡긴다. 판정 결과는 ai.text.filter.prefilter 카운터로, 절약한 AI 호출 비율은
+ * ai.text.filter.prefilter.saved.ratio 게이지로 내보낸다.
+ */
+@Component
+public class TextPreFilter {
+
+    public enum Verdict {
+        BLOCKED,
+        SAFE,
+        UNDECIDED
+    }
+
+    private static final String METRIC_NAME = "ai.text.filter.prefilter";
+
+    private final TextFilterProps textFilterProps;
+    private final AhoCorasickMatcher blocklistMatcher;
+
+    private final Counter blockedCounter;
+    private final Counter safeCounter;
+    private final Counter forwardedCounter;
+    private final Counter suspectCounter;
+
+    public TextPreFilter(TextFilterProps textFilterProps, MeterRegistry meterRegistry) {
+        this.textFilterProps = textFilterProps;
+        this.blocklistMatcher =
+                AhoCorasickMatcher.of(
+                        textFilterProps.getBlocklist().stream()
+                                .map(KoreanTextNormalizer::normalize)
+                                .toList());
+
+        this.blockedCounter = verdictCounter(meterRegistry, "blocked");
+        this.safeCounter = verdictCounter(meterRegistry, "safe");
+        this.forwardedCounter = verdictCounter(meterRegistry, "forwarded");
+        this.suspectCounter = verdictCounter(meterRegistry, "suspect");
+
+        Gauge.builder(METRIC_NAME + ".saved.ratio", this, TextPreFilter::savedRatio)
+                .description("로컬 사전 필터로 생략한 AI 텍스트 필터 호출 비율")
+                .register(meterRegistry);
+    }
+
+    public Verdict screen(String text) {
+        if (!textFilterProps.isPrefilterEnabled()) {
+            forwardedCounter.increment();
+            return Verdict.UNDECIDED;
+        }
+
+        String normalized = KoreanTextNormalizer.normalize(text);
+
+        if (!blocklistMatcher.isEmpty()) {
+            if (blocklistMatcher.matchesWholeWord(
+                    normalized, KoreanTextNormalizer.WORD_SEPARATOR)) {
+                blockedCounter.increment();
+                return Verdict.BLOCKED;
+            }
+
+            if (blocklistMatcher.matches(normalized)) {
+                suspectCounter.increment();
+                return Verdict.UNDECIDED;
+            }
+        }
+
+        if (isTriviallyShort(text)) {
+            safeCounter.increment();
+            return Verdict.SAFE;
+        }
+
+        forwardedCounter.increment();
+        return Verdict.UNDECIDED;
+    }
+
+    private boolean isTriviallyShort(String text) {
+        if (text == null) {
+            return true;
+        }
+
+        long length =
+                text.codePoints().filter(codePoint -> !Character.isWhitespace(codePoint)).count();
+        return length <= textFilterProps.getTriviallySafeMaxLength();
+    }
+
+    private double savedRatio() {
+        double saved = blockedCounter.count() + safeCounter.count();
+        double total = saved + forwardedCounter.count() + suspectCounter.count();
+        return total == 0 ? 0 : saved / total;
+    }
+
+    private static Counter verdictCounter(MeterRegistry meterRegistry, String verdict) {
+        return Counter.builder(METRIC_NAME)
+                .description("로컬 사전 필터 판정 횟수")
+                .tag("verdict", verdict)
+                .register(meterRegistry);
+    }
+}
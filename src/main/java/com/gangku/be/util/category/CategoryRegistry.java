@@ -0,0 +1,134 @@
+package com.gangku.be.util.category;
+
+import com.gangku.be.domain.Category;
+import com.gangku.be.model.category.CategoryCatalog;
+import com.gangku.be.repository.CategoryRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 카테고리 테이블 전체를 메모리에 들고 이름 -> 엔티티, 이름 정렬 목록, 선호 카테고리 비트마스크 풀이를 DB 조회 없이 처리한다.
+ *
+ * <p>카테고리는 거의 바뀌지 않으므로 기동할 때 한 번 읽어 불변 스냅샷으로 만들고, 바뀌면 새 스냅샷을 통째로 만들어 참조만 갈아 끼운다(copy-on-write).
+ * 읽는 쪽은 락 없이 그 시점의 스냅샷 하나만 본다. 한 노드에서 {@link #publishChange()} 를 부르면 Redis 채널로 알려 다른 노드도 다시 읽는다.
+ *
+ * <p>들고 있는 {@link Category} 는 준영속 상태다. 연관관계 FK 로 쓰거나 이름을 읽는 용도로만 쓰고 값을 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry implements MessageListener {
+
+    public static final String CHANGED_CHANNEL = "category:changed";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+        reload();
+    }
+
+    public Optional<Category> findByName(String name) {
+        return Optional.ofNullable(snapshot().byName().get(name));
+    }
+
+    public CategoryCatalog catalog() {
+        return snapshot().catalog();
+    }
+
+    // 선호 카테고리 비트마스크를 카테고리 id 오름차순 이름 목록으로 푼다. 모르는 비트는 건너뛴다
+    public List<String> namesOf(long mask) {
+        if (mask == 0L) {
+            return List.of();
+        }
+
+        String[] names = snapshot().namesById();
+        List<String> result = new ArrayList<>(Long.bitCount(mask));
+        for (long rest = mask; rest != 0L; rest &= rest - 1) {
+            String name = names[Long.numberOfTrailingZeros(rest)];
+            if (name != null) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    // 카테고리를 바꾼 노드에서 부른다. 자기 스냅샷을 먼저 바꾸고 다른 노드에 알린다
+    public void publishChange() {
+        reload();
+        stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, "reload");
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("카테고리 레지스트리 갱신 실패. message={}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized Snapshot reload() {
+        List<Category> categories = categoryRepository.findAllByOrderByNameAsc();
+
+        Map<String, Category> byName = new HashMap<>(categories.size() * 2);
+        String[] namesById = new String[Category.MAX_MASK_CATEGORY_ID];
+        List<String> sortedNames = new ArrayList<>(categories.size());
+
+        for (Category category : categories) {
+            byName.put(category.getName(), category);
+            sortedNames.add(category.getName());
+
+            Long id = category.getId();
+            if (id != null && id >= 1 && id <= Category.MAX_MASK_CATEGORY_ID) {
+                namesById[(int) (id - 1)] = category.getName();
+            }
+        }
+
+        String eTag =
+                "\""
+                        + DigestUtils.md5DigestAsHex(
+                                String.join("\n", sortedNames).getBytes(StandardCharsets.UTF_8))
+                        + "\"";
+
+        Snapshot loaded =
+                new Snapshot(
+                        Map.copyOf(byName),
+                        namesById,
+                        new CategoryCatalog(List.copyOf(sortedNames), eTag));
+        snapshot = loaded;
+
+        log.info("카테고리 레지스트리 갱신 - 카테고리수: {}, eTag: {}", sortedNames.size(), eTag);
+        return loaded;
+    }
+
+    // 기동 이벤트 전에 들어온 요청은 그 자리에서 읽는다
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    // namesById 는 index = 카테고리 id - 1 이고 만든 뒤에는 바꾸지 않는다
+    private record Snapshot(
+            Map<String, Category> byName, String[] namesById, CategoryCatalog catalog) {}
+}
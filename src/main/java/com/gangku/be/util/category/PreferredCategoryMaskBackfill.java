@@ -0,0 +1,92 @@
+package com.gangku.be.util.category;
+
+import com.gangku.be.domain.Category;
+import com.gangku.be.repository.PreferredCategoryRepository;
+import com.gangku.be.repository.UserRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code users.preferred_category_mask} 컬럼이 생기기 전에 선호 카테고리를 저장한 유저의 비트마스크를 선호 카테고리 행으로 채운다.
+ *
+ * <p>마스크가 0 인데 선호 카테고리 행이 있는 유저만 고르므로 여러 번, 여러 노드에서 돌아도 결과가 같다. 다 채운 뒤에는 첫 페이지 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreferredCategoryMaskBackfill {
+
+    private static final int USER_BATCH_SIZE = 500;
+
+    private static final String UPDATE_MASK_SQL =
+            "UPDATE users SET preferred_category_mask = ? WHERE id = ?";
+
+    private final UserRepository userRepository;
+    private final PreferredCategoryRepository preferredCategoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기동을 늦추지 않도록 별도 스레드에서 한 번 돈다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        Thread thread =
+                new Thread(
+                        () -> {
+                            try {
+                                backfill();
+                            } catch (RuntimeException e) {
+                                log.warn(
+                                        "선호 카테고리 비트마스크 채우기 실패. message={}",
+                                        e.getMessage(),
+                                        e);
+                            }
+                        },
+                        "preferred-category-mask-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 비트마스크를 채운 유저수를 돌려준다
+    public int backfill() {
+        long lastUserId = 0L;
+        int updatedCount = 0;
+        List<Long> userIds;
+
+        do {
+            userIds =
+                    userRepository.findUnmaskedPreferredUserIdsAfter(
+                            lastUserId, PageRequest.of(0, USER_BATCH_SIZE));
+
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Long> masks = new HashMap<>();
+            for (Object[] row : preferredCategoryRepository.findCategoryIdsByUserIdIn(userIds)) {
+                masks.merge((Long) row[0], Category.maskBit((Long) row[1]), (a, b) -> a | b);
+            }
+
+            List<Object[]> args =
+                    masks.entrySet().stream()
+                            .map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+                            .toList();
+            jdbcTemplate.batchUpdate(UPDATE_MASK_SQL, args);
+
+            lastUserId = userIds.get(userIds.size() - 1);
+            updatedCount += args.size();
+        } while (userIds.size() == USER_BATCH_SIZE);
+
+        if (updatedCount > 0) {
+            log.info("선호 카테고리 비트마스크 채우기 - 유저수: {}", updatedCount);
+        }
+
+        return updatedCount;
+    }
+}
@@ -0,0 +1,107 @@
+package com.gangku.be.util.datasource;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 로그인한 유저가 쓰기 트랜잭션을 커밋하면 잠깐 동안 그 유저의 읽기를 프라이머리로 보내, 레플리카가 따라잡기 전에 방금 쓴 내용이 안 보이는 일을 막는다.
+ *
+ * <p>커밋 시각은 Redis 에 TTL 키로 남겨 다른 노드로 간 다음 요청도 같은 판단을 하게 한다. 한 요청 안에서는 한 번 확인한 결과를 요청 속성에 두고
+ * 다시 묻지 않는다. Redis 를 못 쓰면 안전한 쪽(프라이머리)으로 읽는다.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "db:recent-write:user:";
+    private static final String ATTRIBUTE = ReadYourWritesTracker.class.getName();
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    // 지금 트랜잭션이 커밋되면 현재 유저를 최근에 쓴 유저로 남긴다
+    public void recordOnCommit() {
+        Long userId = currentUserId();
+        if (userId == null
+                || window.isZero()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        remember(true);
+                        try {
+                            redisTemplate.opsForValue().set(keyOf(userId), "1", window);
+                        } catch (RuntimeException e) {
+                            log.warn(
+                                    "최근 쓰기 기록 실패 - userId: {}, message={}",
+                                    userId,
+                                    e.getMessage());
+                        }
+                    }
+                });
+    }
+
+    public boolean hasRecentWrite() {
+        Long userId = currentUserId();
+        if (userId == null || window.isZero()) {
+            return false;
+        }
+
+        Boolean remembered = remembered();
+        if (remembered != null) {
+            return remembered;
+        }
+
+        boolean recent;
+        try {
+            recent = Boolean.TRUE.equals(redisTemplate.hasKey(keyOf(userId)));
+        } catch (RuntimeException e) {
+            recent = true;
+        }
+
+        remember(recent);
+        return recent;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    private static Boolean remembered() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        return (Boolean) requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private static void remember(boolean recent) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(ATTRIBUTE, recent, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
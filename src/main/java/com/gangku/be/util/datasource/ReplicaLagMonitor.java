@@ -0,0 +1,161 @@
+package com.gangku.be.util.datasource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 레플리카마다 복제 지연을 주기적으로 재서 지금 읽기를 맡겨도 되는 레플리카 목록을 들고 있다.
+ *
+ * <p>지연 쿼리가 실패하거나, 복제 상태 행이 없거나(복제가 설정되지 않음), 지연 값이 NULL(복제 중단)이거나 허용치를 넘으면 빠진다. 다음 확인에서
+ * 따라잡으면 다시 들어온다. 레플리카 커넥션 풀도 이 모니터가 들고 있다가 종료할 때 닫는다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, JdbcTemplate> jdbcTemplates = new LinkedHashMap<>();
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final long checkIntervalMillis;
+
+    private ScheduledExecutorService checker;
+    private volatile List<String> availableReplicas = List.of();
+    private volatile boolean running;
+
+    public ReplicaLagMonitor(
+            Map<String, DataSource> replicas,
+            String lagQuery,
+            String lagColumn,
+            long maxLagSeconds,
+            long checkIntervalMillis) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMillis = checkIntervalMillis;
+
+        replicas.forEach(
+                (name, dataSource) -> jdbcTemplates.put(name, new JdbcTemplate(dataSource)));
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    public List<String> availableReplicas() {
+        return availableReplicas;
+    }
+
+    @Override
+    public void start() {
+        // 첫 확인이 끝나기 전에는 모든 읽기가 프라이머리로 간다
+        checkAll();
+
+        checker =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "replica-lag-monitor");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+
+        running = true;
+
+        checker.scheduleWithFixedDelay(
+                this::checkAll, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        availableReplicas = List.of();
+
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+
+        replicas.values().forEach(ReplicaLagMonitor::closeQuietly);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void checkAll() {
+        List<String> available = new ArrayList<>();
+        jdbcTemplates.forEach(
+                (name, jdbcTemplate) -> {
+                    if (isCaughtUp(name, jdbcTemplate)) {
+                        available.add(name);
+                    }
+                });
+
+        if (!available.equals(availableReplicas)) {
+            log.info("읽기 레플리카 변경 - 사용: {}, 전체: {}", available, jdbcTemplates.keySet());
+        }
+
+        availableReplicas = List.copyOf(available);
+    }
+
+    private boolean isCaughtUp(String name, JdbcTemplate jdbcTemplate) {
+        try {
+            Long lagSeconds = lagSecondsOf(jdbcTemplate);
+
+            if (lagSeconds == null) {
+                log.warn("레플리카 복제 상태를 알 수 없음 - replica: {}", name);
+                return false;
+            }
+
+            if (lagSeconds > maxLagSeconds) {
+                log.warn("레플리카 복제 지연 - replica: {}, lag: {}s", name, lagSeconds);
+                return false;
+            }
+
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("레플리카 지연 확인 실패 - replica: {}, message={}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private Long lagSecondsOf(JdbcTemplate jdbcTemplate) {
+        if (!StringUtils.hasText(lagQuery)) {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return 0L;
+        }
+
+        return jdbcTemplate.query(
+                lagQuery,
+                resultSet -> {
+                    if (!resultSet.next()) {
+                        return null;
+                    }
+
+                    long lagSeconds = resultSet.getLong(lagColumn);
+                    return resultSet.wasNull() ? null : lagSeconds;
+                });
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("레플리카 커넥션 풀 종료 실패. message={}", e.getMessage());
+            }
+        }
+    }
+}
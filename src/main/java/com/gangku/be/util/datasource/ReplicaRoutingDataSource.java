@@ -0,0 +1,60 @@
+package com.gangku.be.util.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@code @Transactional(readOnly = true)} 트랜잭션을 레플리카로, 나머지는 프라이머리로 보낸다.
+ *
+ * <p>트랜잭션의 readOnly 여부는 트랜잭션이 시작된 뒤에야 정해지므로 반드시 {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서, 첫 SQL 을 보낼 때 커넥션을
+ * 고르게 한다. 지연이 허용치 안인 레플리카가 없거나 유저가 방금 쓴 데이터를 읽어야 하면 readOnly 라도 프라이머리로 읽는다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.recordOnCommit();
+            return PRIMARY;
+        }
+
+        if (readYourWritesTracker.hasRecentWrite()) {
+            return PRIMARY;
+        }
+
+        List<String> available = replicaLagMonitor.availableReplicas();
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+
+        // 쓸 수 있는 레플리카끼리 돌아가며 나눠 받는다
+        return available.get(Math.floorMod(cursor.getAndIncrement(), available.size()));
+    }
+}
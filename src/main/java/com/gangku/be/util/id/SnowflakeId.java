@@ -0,0 +1,17 @@
+package com.gangku.be.util.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * INSERT 전에 {@link SnowflakeIdGenerator} 로 id 를 채운다.
+ *
+ * <p>IDENTITY 와 달리 INSERT 결과를 기다리지 않고 id 를 알 수 있으므로 Hibernate 가 JDBC 배치로 묶어 보낸다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {}
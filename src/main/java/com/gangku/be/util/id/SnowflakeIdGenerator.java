@@ -0,0 +1,115 @@
+package com.gangku.be.util.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 커지는 53비트 id 를 만든다. [밀리초 타임스탬프 41비트 | 노드 5비트 | 시퀀스 7비트]
+ *
+ * <p>노드 번호는 {@link SnowflakeNodeLease} 가 Redis 에서 임대해 넣어 주므로, 같은 번호를 두 인스턴스가 동시에 쓰지 않아 인스턴스끼리 겹치지
+ * 않는다. 53비트 안에 들어가서 JSON 숫자로 내보내도 JavaScript 에서 정밀도를 잃지 않고, {@code PrefixedId} 외부 표기도 그대로 쓴다.
+ *
+ * <p>한 밀리초에 시퀀스(128개)를 다 쓰거나 시계가 뒤로 가면 기다리지 않고 마지막 타임스탬프를 이어 써서 단조 증가를 지킨다.
+ *
+ * <p>임대에는 마감 시각이 있어서, 연장 소식이 늦어지더라도 마감 시각 이후의 타임스탬프로는 id 를 만들지 않는다. 임대를 잃은 걸 연장 스레드가 알아채기
+ * 전에 다른 인스턴스가 같은 번호로 발급을 시작해도 겹치지 않게 하기 위해서다.
+ */
+public final class SnowflakeIdGenerator {
+
+    // 2025-01-01T00:00:00Z. 여기서부터 41비트(약 69년)를 쓴다
+    public static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final int TIMESTAMP_BITS = 41;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    private static final SnowflakeIdGenerator SHARED =
+            new SnowflakeIdGenerator(System::currentTimeMillis);
+
+    private final LongSupplier clock;
+
+    private volatile int nodeId = -1;
+    private volatile long leaseDeadlineMillis = Long.MAX_VALUE;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    SnowflakeIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static SnowflakeIdGenerator shared() {
+        return SHARED;
+    }
+
+    // 마감 없이 번호를 정한다 (임대 빈이 없는 슬라이스 테스트, 벤치마크용)
+    public void assignNode(int nodeId) {
+        assignNode(nodeId, Long.MAX_VALUE);
+    }
+
+    public void assignNode(int nodeId, long leaseDeadlineMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호 범위를 벗어남: " + nodeId);
+        }
+        // 번호보다 마감을 먼저 써야 새 번호가 옛 마감으로 발급되는 순간이 없다
+        this.leaseDeadlineMillis = leaseDeadlineMillis;
+        this.nodeId = nodeId;
+    }
+
+    public void extendLease(long leaseDeadlineMillis) {
+        this.leaseDeadlineMillis = leaseDeadlineMillis;
+    }
+
+    // 임대를 잃으면 다른 인스턴스가 같은 번호를 받을 수 있으므로 다시 받을 때까지 발급을 멈춘다
+    public void releaseNode() {
+        this.nodeId = -1;
+    }
+
+    public int nodeId() {
+        return nodeId;
+    }
+
+    // 마지막으로 만든 id 의 타임스탬프(epoch 밀리초). 아직 만들지 않았으면 -1
+    public synchronized long lastTimestampMillis() {
+        return lastTimestamp < 0 ? -1L : lastTimestamp + EPOCH_MILLIS;
+    }
+
+    public synchronized long nextId() {
+        int node = nodeId;
+        if (node < 0) {
+            throw new IllegalStateException("노드 번호를 임대하기 전에는 id 를 만들 수 없다");
+        }
+
+        long timestamp = clock.getAsLong() - EPOCH_MILLIS;
+        long nextSequence;
+
+        if (timestamp > lastTimestamp) {
+            nextSequence = 0;
+        } else {
+            timestamp = lastTimestamp;
+            nextSequence = (sequence + 1) & MAX_SEQUENCE;
+            if (nextSequence == 0) {
+                timestamp++;
+            }
+        }
+
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("id 타임스탬프 범위를 벗어남");
+        }
+
+        // 시퀀스를 당겨 쓴 타임스탬프도 마감을 넘기면 안 되므로 시계가 아니라 만들 id 의 타임스탬프로 본다
+        if (timestamp + EPOCH_MILLIS >= leaseDeadlineMillis) {
+            throw new IllegalStateException("노드 번호 임대가 연장되지 않아 id 를 만들 수 없다");
+        }
+
+        lastTimestamp = timestamp;
+        sequence = nextSequence;
+
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) node << SEQUENCE_BITS)
+                | sequence;
+    }
+}
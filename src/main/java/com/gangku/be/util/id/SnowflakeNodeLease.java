@@ -0,0 +1,295 @@
+package com.gangku.be.util.id;
+
+import com.gangku.be.config.id.SnowflakeIdProps;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link SnowflakeIdGenerator} 의 노드 번호를 Redis 에서 임대하고 주기적으로 연장한다.
+ *
+ * <p>다른 빈보다 먼저 시작하고(웹 서버보다 앞) 가장 나중에 멈춘다. 연장하다 다른 인스턴스가 번호를 가져간 걸 보면 발급을 멈추고 새 번호를 다시 받는다.
+ * Redis 응답이 늦거나 끊겨도 생성기는 연장 호출 직전 시각 + 임대 시간 - 여유 시간을 넘겨서는 발급하지 않으므로, 임대가 끝난 뒤 다른 인스턴스와
+ * 겹치지 않는다.
+ *
+ * <p>키 값은 {@code 토큰:임대 만료 시각:마지막 id 시각} 이고 만료 여부는 Redis 시계로 본다. 만료된 번호를 받으면 이전 임자가 남긴 마지막 id
+ * 시각을 내 시계가 지날 때까지 기다린 뒤 발급한다. 이전 임자가 남긴 시각을 지키려고 키에는 TTL 을 두지 않는다.
+ */
+@Slf4j
+@Component
+public class SnowflakeNodeLease implements SmartLifecycle {
+
+    private static final String NODE_KEY_PREFIX = "id:snowflake:node:";
+
+    // 비었거나 만료된 번호면 내 토큰으로 가져가고 이전 임자의 마지막 id 시각을 돌려준다. 남이 쓰는 중이면 -1
+    private static final String REDIS_CLAIM_SCRIPT =
+            """
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local last = 0
+      local current = redis.call('GET', KEYS[1])
+      if current then
+        local owner, leaseUntil, lastTimestamp =
+            string.match(current, '^([^:]+):(%d+):(%d+)$')
+        if not owner or tonumber(leaseUntil) > now then
+          return -1
+        end
+        last = tonumber(lastTimestamp)
+      end
+      redis.call('SET', KEYS[1],
+          string.format('%s:%d:%d', ARGV[1], now + tonumber(ARGV[2]), last))
+      return last
+    """;
+
+    // 내 토큰이고 아직 만료 전일 때만 연장하면서 마지막 id 시각을 남긴다
+    private static final String REDIS_RENEW_SCRIPT =
+            """
+      local current = redis.call('GET', KEYS[1])
+      if not current then
+        return 0
+      end
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local owner, leaseUntil, last = string.match(current, '^([^:]+):(%d+):(%d+)$')
+      if owner ~= ARGV[1] or tonumber(leaseUntil) <= now then
+        return 0
+      end
+      last = math.max(tonumber(last), tonumber(ARGV[3]))
+      redis.call('SET', KEYS[1],
+          string.format('%s:%d:%d', ARGV[1], now + tonumber(ARGV[2]), last))
+      return 1
+    """;
+
+    // 내 토큰일 때만 바로 만료시키고, 다음 임자가 기다릴 마지막 id 시각은 남긴다
+    private static final String REDIS_RELEASE_SCRIPT =
+            """
+      local current = redis.call('GET', KEYS[1])
+      if not current then
+        return 0
+      end
+      local owner, leaseUntil, last = string.match(current, '^([^:]+):(%d+):(%d+)$')
+      if owner ~= ARGV[1] then
+        return 0
+      end
+      last = math.max(tonumber(last), tonumber(ARGV[2]))
+      redis.call('SET', KEYS[1], string.format('%s:0:%d', ARGV[1], last))
+      return 1
+    """;
+
+    static final DefaultRedisScript<Long> CLAIM_SCRIPT =
+            new DefaultRedisScript<>(REDIS_CLAIM_SCRIPT, Long.class);
+    static final DefaultRedisScript<Long> RENEW_SCRIPT =
+            new DefaultRedisScript<>(REDIS_RENEW_SCRIPT, Long.class);
+    static final DefaultRedisScript<Long> RELEASE_SCRIPT =
+            new DefaultRedisScript<>(REDIS_RELEASE_SCRIPT, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final Duration leaseTime;
+    private final Duration leaseMargin;
+    private final String token = UUID.randomUUID().toString();
+
+    private ScheduledExecutorService renewer;
+    private volatile int nodeId = -1;
+    private volatile long leaseDeadlineMillis;
+    private volatile boolean running;
+
+    @Autowired
+    public SnowflakeNodeLease(
+            StringRedisTemplate stringRedisTemplate, SnowflakeIdProps snowflakeIdProps) {
+        this(
+                stringRedisTemplate,
+                SnowflakeIdGenerator.shared(),
+                Duration.ofSeconds(snowflakeIdProps.getNodeLeaseSeconds()),
+                Duration.ofMillis(snowflakeIdProps.getNodeLeaseMarginMillis()));
+    }
+
+    SnowflakeNodeLease(
+            StringRedisTemplate stringRedisTemplate,
+            SnowflakeIdGenerator snowflakeIdGenerator,
+            Duration leaseTime,
+            Duration leaseMargin) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.leaseTime = leaseTime;
+        this.leaseMargin = leaseMargin;
+    }
+
+    @Override
+    public void start() {
+        // 번호 없이 뜨면 INSERT 가 모두 실패하므로 여기서 못 받으면 기동을 멈춘다
+        if (!claim()) {
+            throw new IllegalStateException("비어 있는 id 노드 번호가 없음");
+        }
+
+        renewer =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "snowflake-node-lease");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+
+        running = true;
+
+        long renewIntervalMillis = Math.max(1, leaseTime.toMillis() / 3);
+        renewer.scheduleWithFixedDelay(
+                this::renew, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        if (renewer != null) {
+            renewer.shutdownNow();
+        }
+
+        snowflakeIdGenerator.releaseNode();
+
+        if (nodeId >= 0) {
+            release(nodeId);
+            nodeId = -1;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 다른 빈이 시작(웹 서버, 워커)하기 전에 번호를 받고, 모두 멈춘 뒤에 반납한다
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    void renew() {
+        try {
+            if (nodeId < 0) {
+                claim();
+                return;
+            }
+
+            // 응답이 늦게 와도 마감이 뒤로 밀리지 않도록 호출 전에 잰다
+            long startedMillis = System.currentTimeMillis();
+
+            Long renewed =
+                    stringRedisTemplate.execute(
+                            RENEW_SCRIPT,
+                            List.of(keyOf(nodeId)),
+                            token,
+                            String.valueOf(leaseTime.toMillis()),
+                            String.valueOf(snowflakeIdGenerator.lastTimestampMillis()));
+
+            if (renewed != null && renewed == 1L) {
+                leaseDeadlineMillis = deadlineFrom(startedMillis);
+                snowflakeIdGenerator.extendLease(leaseDeadlineMillis);
+                return;
+            }
+
+            log.warn("id 노드 번호 임대를 잃음 - node: {}", nodeId);
+            snowflakeIdGenerator.releaseNode();
+            nodeId = -1;
+            claim();
+        } catch (RuntimeException e) {
+            log.warn("id 노드 번호 연장 실패 - node: {}, message={}", nodeId, e.getMessage());
+
+            // 발급은 생성기가 마감에서 스스로 멈추므로, 여기서는 마감이 지난 번호를 버리고 다음 주기에 새로 받는다
+            if (nodeId >= 0 && System.currentTimeMillis() >= leaseDeadlineMillis) {
+                snowflakeIdGenerator.releaseNode();
+                nodeId = -1;
+            }
+        }
+    }
+
+    // 노드끼리 같은 번호부터 다투지 않도록 임의의 위치에서 찾기 시작한다
+    private boolean claim() {
+        int nodeCount = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        int offset = ThreadLocalRandom.current().nextInt(nodeCount);
+
+        for (int i = 0; i < nodeCount; i++) {
+            int candidate = (offset + i) % nodeCount;
+
+            long startedMillis = System.currentTimeMillis();
+
+            Long previousLastMillis =
+                    stringRedisTemplate.execute(
+                            CLAIM_SCRIPT,
+                            List.of(keyOf(candidate)),
+                            token,
+                            String.valueOf(leaseTime.toMillis()));
+
+            if (previousLastMillis == null || previousLastMillis < 0) {
+                continue;
+            }
+
+            long deadlineMillis = deadlineFrom(startedMillis);
+            if (!waitPast(previousLastMillis, deadlineMillis)) {
+                log.warn(
+                        "이전 임자의 마지막 id 시각을 임대 안에 지나지 못해 건너뜀 - node: {}, lastTimestamp: {}",
+                        candidate,
+                        previousLastMillis);
+                release(candidate);
+                continue;
+            }
+
+            nodeId = candidate;
+            leaseDeadlineMillis = deadlineMillis;
+            snowflakeIdGenerator.assignNode(candidate, deadlineMillis);
+            log.info("id 노드 번호 임대 - node: {}", candidate);
+            return true;
+        }
+
+        log.warn("비어 있는 id 노드 번호가 없음");
+        return false;
+    }
+
+    // 이전 임자가 시계를 앞질러 만든 id 와 겹치지 않도록 내 시계가 그 시각을 지날 때까지 기다린다
+    private boolean waitPast(long timestampMillis, long deadlineMillis) {
+        if (timestampMillis >= deadlineMillis) {
+            return false;
+        }
+
+        long now;
+        while ((now = System.currentTimeMillis()) <= timestampMillis) {
+            try {
+                Thread.sleep(timestampMillis - now + 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void release(int node) {
+        try {
+            stringRedisTemplate.execute(
+                    RELEASE_SCRIPT,
+                    List.of(keyOf(node)),
+                    token,
+                    String.valueOf(snowflakeIdGenerator.lastTimestampMillis()));
+        } catch (RuntimeException e) {
+            log.warn("id 노드 번호 반납 실패 - node: {}, message={}", node, e.getMessage());
+        }
+    }
+
+    private long deadlineFrom(long startedMillis) {
+        return startedMillis + leaseTime.toMillis() - leaseMargin.toMillis();
+    }
+
+    private static String keyOf(int nodeId) {
+        return NODE_KEY_PREFIX + nodeId;
+    }
+}
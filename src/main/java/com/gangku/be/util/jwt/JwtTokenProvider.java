@@ -1,5 +1,6 @@
 package com.gangku.be.util.jwt;
 
+import com.gangku.be.config.auth.AdminProps;
 import com.gangku.be.constant.auth.TokenProperty;
 import com.gangku.be.constant.id.ResourceType;
 import com.gangku.be.exception.CustomException;
@@ -11,19 +12,26 @@ import io.jsonwebtoken.security.Keys;
 import java.security.Key;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final List<SimpleGrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final Key signingKey;
+    private final AdminProps adminProps;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret, AdminProps adminProps) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.adminProps = adminProps;
     }
 
     public String generateAccessToken(String userId) {
@@ -64,7 +72,12 @@ public class JwtTokenProvider {
         String subject = claims.getSubject();
         Long userId = PrefixedId.parse(subject).require(ResourceType.USER);
 
-        return new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+        return new UsernamePasswordAuthenticationToken(
+                userId,
+                null,
+                adminProps.getUserIds().contains(userId)
+                        ? ADMIN_AUTHORITIES
+                        : Collections.emptyList());
     }
 
     public Long extractUserIdFromRefreshToken(String refreshToken) {
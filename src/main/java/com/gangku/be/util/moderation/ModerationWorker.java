@@ -0,0 +1,204 @@
+package com.gangku.be.util.moderation;
+
+import com.gangku.be.config.moderation.ModerationProps;
+import com.gangku.be.domain.ModerationTask;
+import com.gangku.be.dto.ai.request.TextFilterRequestDto;
+import com.gangku.be.dto.ai.response.TextFilterResponseDto;
+import com.gangku.be.exception.CustomException;
+import com.gangku.be.exception.constant.CommonErrorCode;
+import com.gangku.be.exception.constant.GatheringErrorCode;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.service.ModerationService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+/**
+ * 검수 대기 작업을 주기적으로 선점해서 AI 필터에 병렬로 보내고, 결과에 따라 게시/반려를 반영한다.
+ *
+ * <p>app.moderation.async-enabled=true 일 때만 시작된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModerationWorker implements SmartLifecycle {
+
+    private final ModerationService moderationService;
+    private final AiApiClient aiApiClient;
+    private final ModerationProps moderationProps;
+
+    private ScheduledExecutorService poller;
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        AtomicInteger workerSequence = new AtomicInteger();
+
+        workers =
+                Executors.newFixedThreadPool(
+                        moderationProps.getWorkerThreads(),
+                        runnable ->
+                                daemonThread(
+                                        runnable,
+                                        "moderation-worker-" + workerSequence.incrementAndGet()));
+        poller =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> daemonThread(runnable, "moderation-poller"));
+
+        running = true;
+
+        poller.scheduleWithFixedDelay(
+                this::pollSafely,
+                moderationProps.getPollIntervalMillis(),
+                moderationProps.getPollIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        poller.shutdownNow();
+        workers.shutdown();
+
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return moderationProps.isAsyncEnabled();
+    }
+
+    private void pollSafely() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.warn("검수 작업 폴링 실패. message={}", e.getMessage(), e);
+        }
+    }
+
+    // 가득 찬 배치가 나오면 쌓인 작업이 있다는 뜻이므로 대기 없이 바로 다음 배치를 가져온다
+    private void drain() {
+        List<ModerationTask> batch;
+
+        do {
+            batch = moderationService.claimBatch();
+
+            CompletableFuture<?>[] futures =
+                    batch.stream()
+                            .map(task -> CompletableFuture.runAsync(() -> moderate(task), workers))
+                            .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } while (running && batch.size() >= moderationProps.getBatchSize());
+    }
+
+    void moderate(ModerationTask task) {
+        // 선점이 만료돼 한도를 넘겨 다시 잡힌 작업은 AI 를 다시 부르지 않고 바로 정리한다
+        if (task.getAttempts() > moderationProps.getMaxAttempts()) {
+            rejectExhausted(task);
+            return;
+        }
+
+        try {
+            moderationService.applyResult(task, isAllowed(task));
+        } catch (RuntimeException e) {
+            if (isOutage(e)) {
+                log.warn(
+                        "AI 서버 장애로 검수를 미룸. taskId={}, deferrals={}, message={}",
+                        task.getId(),
+                        task.getDeferrals(),
+                        e.getMessage());
+                deferForOutage(task);
+                return;
+            }
+
+            log.warn(
+                    "검수 요청 실패. taskId={}, attempts={}, message={}",
+                    task.getId(),
+                    task.getAttempts(),
+                    e.getMessage());
+
+            if (task.getAttempts() >= moderationProps.getMaxAttempts()) {
+                rejectExhausted(task);
+            } else {
+                releaseClaim(task);
+            }
+        }
+    }
+
+    private boolean isAllowed(ModerationTask task) {
+        try {
+            TextFilterResponseDto textFilterResponseDto =
+                    aiApiClient.filterText(new TextFilterRequestDto(task.getText()));
+
+            return textFilterResponseDto.isAllowed();
+        } catch (CustomException e) {
+            // AI 서버가 400으로 응답하면 동기 모드와 마찬가지로 부적절한 콘텐츠로 본다
+            if (e.getErrorCode() == GatheringErrorCode.INVALID_GATHERING_CONTENT) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    // 타임아웃, 연결 실패, 5xx, 열린 회로는 AI 서버 쪽 문제라 콘텐츠 판정으로 보지 않는다
+    private boolean isOutage(RuntimeException e) {
+        return e instanceof WebClientException
+                || (e instanceof CustomException customException
+                        && customException.getErrorCode() == CommonErrorCode.AI_SERVICE_ERROR);
+    }
+
+    // 선점을 풀어두면 대기 시간이 지난 뒤 폴링에서 재시도된다. 이것마저 실패하면 선점이 만료된 뒤 다시 가져간다
+    private void releaseClaim(ModerationTask task) {
+        try {
+            moderationService.releaseClaim(task);
+        } catch (RuntimeException e) {
+            log.warn("검수 작업 선점 해제 실패. taskId={}, message={}", task.getId(), e.getMessage());
+        }
+    }
+
+    private void deferForOutage(ModerationTask task) {
+        try {
+            moderationService.deferForOutage(task);
+        } catch (RuntimeException e) {
+            log.warn("검수 작업 미루기 실패. taskId={}, message={}", task.getId(), e.getMessage());
+        }
+    }
+
+    // 한도를 다 쓴 작업을 남겨두면 대상이 검수 대기로 영영 숨겨지므로 반려로 끝낸다
+    private void rejectExhausted(ModerationTask task) {
+        try {
+            moderationService.rejectExhausted(task);
+        } catch (RuntimeException e) {
+            log.warn("검수 작업 종료 처리 실패. taskId={}, message={}", task.getId(), e.getMessage());
+        }
+    }
+
+    private static Thread daemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,20 @@
+package com.gangku.be.util.scheduler;
+
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.service.ActionLogRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ActionLogRetentionScheduler {
+    private final ActionLogRetentionService actionLogRetentionService;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Scheduled(cron = "0 30 3 * * *") // 매일 새벽 3시 30분
+    public void purgeExpiredLogs() {
+        scheduledJobRunner.run(
+                ScheduledJob.ACTION_LOG_RETENTION, actionLogRetentionService::purgeExpiredLogs);
+    }
+}
@@ -1,6 +1,11 @@
 package com.gangku.be.util.scheduler;
 
+import com.gangku.be.constant.scheduler.JobOutcome;
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.domain.JobRunHistory;
 import com.gangku.be.service.ClusteringService;
+import com.gangku.be.service.RecommendationPrecomputeService;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,15 +16,41 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ClusteringScheduler {
     private final ClusteringService clusteringService;
+    private final RecommendationPrecomputeService recommendationPrecomputeService;
+    private final ScheduledJobRunner scheduledJobRunner;
 
+    // 여러 노드가 떠 있어도 락을 잡은 한 노드만 실행한다.
+    // 앞 단계가 이 노드에서 성공했을 때만 다음 단계로 넘어가서, 락을 못 잡았거나 실패한 단계 뒤에 낡은 입력으로 다음 단계를 돌리지 않는다
     @Scheduled(cron = "0 0 5 * * *") // 매일 새벽 5시
     public void refreshClustering() {
-        clusteringService.refreshClustering();
-        clusteringService.refreshPopularity();
+        Optional<JobRunHistory> clustering =
+                scheduledJobRunner.run(
+                        ScheduledJob.CLUSTERING_REFRESH, clusteringService::refreshClustering);
+
+        if (succeeded(clustering)) {
+            refreshPopularity();
+        }
     }
 
     @Scheduled(cron = "0 0 */2 * * *") // 2시간마다
     public void refreshPopularity() {
-        clusteringService.refreshPopularity();
+        Optional<JobRunHistory> popularity =
+                scheduledJobRunner.run(
+                        ScheduledJob.POPULARITY_REFRESH, clusteringService::refreshPopularity);
+
+        if (succeeded(popularity)) {
+            precomputeRecommendations();
+        }
+    }
+
+    // 클러스터/인기도가 바뀐 뒤 활동 유저의 추천 목록을 다시 계산한다
+    private void precomputeRecommendations() {
+        scheduledJobRunner.run(
+                ScheduledJob.RECOMMENDATION_PRECOMPUTE,
+                recommendationPrecomputeService::precomputeRecommendations);
+    }
+
+    private static boolean succeeded(Optional<JobRunHistory> history) {
+        return history.map(run -> run.getOutcome() == JobOutcome.SUCCESS).orElse(false);
     }
 }
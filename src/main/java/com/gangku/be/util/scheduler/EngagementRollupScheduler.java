@@ -0,0 +1,21 @@
+package com.gangku.be.util.scheduler;
+
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.service.EngagementRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EngagementRollupScheduler {
+    private final EngagementRollupService engagementRollupService;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분
+    public void compactHourlyBuckets() {
+        scheduledJobRunner.run(
+                ScheduledJob.ENGAGEMENT_ROLLUP_COMPACTION,
+                engagementRollupService::compactHourlyBuckets);
+    }
+}
@@ -0,0 +1,34 @@
+package com.gangku.be.util.scheduler;
+
+import com.gangku.be.util.ai.ItemSimilarityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 인덱스가 노드 메모리에 있으므로 분산 락 없이 노드마다 각자 만든다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSimilarityScheduler {
+    private final ItemSimilarityIndex itemSimilarityIndex;
+
+    // 기동을 늦추지 않도록 별도 스레드에서 처음 한 번 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread thread = new Thread(this::rebuild, "item-similarity-startup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(cron = "0 0 4 * * *") // 매일 새벽 4시
+    public void rebuild() {
+        try {
+            itemSimilarityIndex.rebuild();
+        } catch (RuntimeException e) {
+            log.warn("모임 유사도 인덱스 갱신 실패. message={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.gangku.be.util.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/** Redis SET NX PX 로 잡는 임대(lease) 락. 토큰이 일치할 때만 풀 수 있다. */
+@Component
+@RequiredArgsConstructor
+public class JobLeaseLock {
+
+    private static final String LOCK_KEY_PREFIX = "scheduler:lock:";
+
+    // 내 토큰일 때만 푼다. 최소 유지 시간이 남아 있으면 바로 지우지 않고 그만큼 뒤에 만료되게 한다
+    private static final String REDIS_RELEASE_LOCK_SCRIPT =
+            """
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        local keepMillis = tonumber(ARGV[2])
+        if keepMillis > 0 then
+          return redis.call('PEXPIRE', KEYS[1], keepMillis)
+        end
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+    """;
+
+    // 내 토큰일 때만 만료 시간을 다시 늘린다
+    private static final String REDIS_RENEW_LOCK_SCRIPT =
+            """
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2]))
+      end
+      return 0
+    """;
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT =
+            new DefaultRedisScript<>(REDIS_RELEASE_LOCK_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT =
+            new DefaultRedisScript<>(REDIS_RENEW_LOCK_SCRIPT, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<String> tryAcquire(String lockKey, Duration lockAtMostFor) {
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired =
+                stringRedisTemplate
+                        .opsForValue()
+                        .setIfAbsent(LOCK_KEY_PREFIX + lockKey, token, lockAtMostFor);
+
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    // 다른 노드가 이미 락을 가져갔으면 false
+    public boolean renew(String lockKey, String token, Duration lockAtMostFor) {
+        Long renewed =
+                stringRedisTemplate.execute(
+                        RENEW_SCRIPT,
+                        List.of(LOCK_KEY_PREFIX + lockKey),
+                        token,
+                        String.valueOf(lockAtMostFor.toMillis()));
+
+        return renewed != null && renewed == 1L;
+    }
+
+    public void release(String lockKey, String token, Duration keepFor) {
+        long keepMillis = Math.max(0, keepFor.toMillis());
+
+        stringRedisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(LOCK_KEY_PREFIX + lockKey),
+                token,
+                String.valueOf(keepMillis));
+    }
+}
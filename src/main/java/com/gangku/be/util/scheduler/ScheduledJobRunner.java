@@ -0,0 +1,123 @@
+package com.gangku.be.util.scheduler;
+
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.domain.JobRunHistory;
+import com.gangku.be.repository.JobRunHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final JobLeaseLock jobLeaseLock;
+    private final JobRunHistoryRepository jobRunHistoryRepository;
+
+    // 작업이 lockAtMostFor 보다 오래 걸려도 다른 노드가 같은 작업을 겹쳐 실행하지 않도록 실행 중에 락을 연장한다
+    private final ScheduledExecutorService leaseRenewer =
+            Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "job-lease-renewer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    /**
+     * 락을 잡은 노드에서만 작업을 실행하고 실행 이력을 남긴다.
+     *
+     * @param task AI 서버로 보낸 행 수를 돌려주는 작업
+     * @return 이번 실행 이력. 다른 노드가 실행 중이라 락을 못 잡았으면 비어 있다
+     */
+    public Optional<JobRunHistory> run(ScheduledJob job, IntSupplier task) {
+        return run(job, task, job.getLockAtMostFor().dividedBy(3));
+    }
+
+    Optional<JobRunHistory> run(ScheduledJob job, IntSupplier task, Duration renewEvery) {
+        Optional<String> token = jobLeaseLock.tryAcquire(job.getLockKey(), job.getLockAtMostFor());
+
+        if (token.isEmpty()) {
+            log.info("예약 작업 건너뜀 - 다른 노드가 실행 중. job={}", job);
+            return Optional.empty();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startedNanos = System.nanoTime();
+        JobRunHistory history;
+
+        long renewMillis = Math.max(1, renewEvery.toMillis());
+        ScheduledFuture<?> renewal =
+                leaseRenewer.scheduleWithFixedDelay(
+                        () -> renewLease(job, token.get()),
+                        renewMillis,
+                        renewMillis,
+                        TimeUnit.MILLISECONDS);
+
+        try {
+            int rowsShipped = task.getAsInt();
+            history =
+                    JobRunHistory.success(
+                            job, NODE_ID, startedAt, elapsedMillis(startedNanos), rowsShipped);
+            log.info(
+                    "예약 작업 완료. job={}, rowsShipped={}, durationMillis={}",
+                    job,
+                    rowsShipped,
+                    history.getDurationMillis());
+        } catch (RuntimeException e) {
+            history =
+                    JobRunHistory.failure(
+                            job, NODE_ID, startedAt, elapsedMillis(startedNanos), e.getMessage());
+            log.error("예약 작업 실패. job={}, message={}", job, e.getMessage(), e);
+        } finally {
+            renewal.cancel(false);
+            Duration keepFor =
+                    job.getLockAtLeastFor().minusMillis(elapsedMillis(startedNanos));
+            jobLeaseLock.release(job.getLockKey(), token.get(), keepFor);
+        }
+
+        saveHistory(history);
+        return Optional.of(history);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    // 연장에 실패해도 작업은 끝까지 돌린다. 락을 잃었으면 다른 노드와 겹칠 수 있다는 것만 남긴다
+    private void renewLease(ScheduledJob job, String token) {
+        try {
+            if (!jobLeaseLock.renew(job.getLockKey(), token, job.getLockAtMostFor())) {
+                log.warn("예약 작업 락을 잃음 - 다른 노드와 겹칠 수 있음. job={}", job);
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 작업 락 연장 실패. job={}, message={}", job, e.getMessage());
+        }
+    }
+
+    // 이력 저장 실패가 작업 결과를 바꾸지 않도록 로그만 남긴다
+    private void saveHistory(JobRunHistory history) {
+        try {
+            jobRunHistoryRepository.save(history);
+        } catch (RuntimeException e) {
+            log.warn("예약 작업 이력 저장 실패. job={}", history.getJobName(), e);
+        }
+    }
+
+    private long elapsedMillis(long startedNanos) {
+        return Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+    }
+}
@@ -0,0 +1,102 @@
+-- mysql/V1__baseline_schema.sql 과 같은 스키마의 H2 판 (로컬 개발, @DataJpaTest).
+-- 이미 있는 로컬 DB 파일은 baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용하므로, 이후 변경은 넣지 않는다.
+-- columnDefinition = "TEXT" 컬럼은 H2 에서 CLOB 이 되지 않도록 길이 없는 CHARACTER VARYING 으로 둔다.
+
+CREATE TABLE categories (
+    id         BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id                       BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    email                    VARCHAR(254) NOT NULL,
+    password                 VARCHAR(255) NOT NULL,
+    nickname                 VARCHAR(20)  NOT NULL,
+    age                      INTEGER,
+    gender                   VARCHAR(50),
+    enroll_number            INTEGER,
+    profile_image_object_key VARCHAR(255),
+    review_public            BOOLEAN,
+    refresh_token            VARCHAR(255),
+    refresh_expiry           TIMESTAMP(6),
+    created_at               TIMESTAMP(6),
+    updated_at               TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE preferred_categories (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id     BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_preferred_categories_user_category UNIQUE (user_id, category_id),
+    CONSTRAINT fk_preferred_categories_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_preferred_categories_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE gatherings (
+    id                         BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    host_id                    BIGINT       NOT NULL,
+    category_id                BIGINT       NOT NULL,
+    title                      VARCHAR(100) NOT NULL,
+    description                CHARACTER VARYING NOT NULL,
+    gathering_image_object_key VARCHAR(255),
+    capacity                   INTEGER      NOT NULL,
+    participant_count          INTEGER      NOT NULL,
+    date                       TIMESTAMP(6) NOT NULL,
+    location                   VARCHAR(255),
+    openchat_url               VARCHAR(50)  NOT NULL,
+    status                     ENUM('RECRUITING','FULL','FINISHED') NOT NULL,
+    created_at                 TIMESTAMP(6) NOT NULL,
+    updated_at                 TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_gatherings_openchat_url UNIQUE (openchat_url),
+    CONSTRAINT fk_gatherings_host FOREIGN KEY (host_id) REFERENCES users (id),
+    CONSTRAINT fk_gatherings_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE participations (
+    id           BIGINT      GENERATED BY DEFAULT AS IDENTITY,
+    user_id      BIGINT      NOT NULL,
+    gathering_id BIGINT      NOT NULL,
+    status       ENUM('APPROVED','PENDING','CANCELED') NOT NULL,
+    role         ENUM('HOST','GUEST') NOT NULL,
+    joined_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_participations_gathering_user UNIQUE (gathering_id, user_id),
+    CONSTRAINT fk_participations_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_participations_gathering FOREIGN KEY (gathering_id) REFERENCES gatherings (id)
+);
+
+CREATE TABLE reviews (
+    id           BIGINT      GENERATED BY DEFAULT AS IDENTITY,
+    reviewer_id  BIGINT      NOT NULL,
+    reviewee_id  BIGINT      NOT NULL,
+    gathering_id BIGINT      NOT NULL,
+    rating       INTEGER     NOT NULL,
+    content      CHARACTER VARYING,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reviews_gathering_reviewer_reviewee UNIQUE (gathering_id, reviewer_id, reviewee_id),
+    CONSTRAINT fk_reviews_reviewer FOREIGN KEY (reviewer_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_reviewee FOREIGN KEY (reviewee_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_gathering FOREIGN KEY (gathering_id) REFERENCES gatherings (id)
+);
+
+CREATE TABLE user_action_collection (
+    id           BIGINT      GENERATED BY DEFAULT AS IDENTITY,
+    user_id      BIGINT      NOT NULL,
+    gathering_id BIGINT      NOT NULL,
+    status       ENUM('JOIN','CLICK') NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_action_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_action_gathering FOREIGN KEY (gathering_id) REFERENCES gatherings (id)
+);
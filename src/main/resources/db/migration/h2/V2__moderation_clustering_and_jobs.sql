@@ -0,0 +1,58 @@
+-- mysql/V2__moderation_clustering_and_jobs.sql 의 H2 판.
+-- 스노우플레이크 id 를 직접 넣어도 GENERATED BY DEFAULT 컬럼은 그대로 받으므로 id 컬럼은 고치지 않는다.
+
+ALTER TABLE users ADD COLUMN pending_nickname VARCHAR(20) AFTER nickname;
+ALTER TABLE users ADD COLUMN cluster_id INTEGER AFTER review_public;
+ALTER TABLE users ADD COLUMN preferred_category_mask BIGINT NOT NULL DEFAULT 0 AFTER cluster_id;
+
+ALTER TABLE gatherings
+    ADD COLUMN moderation_status ENUM('PENDING_MODERATION','PUBLISHED','REJECTED') NOT NULL DEFAULT 'PUBLISHED' AFTER status;
+
+ALTER TABLE reviews
+    ADD COLUMN moderation_status ENUM('PENDING_MODERATION','PUBLISHED','REJECTED') NOT NULL DEFAULT 'PUBLISHED' AFTER content;
+
+CREATE INDEX idx_user_action_created_at ON user_action_collection (created_at);
+
+CREATE TABLE gathering_engagement_rollup (
+    id           BIGINT      GENERATED BY DEFAULT AS IDENTITY,
+    gathering_id BIGINT      NOT NULL,
+    granularity  ENUM('HOUR','DAY') NOT NULL,
+    bucket_start TIMESTAMP(6) NOT NULL,
+    clicks       BIGINT      NOT NULL,
+    joins        BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_engagement_rollup_bucket UNIQUE (gathering_id, granularity, bucket_start)
+);
+
+CREATE INDEX idx_engagement_rollup_bucket ON gathering_engagement_rollup (granularity, bucket_start);
+
+CREATE TABLE moderation_tasks (
+    id              BIGINT      GENERATED BY DEFAULT AS IDENTITY,
+    target_type     ENUM('REVIEW','GATHERING','NICKNAME') NOT NULL,
+    target_id       BIGINT      NOT NULL,
+    text            CHARACTER VARYING NOT NULL,
+    attempts        INTEGER     NOT NULL,
+    deferrals       INTEGER     NOT NULL DEFAULT 0,
+    claim_token     VARCHAR(36),
+    claimed_at      TIMESTAMP(6),
+    next_attempt_at TIMESTAMP(6),
+    created_at      TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_moderation_tasks_target ON moderation_tasks (target_type, target_id);
+CREATE INDEX idx_moderation_tasks_claimed_at ON moderation_tasks (claimed_at);
+
+CREATE TABLE job_run_history (
+    id              BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    job_name        ENUM('CLUSTERING_REFRESH','POPULARITY_REFRESH','POPULARITY_RESYNC','ENGAGEMENT_ROLLUP_COMPACTION','ACTION_LOG_RETENTION','RECOMMENDATION_PRECOMPUTE') NOT NULL,
+    node_id         VARCHAR(100) NOT NULL,
+    started_at      TIMESTAMP(6) NOT NULL,
+    duration_millis BIGINT       NOT NULL,
+    rows_shipped    INTEGER,
+    outcome         ENUM('SUCCESS','FAILED') NOT NULL,
+    error_message   VARCHAR(500),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_job_run_history_job ON job_run_history (job_name, id);
@@ -0,0 +1,102 @@
+-- ddl-auto: update 로 만들어 오던 스키마를 그대로 옮긴 기준 버전.
+-- 이미 운영 중인 DB 는 baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용하므로, 그 DB 와 똑같아야 하고 이후 변경은 넣지 않는다.
+-- @Enumerated(STRING) 컬럼은 Hibernate 가 MySQL 에서 만들던 대로 네이티브 ENUM 이므로 상수를 추가하면 마이그레이션도 함께 추가한다.
+
+CREATE TABLE categories (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(255) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id                       BIGINT       NOT NULL AUTO_INCREMENT,
+    email                    VARCHAR(254) NOT NULL,
+    password                 VARCHAR(255) NOT NULL,
+    nickname                 VARCHAR(20)  NOT NULL,
+    age                      INTEGER,
+    gender                   VARCHAR(50),
+    enroll_number            INTEGER,
+    profile_image_object_key VARCHAR(255),
+    review_public            BIT,
+    refresh_token            VARCHAR(255),
+    refresh_expiry           DATETIME(6),
+    created_at               DATETIME(6),
+    updated_at               DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE preferred_categories (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_preferred_categories_user_category UNIQUE (user_id, category_id),
+    CONSTRAINT fk_preferred_categories_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_preferred_categories_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE gatherings (
+    id                         BIGINT       NOT NULL AUTO_INCREMENT,
+    host_id                    BIGINT       NOT NULL,
+    category_id                BIGINT       NOT NULL,
+    title                      VARCHAR(100) NOT NULL,
+    description                TEXT         NOT NULL,
+    gathering_image_object_key VARCHAR(255),
+    capacity                   INTEGER      NOT NULL,
+    participant_count          INTEGER      NOT NULL,
+    date                       DATETIME(6)  NOT NULL,
+    location                   VARCHAR(255),
+    openchat_url               VARCHAR(50)  NOT NULL,
+    status                     ENUM ('RECRUITING','FULL','FINISHED') NOT NULL,
+    created_at                 DATETIME(6)  NOT NULL,
+    updated_at                 DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_gatherings_openchat_url UNIQUE (openchat_url),
+    CONSTRAINT fk_gatherings_host FOREIGN KEY (host_id) REFERENCES users (id),
+    CONSTRAINT fk_gatherings_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE participations (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT      NOT NULL,
+    gathering_id BIGINT      NOT NULL,
+    status       ENUM ('APPROVED','PENDING','CANCELED') NOT NULL,
+    role         ENUM ('HOST','GUEST') NOT NULL,
+    joined_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_participations_gathering_user UNIQUE (gathering_id, user_id),
+    CONSTRAINT fk_participations_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_participations_gathering FOREIGN KEY (gathering_id) REFERENCES gatherings (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reviews (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    reviewer_id  BIGINT      NOT NULL,
+    reviewee_id  BIGINT      NOT NULL,
+    gathering_id BIGINT      NOT NULL,
+    rating       INTEGER     NOT NULL,
+    content      TEXT,
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reviews_gathering_reviewer_reviewee UNIQUE (gathering_id, reviewer_id, reviewee_id),
+    CONSTRAINT fk_reviews_reviewer FOREIGN KEY (reviewer_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_reviewee FOREIGN KEY (reviewee_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_gathering FOREIGN KEY (gathering_id) REFERENCES gatherings (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_action_collection (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT      NOT NULL,
+    gathering_id BIGINT      NOT NULL,
+    status       ENUM ('JOIN','CLICK') NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_action_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_action_gathering FOREIGN KEY (gathering_id) REFERENCES gatherings (id)
+) ENGINE = InnoDB;
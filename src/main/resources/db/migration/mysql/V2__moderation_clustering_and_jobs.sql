@@ -0,0 +1,61 @@
+-- V1 기준 스키마 이후에 엔티티로 추가한 컬럼과 테이블.
+-- users, gatherings, participations, reviews, preferred_categories 의 id 는 이제 스노우플레이크 값을 직접 넣는다.
+-- 기존 DB 의 AUTO_INCREMENT 는 남겨 둬도 쓰이지 않고, 외래 키가 걸린 PK 를 고치지 않으려고 그대로 둔다.
+
+-- 닉네임 검수 대기, 클러스터 배정, 선호 카테고리 비트마스크
+ALTER TABLE users
+    ADD COLUMN pending_nickname VARCHAR(20) AFTER nickname,
+    ADD COLUMN cluster_id INTEGER AFTER review_public,
+    ADD COLUMN preferred_category_mask BIGINT NOT NULL DEFAULT 0 AFTER cluster_id;
+
+-- 기존 글은 이미 공개되어 있으므로 PUBLISHED 로 채운다
+ALTER TABLE gatherings
+    ADD COLUMN moderation_status ENUM ('PENDING_MODERATION','PUBLISHED','REJECTED') NOT NULL DEFAULT 'PUBLISHED' AFTER status;
+
+ALTER TABLE reviews
+    ADD COLUMN moderation_status ENUM ('PENDING_MODERATION','PUBLISHED','REJECTED') NOT NULL DEFAULT 'PUBLISHED' AFTER content;
+
+-- 보관 기간 정리가 created_at 순으로 끊어 읽는다
+CREATE INDEX idx_user_action_created_at
+    ON user_action_collection (created_at);
+
+CREATE TABLE gathering_engagement_rollup (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    gathering_id BIGINT      NOT NULL,
+    granularity  ENUM ('HOUR','DAY') NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    clicks       BIGINT      NOT NULL,
+    joins        BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_engagement_rollup_bucket UNIQUE (gathering_id, granularity, bucket_start),
+    INDEX idx_engagement_rollup_bucket (granularity, bucket_start)
+) ENGINE = InnoDB;
+
+CREATE TABLE moderation_tasks (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    target_type     ENUM ('REVIEW','GATHERING','NICKNAME') NOT NULL,
+    target_id       BIGINT      NOT NULL,
+    text            TEXT        NOT NULL,
+    attempts        INTEGER     NOT NULL,
+    deferrals       INTEGER     NOT NULL DEFAULT 0,
+    claim_token     VARCHAR(36),
+    claimed_at      DATETIME(6),
+    next_attempt_at DATETIME(6),
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_moderation_tasks_target (target_type, target_id),
+    INDEX idx_moderation_tasks_claimed_at (claimed_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE job_run_history (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    job_name        ENUM ('CLUSTERING_REFRESH','POPULARITY_REFRESH','POPULARITY_RESYNC','ENGAGEMENT_ROLLUP_COMPACTION','ACTION_LOG_RETENTION','RECOMMENDATION_PRECOMPUTE') NOT NULL,
+    node_id         VARCHAR(100) NOT NULL,
+    started_at      DATETIME(6)  NOT NULL,
+    duration_millis BIGINT       NOT NULL,
+    rows_shipped    INTEGER,
+    outcome         ENUM ('SUCCESS','FAILED') NOT NULL,
+    error_message   VARCHAR(500),
+    PRIMARY KEY (id),
+    INDEX idx_job_run_history_job (job_name, id)
+) ENGINE = InnoDB;
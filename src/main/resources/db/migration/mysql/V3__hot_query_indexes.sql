@@ -0,0 +1,41 @@
+-- 목록/프로필 화면의 조회마다 맞춘 복합 인덱스. 정렬 컬럼 뒤에 id 를 두어 (정렬값, id) 페이지 정렬까지 인덱스 순서로 끝내고,
+-- "status <> 'FINISHED'" 처럼 범위를 못 타는 조건 컬럼은 맨 뒤에 붙여 테이블을 읽지 않고 인덱스 안에서 거른다.
+
+-- GatheringRepository.findLatestGatherings, findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc
+CREATE INDEX idx_gatherings_feed_latest
+    ON gatherings (moderation_status, created_at, id, status);
+
+-- GatheringRepository.findPopularGatherings
+CREATE INDEX idx_gatherings_feed_popular
+    ON gatherings (moderation_status, participant_count, id, status);
+
+-- GatheringRepository.findLatestGatheringsByCategory, findTop50ByCategoryAndStatusNotAnd...
+CREATE INDEX idx_gatherings_category_latest
+    ON gatherings (category_id, moderation_status, created_at, id, status);
+
+-- GatheringRepository.findPopularGatheringsByCategory
+CREATE INDEX idx_gatherings_category_popular
+    ON gatherings (category_id, moderation_status, participant_count, id, status);
+
+-- GatheringRepository.findByHostId (createdAt desc, id desc)
+CREATE INDEX idx_gatherings_host_created
+    ON gatherings (host_id, created_at, id);
+
+-- ParticipationRepository.findByGatheringId (joinedAt desc, id desc)
+CREATE INDEX idx_participations_gathering_joined
+    ON participations (gathering_id, joined_at, id);
+
+-- ParticipationRepository.findJoinedGatheringsByUserId, findRecentJoinedGatheringIds,
+-- countApprovedParticipationByUserIdIn, countApprovedParticipationByCategory, findFinishedCommonGatheringIds.
+-- role 을 joined_at 뒤에 두어 role 을 고정하지 않는 최근 참여 조회도 같은 인덱스 순서로 읽는다
+CREATE INDEX idx_participations_user_status_joined
+    ON participations (user_id, status, joined_at, role, gathering_id);
+
+-- ParticipationRepository.countRecentJoinsByCluster
+CREATE INDEX idx_participations_status_joined
+    ON participations (status, joined_at, user_id, gathering_id);
+
+-- ReviewRepository.findByRevieweeId, findFirstPageByRevieweeId, findNextPageByRevieweeIdAndCursorDesc,
+-- countByRevieweeId, findAverageRatingByRevieweeId (rating 까지 넣어 평균도 인덱스만 읽는다)
+CREATE INDEX idx_reviews_reviewee_published
+    ON reviews (reviewee_id, moderation_status, created_at, id, rating);
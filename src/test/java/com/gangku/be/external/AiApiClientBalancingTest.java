@@ -0,0 +1,174 @@
+package com.gangku.be.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gangku.be.config.ai.AiServerProps;
+import com.gangku.be.config.ai.TextFilterProps;
+import com.gangku.be.dto.ai.request.TextFilterRequestDto;
+import com.gangku.be.dto.ai.response.TextFilterResponseDto;
+import com.gangku.be.exception.CustomException;
+import com.gangku.be.exception.constant.CommonErrorCode;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.external.ai.AiEndpointBalancer;
+import com.gangku.be.util.ai.TextPreFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Tag("unit")
+class AiApiClientBalancingTest {
+
+    private MockWebServer slowReplica;
+    private MockWebServer fastReplica;
+    private AiServerProps aiServerProps;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        slowReplica = new MockWebServer();
+        slowReplica.start();
+        fastReplica = new MockWebServer();
+        fastReplica.start();
+
+        aiServerProps = new AiServerProps();
+        aiServerProps.setBaseUrls(
+                List.of(slowReplica.url("/").toString(), fastReplica.url("/").toString()));
+        aiServerProps.setTextFilterPath("/api/ai/filter-text");
+        aiServerProps.getBalancer().setEjectAfterFailures(1);
+        aiServerProps.getHedge().setMinDelayMillis(50);
+        aiServerProps.getHedge().setMaxDelayMillis(50);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        slowReplica.shutdown();
+        fastReplica.shutdown();
+    }
+
+    @Test
+    @DisplayName("헤지 요청: 첫 복제본이 느리면 다른 복제본에 다시 보내 먼저 온 응답을 쓴다")
+    void filterText_hedgedToFasterReplica() {
+        // given
+        aiServerProps.getHedge().setEnabled(true);
+        AiApiClient aiApiClient = createClient();
+
+        slowReplica.enqueue(filterResponse(false).setHeadersDelay(3, TimeUnit.SECONDS));
+        fastReplica.enqueue(filterResponse(true));
+
+        // when
+        long startedAt = System.nanoTime();
+        TextFilterResponseDto response =
+                aiApiClient.filterText(new TextFilterRequestDto("같이 공부해요"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(response.isAllowed()).isTrue();
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(slowReplica.getRequestCount()).isEqualTo(1);
+        assertThat(fastReplica.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 요청: 첫 요청이 헤지 응답보다 먼저 실패해도 헤지 응답을 쓴다")
+    void filterText_primaryFailsFirst_hedgeResponseUsed() {
+        // given
+        aiServerProps.getHedge().setEnabled(true);
+        AiApiClient aiApiClient = createClient();
+
+        slowReplica.enqueue(
+                new MockResponse()
+                        .setResponseCode(500)
+                        .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        fastReplica.enqueue(filterResponse(true).setHeadersDelay(600, TimeUnit.MILLISECONDS));
+
+        // when
+        TextFilterResponseDto response =
+                aiApiClient.filterText(new TextFilterRequestDto("같이 공부해요"));
+
+        // then
+        assertThat(response.isAllowed()).isTrue();
+        assertThat(slowReplica.getRequestCount()).isEqualTo(1);
+        assertThat(fastReplica.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 요청: 두 요청이 모두 실패하면 AI 서버 오류로 끝난다")
+    void filterText_bothReplicasFail_aiServiceError() {
+        // given
+        aiServerProps.getHedge().setEnabled(true);
+        AiApiClient aiApiClient = createClient();
+
+        slowReplica.enqueue(
+                new MockResponse()
+                        .setResponseCode(500)
+                        .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        fastReplica.enqueue(new MockResponse().setResponseCode(500));
+
+        TextFilterRequestDto requestDto = new TextFilterRequestDto("같이 공부해요");
+
+        // when & then
+        assertThatThrownBy(() -> aiApiClient.filterText(requestDto))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(CommonErrorCode.AI_SERVICE_ERROR);
+        assertThat(fastReplica.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장애 복제본 제외: 5xx 를 돌려준 복제본은 잠시 후보에서 빠진다")
+    void filterText_failingReplicaEjected() {
+        // given
+        AiApiClient aiApiClient = createClient();
+
+        slowReplica.enqueue(new MockResponse().setResponseCode(500));
+        fastReplica.enqueue(filterResponse(true));
+        fastReplica.enqueue(filterResponse(true));
+        fastReplica.enqueue(filterResponse(true));
+
+        TextFilterRequestDto requestDto = new TextFilterRequestDto("같이 공부해요");
+
+        // when & then
+        assertThatThrownBy(() -> aiApiClient.filterText(requestDto))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(CommonErrorCode.AI_SERVICE_ERROR);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(aiApiClient.filterText(requestDto).isAllowed()).isTrue();
+        }
+
+        assertThat(slowReplica.getRequestCount()).isEqualTo(1);
+        assertThat(fastReplica.getRequestCount()).isEqualTo(3);
+    }
+
+    private AiApiClient createClient() {
+        WebClient webClient =
+                WebClient.builder()
+                        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .build();
+
+        return new AiApiClient(
+                webClient,
+                aiServerProps,
+                new TextPreFilter(new TextFilterProps(), new SimpleMeterRegistry()),
+                new AiEndpointBalancer(aiServerProps));
+    }
+
+    private MockResponse filterResponse(boolean allowed) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody("{\"allowed\": " + allowed + "}");
+    }
+}
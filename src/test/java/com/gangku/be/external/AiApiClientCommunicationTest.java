@@ -4,12 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.gangku.be.config.ai.AiServerProps;
+import com.gangku.be.config.ai.TextFilterProps;
+import com.gangku.be.dto.ai.request.IntroCreateRequestDto;
 import com.gangku.be.dto.ai.request.TextFilterRequestDto;
 import com.gangku.be.dto.ai.response.TextFilterResponseDto;
 import com.gangku.be.exception.CustomException;
 import com.gangku.be.exception.constant.CommonErrorCode;
 import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.external.ai.AiEndpointBalancer;
+import com.gangku.be.model.ai.ClusteringRefreshResponse;
+import com.gangku.be.util.ai.TextPreFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -20,6 +31,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Tag("unit")
@@ -39,8 +51,10 @@ class AiApiClientCommunicationTest {
         aiServerProps.setResponseTimeoutMillis(3000);
         aiServerProps.setTextFilterPath("/api/ai/filter-text");
         aiServerProps.setIntroPath("/api/ai/intro");
+        aiServerProps.setIntroStreamPath("/api/ai/intro/stream");
         aiServerProps.setRecommendationsPath("/api/ai/recommend");
         aiServerProps.setRefreshClusteringPath("/api/ai/clustering/refresh");
+        aiServerProps.setRefreshClusteringStreamPath("/api/ai/clustering/refresh/stream");
         aiServerProps.setRefreshPopularityPath("/api/ai/popularity/refresh");
 
         WebClient webClient =
@@ -49,7 +63,15 @@ class AiApiClientCommunicationTest {
                         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                         .build();
 
-        aiApiClient = new AiApiClient(webClient, aiServerProps);
+        TextFilterProps textFilterProps = new TextFilterProps();
+        textFilterProps.setBlocklist(List.of("나쁜말"));
+
+        aiApiClient =
+                new AiApiClient(
+                        webClient,
+                        aiServerProps,
+                        new TextPreFilter(textFilterProps, new SimpleMeterRegistry()),
+                        new AiEndpointBalancer(aiServerProps));
     }
 
     @AfterEach
@@ -137,4 +159,104 @@ class AiApiClientCommunicationTest {
                 .extracting("errorCode")
                 .isEqualTo(CommonErrorCode.AI_SERVICE_ERROR);
     }
+
+    @Test
+    @DisplayName("사전 필터: 금칙어를 특수문자로 감싸거나 자모로 풀어 써도 AI 서버 호출 없이 차단")
+    void filterText_blockedByPreFilter() {
+        // given
+        TextFilterRequestDto wrapped = new TextFilterRequestDto("이건 **나쁜말** 입니다");
+        TextFilterRequestDto decomposed = new TextFilterRequestDto("ㄴㅏㅃㅡㄴ말");
+
+        // when
+        TextFilterResponseDto wrappedResponse = aiApiClient.filterText(wrapped);
+        TextFilterResponseDto decomposedResponse = aiApiClient.filterText(decomposed);
+
+        // then
+        assertThat(wrappedResponse.isAllowed()).isFalse();
+        assertThat(decomposedResponse.isAllowed()).isFalse();
+        assertThat(mockWebServer.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("AI 스트리밍 성공: streamIntro 호출 시 SSE 토큰을 순서대로 흘려보낸다")
+    void streamIntro_success() throws Exception {
+        // given
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .setBody("data:같이\n\ndata: 공부해요\n\nevent:done\ndata:[DONE]\n\n"));
+
+        IntroCreateRequestDto requestDto =
+                new IntroCreateRequestDto(
+                        "스터디",
+                        "study",
+                        5,
+                        LocalDateTime.of(2026, 3, 25, 18, 0),
+                        "공학관",
+                        List.of("알고리즘"));
+
+        // when
+        List<ServerSentEvent<String>> events =
+                aiApiClient.streamIntro(requestDto).collectList().block();
+
+        // then
+        assertThat(events)
+                .extracting(ServerSentEvent::data)
+                .containsExactly("같이", "공부해요", "[DONE]");
+        assertThat(events.get(2).event()).isEqualTo("done");
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/api/ai/intro/stream");
+        assertThat(recordedRequest.getHeader(HttpHeaders.ACCEPT))
+                .isEqualTo(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Test
+    @DisplayName("클러스터링 스트림 업로드: NDJSON 을 gzip 으로 압축해 청크 전송한다")
+    void refreshClusteringStream_uploadsGzipNdjson() throws Exception {
+        // given
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .setBody(
+                                """
+                                {
+                                  "n_users": 2,
+                                  "n_clusters": 1,
+                                  "inertia": 0.5,
+                                  "cluster_sizes": {"0": 2}
+                                }
+                                """));
+
+        // when
+        ClusteringRefreshResponse response =
+                aiApiClient.refreshClusteringStream(
+                        outputStream -> {
+                            try {
+                                outputStream.write(
+                                        "{\"userId\":1}\n{\"userId\":2}\n"
+                                                .getBytes(StandardCharsets.UTF_8));
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+
+        // then
+        assertThat(response.nUsers()).isEqualTo(2);
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/api/ai/clustering/refresh/stream");
+        assertThat(recordedRequest.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(recordedRequest.getHeader(HttpHeaders.CONTENT_TYPE))
+                .startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(recordedRequest.getHeader(HttpHeaders.TRANSFER_ENCODING)).isEqualTo("chunked");
+
+        try (GZIPInputStream gzipInputStream =
+                new GZIPInputStream(recordedRequest.getBody().inputStream())) {
+            String body = new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(body.lines()).containsExactly("{\"userId\":1}", "{\"userId\":2}");
+        }
+    }
 }
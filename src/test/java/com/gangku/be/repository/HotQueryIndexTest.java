@@ -0,0 +1,360 @@
+package com.gangku.be.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.domain.User;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에 데이터를 채우고, 모임/참여/리뷰 리포지토리 메서드를 실제로 불러 Hibernate 가 만든 SQL 을 그대로
+ * EXPLAIN 해서 대상 테이블을 통째로 읽는 조회가 없는지 확인한다. 엔티티와 마이그레이션이 어긋나면 ddl-auto=validate 로 컨텍스트가 뜨지 않는다.
+ *
+ * <p>SQL 은 {@link CapturedSql} 가 세션 팩토리의 StatementInspector 로 가로채 모으므로, 쿼리나 정렬을 바꾸면 바뀐 SQL 로 검사한다.
+ */
+@Tag("unit")
+@DataJpaTest(
+        properties = {
+            "spring.jpa.hibernate.ddl-auto=validate",
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                    + "com.gangku.be.repository.HotQueryIndexTest$CapturedSql"
+        })
+class HotQueryIndexTest {
+
+    private static final String BASE_TIME = "TIMESTAMP '2026-01-01 00:00:00'";
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired EntityManager em;
+    @Autowired GatheringRepository gatheringRepository;
+    @Autowired ParticipationRepository participationRepository;
+    @Autowired ReviewRepository reviewRepository;
+
+    @BeforeEach
+    void seed() {
+        execute(
+                """
+                INSERT INTO categories (name, created_at, updated_at)
+                VALUES ('운동', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+                       ('스터디', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """);
+
+        execute(
+                """
+                INSERT INTO users (id, email, password, nickname, cluster_id,
+                                   preferred_category_mask, created_at, updated_at)
+                SELECT X, 'u' || X || '@test.com', 'pw', 'u' || X, MOD(X, 4), 0,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, 50)
+                """);
+
+        execute(
+                """
+                INSERT INTO gatherings (id, host_id, category_id, title, description, capacity,
+                                        participant_count, date, openchat_url, status,
+                                        moderation_status, created_at, updated_at)
+                SELECT X, MOD(X, 50) + 1, (SELECT MIN(id) FROM categories) + MOD(X, 2),
+                       't' || X, 'd', 10, MOD(X, 10) + 1, DATEADD('DAY', X, %s),
+                       'https://open.kakao.com/o/' || X,
+                       CASE MOD(X, 3) WHEN 0 THEN 'FINISHED' WHEN 1 THEN 'RECRUITING'
+                                      ELSE 'FULL' END,
+                       CASE WHEN MOD(X, 10) = 0 THEN 'PENDING_MODERATION' ELSE 'PUBLISHED' END,
+                       DATEADD('MINUTE', X, %s), DATEADD('MINUTE', X, %s)
+                FROM SYSTEM_RANGE(1, 200)
+                """
+                        .formatted(BASE_TIME, BASE_TIME, BASE_TIME));
+
+        // (모임, 유저) 가 겹치지 않도록 모임마다 서로 다른 유저 5명씩
+        execute(
+                """
+                INSERT INTO participations (id, user_id, gathering_id, status, role, joined_at)
+                SELECT X + 1, (X / 200) * 10 + MOD(X, 10) + 1, MOD(X, 200) + 1,
+                       CASE WHEN MOD(X, 5) = 0 THEN 'CANCELED' ELSE 'APPROVED' END,
+                       CASE WHEN X < 200 THEN 'HOST' ELSE 'GUEST' END,
+                       DATEADD('MINUTE', X, %s)
+                FROM SYSTEM_RANGE(0, 999)
+                """
+                        .formatted(BASE_TIME));
+
+        execute(
+                """
+                INSERT INTO reviews (id, reviewer_id, reviewee_id, gathering_id, rating, content,
+                                     moderation_status, created_at, updated_at)
+                SELECT X, MOD(X, 50) + 1, MOD(X * 3, 50) + 1, X, MOD(X, 5) + 1, 'good',
+                       CASE WHEN MOD(X, 7) = 0 THEN 'PENDING_MODERATION' ELSE 'PUBLISHED' END,
+                       DATEADD('MINUTE', X, %s), DATEADD('MINUTE', X, %s)
+                FROM SYSTEM_RANGE(1, 200)
+                """
+                        .formatted(BASE_TIME, BASE_TIME));
+    }
+
+    @Test
+    @DisplayName("인덱스: 모임/참여/리뷰 조회는 대상 테이블을 통째로 읽지 않는다")
+    void hotQueries_doNotFullScan() {
+        Category category = firstCategory();
+        User host = em.find(User.class, 1L);
+        Gathering gathering = em.find(Gathering.class, 1L);
+
+        // 서비스가 넘기는 정렬 그대로
+        Pageable latest =
+                PageRequest.of(0, 20, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        Pageable popular =
+                PageRequest.of(
+                        0, 20, Sort.by(Sort.Order.desc("participantCount"), Sort.Order.desc("id")));
+        Pageable joined =
+                PageRequest.of(0, 20, Sort.by(Sort.Order.desc("joinedAt"), Sort.Order.desc("id")));
+        Pageable reviews =
+                PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        List<HotQuery> hotQueries =
+                List.of(
+                        // GatheringRepository
+                        new HotQuery(
+                                "findLatestGatherings",
+                                "gatherings",
+                                () -> gatheringRepository.findLatestGatherings(latest)),
+                        new HotQuery(
+                                "findLatestGatheringsByCategory",
+                                "gatherings",
+                                () ->
+                                        gatheringRepository.findLatestGatheringsByCategory(
+                                                category, latest)),
+                        new HotQuery(
+                                "findPopularGatherings",
+                                "gatherings",
+                                () -> gatheringRepository.findPopularGatherings(popular)),
+                        new HotQuery(
+                                "findPopularGatheringsByCategory",
+                                "gatherings",
+                                () ->
+                                        gatheringRepository.findPopularGatheringsByCategory(
+                                                category, popular)),
+                        new HotQuery(
+                                "findTop50ByStatusNotAndModerationStatus...",
+                                "gatherings",
+                                this::latestTop50),
+                        new HotQuery(
+                                "findTop50ByCategoryAndStatusNotAndModerationStatus...",
+                                "gatherings",
+                                () -> latestTop50(category)),
+                        new HotQuery(
+                                "findByHostId",
+                                "gatherings",
+                                () -> gatheringRepository.findByHostId(host, latest)),
+                        new HotQuery(
+                                "findByIdIn",
+                                "gatherings",
+                                () -> gatheringRepository.findByIdIn(List.of(1L, 2L, 3L))),
+                        // ParticipationRepository
+                        new HotQuery(
+                                "existsByUserAndGathering",
+                                "participations",
+                                () ->
+                                        participationRepository.existsByUserAndGathering(
+                                                host, gathering)),
+                        new HotQuery(
+                                "findByGatheringId",
+                                "participations",
+                                () -> participationRepository.findByGatheringId(1L, joined)),
+                        new HotQuery(
+                                "findJoinedGatheringsByUserId",
+                                "participations",
+                                () ->
+                                        participationRepository.findJoinedGatheringsByUserId(
+                                                11L, PageRequest.of(0, 20))),
+                        new HotQuery(
+                                "findFinishedCommonGatheringIds",
+                                "participations",
+                                () ->
+                                        participationRepository.findFinishedCommonGatheringIds(
+                                                1L, 11L)),
+                        new HotQuery(
+                                "countApprovedParticipationByUserIdIn",
+                                "participations",
+                                () ->
+                                        participationRepository
+                                                .countApprovedParticipationByUserIdIn(
+                                                        List.of(1L, 2L, 3L))),
+                        new HotQuery(
+                                "countApprovedParticipationByCategory",
+                                "participations",
+                                () ->
+                                        participationRepository
+                                                .countApprovedParticipationByCategory(1L)),
+                        new HotQuery(
+                                "findParticipationPairsAfter",
+                                "participations",
+                                () ->
+                                        participationRepository.findParticipationPairsAfter(
+                                                100L, PageRequest.of(0, 500))),
+                        new HotQuery(
+                                "findRecentJoinedGatheringIds",
+                                "participations",
+                                () ->
+                                        participationRepository.findRecentJoinedGatheringIds(
+                                                1L, PageRequest.of(0, 20))),
+                        new HotQuery(
+                                "countRecentJoinsByCluster",
+                                "participations",
+                                () ->
+                                        participationRepository.countRecentJoinsByCluster(
+                                                BASE.plusMinutes(900))),
+                        // ReviewRepository
+                        new HotQuery(
+                                "findByRevieweeId",
+                                "reviews",
+                                () -> reviewRepository.findByRevieweeId(1L, reviews)),
+                        new HotQuery(
+                                "findFirstPageByRevieweeId",
+                                "reviews",
+                                () -> reviewRepository.findFirstPageByRevieweeId(1L, reviews)),
+                        new HotQuery(
+                                "findNextPageByRevieweeIdAndCursorDesc",
+                                "reviews",
+                                () ->
+                                        reviewRepository.findNextPageByRevieweeIdAndCursorDesc(
+                                                1L,
+                                                BASE.plusMinutes(100),
+                                                100L,
+                                                PageRequest.of(0, 10))),
+                        new HotQuery(
+                                "countByRevieweeId",
+                                "reviews",
+                                () -> reviewRepository.countByRevieweeId(1L)),
+                        new HotQuery(
+                                "findAverageRatingByRevieweeId",
+                                "reviews",
+                                () -> reviewRepository.findAverageRatingByRevieweeId(1L)),
+                        new HotQuery(
+                                "findByIdAndReviewerId",
+                                "reviews",
+                                () -> reviewRepository.findByIdAndReviewerId(1L, 2L)),
+                        new HotQuery(
+                                "existsByGatheringIdAndReviewerIdAndRevieweeId",
+                                "reviews",
+                                () ->
+                                        reviewRepository
+                                                .existsByGatheringIdAndReviewerIdAndRevieweeId(
+                                                        1L, 2L, 4L)));
+
+        SoftAssertions softly = new SoftAssertions();
+        for (HotQuery hotQuery : hotQueries) {
+            List<String> statements = capture(hotQuery.call());
+            softly.assertThat(statements).as("%s 가 실행한 SQL", hotQuery.name()).isNotEmpty();
+
+            for (String sql : statements) {
+                String plan = explain(sql);
+                softly.assertThat(plan.toLowerCase(Locale.ROOT))
+                        .as("%s 실행 계획:%n%s%n%s", hotQuery.name(), sql, plan)
+                        .doesNotContain("public." + hotQuery.table() + ".tablescan");
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("인덱스: 시드 데이터가 들어가 있어야 실행 계획 비교가 의미 있다")
+    void seededRows_present() {
+        assertThat(count("gatherings")).isEqualTo(200);
+        assertThat(count("participations")).isEqualTo(1000);
+        assertThat(count("reviews")).isEqualTo(200);
+    }
+
+    // 리포지토리 메서드가 보낸 SQL 만 남도록 앞서 쌓인 SQL 은 버리고 부른다
+    private List<String> capture(Runnable call) {
+        CapturedSql.drain();
+        call.run();
+        return CapturedSql.drain();
+    }
+
+    private String explain(String sql) {
+        return em.unwrap(Session.class).doReturningWork(connection -> explain(connection, sql));
+    }
+
+    // 실행 계획은 값과 상관없이 준비할 때 정해지므로 자리표시자는 NULL 로 채워 EXPLAIN 한다
+    private static String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                ps.setObject(i, null);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    // 홈 화면 최신순 후보 (파생 쿼리 이름이 길어 따로 둔다)
+    private List<Gathering> latestTop50() {
+        return gatheringRepository.findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                GatheringStatus.FINISHED, ModerationStatus.PUBLISHED);
+    }
+
+    private List<Gathering> latestTop50(Category category) {
+        return gatheringRepository
+                .findTop50ByCategoryAndStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                        category, GatheringStatus.FINISHED, ModerationStatus.PUBLISHED);
+    }
+
+    private Category firstCategory() {
+        return em.createQuery("SELECT c FROM Category c ORDER BY c.id", Category.class)
+                .setMaxResults(1)
+                .getSingleResult();
+    }
+
+    private long count(String table) {
+        return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult())
+                .longValue();
+    }
+
+    private void execute(String sql) {
+        em.createNativeQuery(sql).executeUpdate();
+    }
+
+    private record HotQuery(String name, String table, Runnable call) {}
+
+    /** 세션 팩토리가 JDBC 로 보내는 SQL 을 모은다. Hibernate 가 클래스 이름으로 만들므로 public 이어야 한다. */
+    public static class CapturedSql implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static List<String> drain() {
+            List<String> statements = List.copyOf(STATEMENTS);
+            STATEMENTS.clear();
+            return statements;
+        }
+    }
+}
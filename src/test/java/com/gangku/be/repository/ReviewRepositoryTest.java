@@ -3,6 +3,7 @@ package com.gangku.be.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import com.gangku.be.domain.*;
+import com.gangku.be.util.id.SnowflakeIdGenerator;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.*;
@@ -18,6 +19,12 @@ class ReviewRepositoryTest {
     @Autowired ReviewRepository reviewRepository;
     @Autowired EntityManager em;
 
+    // 슬라이스 테스트에는 노드 번호를 임대하는 빈이 없으므로 직접 정해 준다
+    @BeforeAll
+    static void assignSnowflakeNode() {
+        SnowflakeIdGenerator.shared().assignNode(0);
+    }
+
     @Test
     void findByRevieweeId_returnsPagedReviews() {
         // given
@@ -0,0 +1,116 @@
+package com.gangku.be.service.action;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gangku.be.config.action.ActionRetentionProps;
+import com.gangku.be.constant.action.UserAction;
+import com.gangku.be.model.action.ActionLogRow;
+import com.gangku.be.repository.UserActionCollectionRepository;
+import com.gangku.be.service.ActionLogRetentionService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class PurgeExpiredActionLogsUnitTest {
+
+    @Mock private UserActionCollectionRepository actionCollectionRepository;
+
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
+
+    @Spy
+    private ObjectMapper objectMapper =
+            new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Spy private ActionRetentionProps actionRetentionProps = new ActionRetentionProps();
+
+    @InjectMocks private ActionLogRetentionService actionLogRetentionService;
+
+    @TempDir Path archiveDir;
+
+    @BeforeEach
+    void setUp() {
+        actionRetentionProps.setArchiveDir(archiveDir.toString());
+        actionRetentionProps.setPurgeBatchSize(2);
+        actionRetentionProps.setBatchPauseMillis(0);
+    }
+
+    @Test
+    @DisplayName("행동 로그 정리: 기간이 지난 로그를 월별 gzip 파일로 옮긴 뒤 배치로 지운다")
+    void purgeExpiredLogs_archivesByMonthThenDeletes() throws IOException {
+        // given
+        ActionLogRow january =
+                new ActionLogRow(
+                        1L, 10L, 100L, UserAction.CLICK, LocalDateTime.of(2025, 1, 31, 23, 0));
+        ActionLogRow february =
+                new ActionLogRow(
+                        2L, 10L, 100L, UserAction.JOIN, LocalDateTime.of(2025, 2, 1, 9, 0));
+        ActionLogRow februaryLater =
+                new ActionLogRow(
+                        3L, 11L, 200L, UserAction.CLICK, LocalDateTime.of(2025, 2, 3, 9, 0));
+
+        when(actionCollectionRepository.findExpiredActionRows(
+                        any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(january, february));
+        when(actionCollectionRepository.findExpiredActionRowsAfter(
+                        any(LocalDateTime.class),
+                        eq(february.createdAt()),
+                        eq(2L),
+                        any(Pageable.class)))
+                .thenReturn(List.of(februaryLater));
+        when(actionCollectionRepository.deleteByIdIn(any())).thenReturn(2, 1);
+
+        // when
+        int purgedCount = actionLogRetentionService.purgeExpiredLogs();
+
+        // then
+        assertThat(purgedCount).isEqualTo(3);
+        verify(actionCollectionRepository, times(1)).deleteByIdIn(List.of(1L, 2L));
+        verify(actionCollectionRepository, times(1)).deleteByIdIn(List.of(3L));
+        verify(actionCollectionRepository, times(1))
+                .findExpiredActionRows(any(LocalDateTime.class), eq(Pageable.ofSize(2)));
+
+        assertThat(readArchive("2025-01")).hasSize(1).first().asString().contains("\"id\":1");
+        assertThat(readArchive("2025-02"))
+                .hasSize(2)
+                .anySatisfy(line -> assertThat(line).contains("\"status\":\"JOIN\""))
+                .anySatisfy(line -> assertThat(line).contains("\"gatheringId\":200"));
+    }
+
+    // 배치마다 덧붙인 gzip 멤버가 하나의 스트림으로 읽혀야 한다
+    private List<String> readArchive(String month) throws IOException {
+        Path archiveFile = archiveDir.resolve("user_action_collection-" + month + ".ndjson.gz");
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(archiveFile))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.gangku.be.service.clustering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.ai.ClusteringProps;
+import com.gangku.be.constant.ai.ClusteringEngineType;
+import com.gangku.be.dto.ai.request.ClusteringRefreshRequestDto.ClusteringUserData;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.ai.ClusteringRefreshResponse;
+import com.gangku.be.model.ai.ClusteringUserRow;
+import com.gangku.be.repository.ParticipationRepository;
+import com.gangku.be.repository.UserRepository;
+import com.gangku.be.service.ClusteringService;
+import com.gangku.be.util.ai.ClusterPopularityStore;
+import com.gangku.be.util.ai.ClusteringEngine.UserSource;
+import com.gangku.be.util.ai.ClusteringFingerprint;
+import com.gangku.be.util.ai.LocalClusteringEngine;
+import com.gangku.be.util.ai.RemoteClusteringEngine;
+import com.gangku.be.util.category.CategoryRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class RefreshClusteringUnitTest {
+
+    private static final String FINGERPRINT_KEY = "ai:clustering:fingerprints";
+    private static final String STAGING_KEY = "ai:clustering:fingerprints:staging";
+    private static final String DIGEST_KEY = "ai:clustering:digest";
+
+    @Mock private UserRepository userRepository;
+    @Mock private ParticipationRepository participationRepository;
+    @Mock private AiApiClient aiApiClient;
+    @Mock private RemoteClusteringEngine remoteClusteringEngine;
+    @Mock private LocalClusteringEngine localClusteringEngine;
+    @Mock private ClusterPopularityStore clusterPopularityStore;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Spy private ClusteringProps clusteringProps = new ClusteringProps();
+    @Mock private CategoryRegistry categoryRegistry;
+
+    @InjectMocks private ClusteringService clusteringService;
+
+    private final ClusteringUserData userData =
+            ClusteringUserData.builder()
+                    .userId(1L)
+                    .preferredCategories(List.of("study"))
+                    .age(23)
+                    .enrollNumber(22)
+                    .userJoinCount(3)
+                    .build();
+
+    @Test
+    @DisplayName("클러스터링: 바뀐 유저 비율이 기준보다 작으면 AI 서버 호출 없이 건너뛴다")
+    void refreshClustering_unchanged_skipped() {
+        // given
+        givenSingleUserBatch();
+        String fingerprint = ClusteringFingerprint.toHex(ClusteringFingerprint.of(userData));
+
+        when(hashOperations.multiGet(FINGERPRINT_KEY, List.of("1")))
+                .thenReturn(List.of(fingerprint));
+        when(hashOperations.size(FINGERPRINT_KEY)).thenReturn(1L);
+        when(valueOperations.get(DIGEST_KEY)).thenReturn(fingerprint);
+
+        // when
+        int exportedUsers = clusteringService.refreshClustering();
+
+        // then
+        assertThat(exportedUsers).isZero();
+        verifyNoInteractions(aiApiClient, remoteClusteringEngine, localClusteringEngine);
+        verify(stringRedisTemplate, never()).rename(anyString(), anyString());
+        verify(stringRedisTemplate, times(2)).delete(STAGING_KEY);
+    }
+
+    @Test
+    @DisplayName("클러스터링: 처음 실행하면 전송 후 지문과 다이제스트를 저장한다")
+    void refreshClustering_firstRun_exportsAndCommits() {
+        // given
+        givenSingleUserBatch();
+        List<Object> noFingerprint = new ArrayList<>();
+        noFingerprint.add(null);
+
+        when(hashOperations.multiGet(FINGERPRINT_KEY, List.of("1"))).thenReturn(noFingerprint);
+        when(hashOperations.size(FINGERPRINT_KEY)).thenReturn(0L);
+        when(valueOperations.get(DIGEST_KEY)).thenReturn(null);
+        when(remoteClusteringEngine.cluster(any()))
+                .thenReturn(
+                        new ClusteringRefreshResponse(1, 1, 0.0f, Map.of(0, 1), Map.of(1L, 0)));
+
+        // when
+        int exportedUsers = clusteringService.refreshClustering();
+
+        // then
+        String fingerprint = ClusteringFingerprint.toHex(ClusteringFingerprint.of(userData));
+
+        assertThat(exportedUsers).isEqualTo(1);
+        verify(hashOperations, times(1)).putAll(STAGING_KEY, Map.of("1", fingerprint));
+        verify(remoteClusteringEngine, times(1)).cluster(any());
+        verifyNoInteractions(localClusteringEngine);
+        verify(clusterPopularityStore, times(1)).replaceUserClusters(Map.of(1L, 0));
+        verify(stringRedisTemplate, times(1)).rename(STAGING_KEY, FINGERPRINT_KEY);
+        verify(valueOperations, times(1)).set(DIGEST_KEY, fingerprint);
+    }
+
+    @Test
+    @DisplayName("클러스터링: 로컬 엔진으로 설정하면 AI 서버 대신 로컬 엔진에 유저를 흘려보낸다")
+    void refreshClustering_localEngine_clustersLocally() {
+        // given
+        clusteringProps.setEngine(ClusteringEngineType.LOCAL);
+        givenSingleUserBatch();
+        List<Object> noFingerprint = new ArrayList<>();
+        noFingerprint.add(null);
+
+        when(hashOperations.multiGet(FINGERPRINT_KEY, List.of("1"))).thenReturn(noFingerprint);
+        when(hashOperations.size(FINGERPRINT_KEY)).thenReturn(0L);
+        when(valueOperations.get(DIGEST_KEY)).thenReturn(null);
+        when(localClusteringEngine.cluster(any()))
+                .thenAnswer(
+                        invocation -> {
+                            UserSource userSource = invocation.getArgument(0);
+                            int userCount = userSource.forEachBatch(batch -> {});
+                            return new ClusteringRefreshResponse(
+                                    userCount, 1, 0.0f, Map.of(0, userCount), Map.of(1L, 0));
+                        });
+
+        // when
+        int clusteredUsers = clusteringService.refreshClustering();
+
+        // then
+        assertThat(clusteredUsers).isEqualTo(1);
+        verify(localClusteringEngine, times(1)).cluster(any());
+        verifyNoInteractions(remoteClusteringEngine, aiApiClient);
+        verify(stringRedisTemplate, times(1)).rename(STAGING_KEY, FINGERPRINT_KEY);
+    }
+
+    @Test
+    @DisplayName("지문: 선호 카테고리 순서와 같은 구간 안의 참여 횟수 변화는 무시한다")
+    void fingerprint_ignoresCategoryOrderAndSameBucket() {
+        ClusteringUserData reordered =
+                ClusteringUserData.builder()
+                        .userId(1L)
+                        .preferredCategories(List.of("music", "study"))
+                        .age(23)
+                        .enrollNumber(22)
+                        .userJoinCount(2)
+                        .build();
+        ClusteringUserData original =
+                ClusteringUserData.builder()
+                        .userId(1L)
+                        .preferredCategories(List.of("study", "music"))
+                        .age(23)
+                        .enrollNumber(22)
+                        .userJoinCount(3)
+                        .build();
+
+        assertThat(ClusteringFingerprint.of(reordered))
+                .isEqualTo(ClusteringFingerprint.of(original));
+        assertThat(ClusteringFingerprint.joinCountBucket(4))
+                .isNotEqualTo(ClusteringFingerprint.joinCountBucket(3));
+    }
+
+    private void givenSingleUserBatch() {
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        when(userRepository.findClusteringUsersAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new ClusteringUserRow(1L, 23, 22, 1L)));
+        when(userRepository.findClusteringUsersAfter(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        when(categoryRegistry.namesOf(1L)).thenReturn(List.of("study"));
+
+        List<Object[]> joinCountRows = new ArrayList<>();
+        joinCountRows.add(new Object[] {1L, 3L});
+        when(participationRepository.countApprovedParticipationByUserIdIn(anyList()))
+                .thenReturn(joinCountRows);
+    }
+}
@@ -0,0 +1,189 @@
+package com.gangku.be.service.clustering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.ai.ClusteringProps;
+import com.gangku.be.constant.action.UserAction;
+import com.gangku.be.constant.ai.ClusteringEngineType;
+import com.gangku.be.dto.ai.request.PopularityRefreshRequestDto;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.ai.ClusterGatheringCount;
+import com.gangku.be.model.ai.PopularityRefreshResponse;
+import com.gangku.be.model.ai.UserActionRow;
+import com.gangku.be.repository.ParticipationRepository;
+import com.gangku.be.repository.UserActionCollectionRepository;
+import com.gangku.be.service.ClusteringService;
+import com.gangku.be.util.ai.ClusterPopularityStore;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class RefreshPopularityUnitTest {
+
+    private static final String WATERMARK_KEY = "ai:popularity:watermark";
+    private static final LocalDateTime SETTLED = LocalDateTime.now().minusHours(1);
+
+    @Mock private UserActionCollectionRepository actionCollectionRepository;
+    @Mock private ParticipationRepository participationRepository;
+    @Mock private AiApiClient aiApiClient;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private ClusterPopularityStore clusterPopularityStore;
+    @Spy private ClusteringProps clusteringProps = new ClusteringProps();
+
+    @InjectMocks private ClusteringService clusteringService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("인기도 갱신: 워터마크 이후 로그만 델타로 보내고 워터마크를 옮긴다")
+    void refreshPopularity_sendsDeltaAfterWatermark() {
+        // given
+        when(valueOperations.get(WATERMARK_KEY)).thenReturn("10");
+        when(actionCollectionRepository.findActionRowsAfter(eq(10L), any(Pageable.class)))
+                .thenReturn(
+                        List.of(
+                                new UserActionRow(11L, 1L, 100L, UserAction.CLICK, SETTLED),
+                                new UserActionRow(12L, 2L, 100L, UserAction.JOIN, SETTLED)));
+        when(aiApiClient.refreshPopularity(any(PopularityRefreshRequestDto.class)))
+                .thenReturn(
+                        new PopularityRefreshResponse(12, 3, 10, Map.of(0, List.of(100L, 101L))));
+
+        // when
+        int shippedCount = clusteringService.refreshPopularity();
+
+        // then
+        ArgumentCaptor<PopularityRefreshRequestDto> captor =
+                ArgumentCaptor.forClass(PopularityRefreshRequestDto.class);
+        verify(aiApiClient, times(1)).refreshPopularity(captor.capture());
+
+        PopularityRefreshRequestDto request = captor.getValue();
+        assertThat(request.isDelta()).isTrue();
+        assertThat(request.getLogList())
+                .extracting(PopularityRefreshRequestDto.UserActionLog::getStatus)
+                .containsExactly("CLICK", "JOIN");
+
+        assertThat(shippedCount).isEqualTo(2);
+        verify(valueOperations, times(1)).set(WATERMARK_KEY, "12");
+        verify(clusterPopularityStore, times(1))
+                .replaceClusterPopularity(Map.of(0, List.of(100L, 101L)));
+    }
+
+    @Test
+    @DisplayName("인기도 갱신: id 순으로 처음 나온 최근 로그에서 멈추고, 그 뒤 로그는 다음 갱신으로 미룬다")
+    void refreshPopularity_stopsAtFirstRecentRow() {
+        // given
+        when(valueOperations.get(WATERMARK_KEY)).thenReturn("10");
+        when(actionCollectionRepository.findActionRowsAfter(eq(10L), any(Pageable.class)))
+                .thenReturn(
+                        List.of(
+                                new UserActionRow(11L, 1L, 100L, UserAction.CLICK, SETTLED),
+                                new UserActionRow(
+                                        12L, 2L, 100L, UserAction.JOIN, LocalDateTime.now()),
+                                new UserActionRow(13L, 3L, 100L, UserAction.JOIN, SETTLED)));
+        when(aiApiClient.refreshPopularity(any(PopularityRefreshRequestDto.class)))
+                .thenReturn(new PopularityRefreshResponse(11, 3, 10, Map.of()));
+
+        // when
+        int shippedCount = clusteringService.refreshPopularity();
+
+        // then
+        ArgumentCaptor<PopularityRefreshRequestDto> captor =
+                ArgumentCaptor.forClass(PopularityRefreshRequestDto.class);
+        verify(aiApiClient, times(1)).refreshPopularity(captor.capture());
+        assertThat(captor.getValue().getLogList()).hasSize(1);
+
+        assertThat(shippedCount).isEqualTo(1);
+        verify(valueOperations, times(1)).set(WATERMARK_KEY, "11");
+        verify(actionCollectionRepository, times(1))
+                .findActionRowsAfter(eq(10L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("인기도 갱신: 새 로그가 없으면 AI 서버를 호출하지 않는다")
+    void refreshPopularity_noNewLogs_skipped() {
+        // given
+        when(valueOperations.get(WATERMARK_KEY)).thenReturn("12");
+        when(actionCollectionRepository.findActionRowsAfter(eq(12L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        int shippedCount = clusteringService.refreshPopularity();
+
+        // then
+        assertThat(shippedCount).isZero();
+        verifyNoInteractions(aiApiClient, clusterPopularityStore);
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("인기도 갱신: 워터마크가 없으면 전체 로그로 AI 서버 로그를 교체한다")
+    void refreshPopularity_noWatermark_fullResync() {
+        // given
+        when(valueOperations.get(WATERMARK_KEY)).thenReturn(null);
+        when(actionCollectionRepository.findActionRowsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new UserActionRow(1L, 1L, 100L, UserAction.JOIN, SETTLED)));
+        when(aiApiClient.refreshPopularity(any(PopularityRefreshRequestDto.class)))
+                .thenReturn(new PopularityRefreshResponse(1, 3, 10, Map.of()));
+
+        // when
+        int shippedCount = clusteringService.refreshPopularity();
+
+        // then
+        ArgumentCaptor<PopularityRefreshRequestDto> captor =
+                ArgumentCaptor.forClass(PopularityRefreshRequestDto.class);
+        verify(aiApiClient, times(1)).refreshPopularity(captor.capture());
+        assertThat(captor.getValue().isDelta()).isFalse();
+
+        assertThat(shippedCount).isEqualTo(1);
+        verify(valueOperations, times(1)).set(WATERMARK_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("인기도 갱신: 로컬 클러스터링 엔진이면 로컬 배정 기준으로 클러스터별 인기 모임을 센다")
+    void refreshPopularity_localEngine_countsClusterPopularityLocally() {
+        // given
+        clusteringProps.setEngine(ClusteringEngineType.LOCAL);
+        clusteringProps.setPopularityTopN(2);
+
+        when(valueOperations.get(WATERMARK_KEY)).thenReturn("12");
+        when(actionCollectionRepository.findActionRowsAfter(eq(12L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(participationRepository.countRecentJoinsByCluster(any(LocalDateTime.class)))
+                .thenReturn(
+                        List.of(
+                                new ClusterGatheringCount(0, 100L, 3L),
+                                new ClusterGatheringCount(0, 101L, 5L),
+                                new ClusterGatheringCount(0, 102L, 1L),
+                                new ClusterGatheringCount(1, 100L, 2L)));
+
+        // when
+        clusteringService.refreshPopularity();
+
+        // then
+        verifyNoInteractions(aiApiClient);
+        verify(clusterPopularityStore, times(1))
+                .replaceClusterPopularity(Map.of(0, List.of(101L, 100L), 1, List.of(100L)));
+    }
+}
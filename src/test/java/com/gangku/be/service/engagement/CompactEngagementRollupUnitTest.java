@@ -0,0 +1,99 @@
+package com.gangku.be.service.engagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.action.ActionIngestProps;
+import com.gangku.be.constant.action.RollupGranularity;
+import com.gangku.be.domain.GatheringEngagementRollup;
+import com.gangku.be.model.action.EngagementDelta;
+import com.gangku.be.repository.GatheringEngagementRollupRepository;
+import com.gangku.be.service.EngagementRollupService;
+import com.gangku.be.util.action.EngagementRollupStore;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class CompactEngagementRollupUnitTest {
+
+    @Mock private GatheringEngagementRollupRepository engagementRollupRepository;
+    @Mock private EngagementRollupStore engagementRollupStore;
+
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
+
+    @Spy private ActionIngestProps actionIngestProps = new ActionIngestProps();
+
+    @InjectMocks private EngagementRollupService engagementRollupService;
+
+    @Test
+    @DisplayName("참여 집계 압축: 보존 기간이 지난 시간 단위 버킷을 모임별 일 단위 버킷으로 합치고 지운다")
+    void compactHourlyBuckets_oldBuckets_foldedIntoDaily() {
+        // given
+        LocalDate day = LocalDate.now().minusDays(30);
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        when(engagementRollupRepository.findOldestBucketStart(RollupGranularity.HOUR))
+                .thenReturn(from.plusHours(9), (LocalDateTime) null);
+        when(engagementRollupRepository.findBuckets(RollupGranularity.HOUR, from, to))
+                .thenReturn(
+                        List.of(
+                                hourly(100L, from.plusHours(9), 3, 1),
+                                hourly(100L, from.plusHours(21), 2, 0),
+                                hourly(200L, from.plusHours(9), 5, 2)));
+
+        // when
+        int compactedCount = engagementRollupService.compactHourlyBuckets();
+
+        // then
+        assertThat(compactedCount).isEqualTo(3);
+        verify(engagementRollupStore, times(1))
+                .add(
+                        List.of(
+                                new EngagementDelta(100L, RollupGranularity.DAY, from, 5, 1),
+                                new EngagementDelta(200L, RollupGranularity.DAY, from, 5, 2)));
+        verify(engagementRollupRepository, times(1))
+                .deleteBuckets(RollupGranularity.HOUR, from, to);
+    }
+
+    @Test
+    @DisplayName("참여 집계 압축: 보존 기간 안의 버킷만 있으면 아무것도 합치지 않는다")
+    void compactHourlyBuckets_recentBucketsOnly_untouched() {
+        // given
+        when(engagementRollupRepository.findOldestBucketStart(RollupGranularity.HOUR))
+                .thenReturn(LocalDateTime.now().minusHours(1));
+
+        // when
+        int compactedCount = engagementRollupService.compactHourlyBuckets();
+
+        // then
+        assertThat(compactedCount).isZero();
+        verify(engagementRollupRepository, never()).findBuckets(any(), any(), any());
+        verifyNoInteractions(engagementRollupStore);
+    }
+
+    private GatheringEngagementRollup hourly(
+            Long gatheringId, LocalDateTime bucketStart, long clicks, long joins) {
+        return GatheringEngagementRollup.builder()
+                .gatheringId(gatheringId)
+                .granularity(RollupGranularity.HOUR)
+                .bucketStart(bucketStart)
+                .clicks(clicks)
+                .joins(joins)
+                .build();
+    }
+}
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.constant.moderation.ModerationTargetType;
 import com.gangku.be.domain.Category;
 import com.gangku.be.domain.Gathering;
 import com.gangku.be.domain.Participation;
@@ -18,12 +20,13 @@ import com.gangku.be.exception.constant.CategoryErrorCode;
 import com.gangku.be.exception.constant.GatheringErrorCode;
 import com.gangku.be.exception.constant.UserErrorCode;
 import com.gangku.be.external.ai.AiApiClient;
-import com.gangku.be.repository.CategoryRepository;
 import com.gangku.be.repository.GatheringRepository;
 import com.gangku.be.repository.ParticipationRepository;
 import com.gangku.be.repository.UserRepository;
 import com.gangku.be.service.GatheringService;
+import com.gangku.be.service.ModerationService;
 import com.gangku.be.util.ai.AiTextFilterMapper;
+import com.gangku.be.util.category.CategoryRegistry;
 import com.gangku.be.util.object.FileUrlResolver;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -35,19 +38,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
 public class CreateGatheringUnitTest {
 
     @Mock private GatheringRepository gatheringRepository;
-    @Mock private CategoryRepository categoryRepository;
+    @Mock private CategoryRegistry categoryRegistry;
     @Mock private ParticipationRepository participationRepository;
     @Mock private UserRepository userRepository;
     @Mock private FileUrlResolver fileUrlResolver;
     @Mock private AiApiClient aiApiClient;
     @Mock private AiTextFilterMapper aiTextFilterMapper;
+    @Mock private ModerationService moderationService;
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
 
     @InjectMocks private GatheringService gatheringService;
 
@@ -78,7 +87,7 @@ public class CreateGatheringUnitTest {
         when(category.getName()).thenReturn("study");
 
         when(userRepository.findById(hostId)).thenReturn(Optional.of(host));
-        when(categoryRepository.findByName("study")).thenReturn(Optional.of(category));
+        when(categoryRegistry.findByName("study")).thenReturn(Optional.of(category));
 
         when(aiTextFilterMapper.fromGatheringCreate(requestDto)).thenReturn(textFilterRequestDto);
         when(aiApiClient.filterText(textFilterRequestDto)).thenReturn(textFilterResponseDto);
@@ -129,7 +138,7 @@ public class CreateGatheringUnitTest {
         assertThat(response.getDescription()).isEqualTo("기초부터 차근차근 알고리즘을 공부합니다.");
 
         verify(userRepository, times(1)).findById(hostId);
-        verify(categoryRepository, times(1)).findByName("study");
+        verify(categoryRegistry, times(1)).findByName("study");
         verify(aiTextFilterMapper, times(1)).fromGatheringCreate(requestDto);
         verify(aiApiClient, times(1)).filterText(textFilterRequestDto);
         verify(participationRepository, times(1)).save(any(Participation.class));
@@ -137,7 +146,7 @@ public class CreateGatheringUnitTest {
 
         verifyNoMoreInteractions(
                 userRepository,
-                categoryRepository,
+                categoryRegistry,
                 gatheringRepository,
                 participationRepository,
                 fileUrlResolver,
@@ -173,7 +182,7 @@ public class CreateGatheringUnitTest {
         verify(userRepository, times(1)).findById(hostId);
 
         verifyNoInteractions(
-                categoryRepository,
+                categoryRegistry,
                 gatheringRepository,
                 participationRepository,
                 fileUrlResolver,
@@ -202,7 +211,7 @@ public class CreateGatheringUnitTest {
         User host = User.builder().id(hostId).participations(new ArrayList<>()).build();
 
         when(userRepository.findById(hostId)).thenReturn(Optional.of(host));
-        when(categoryRepository.findByName("study")).thenReturn(Optional.empty());
+        when(categoryRegistry.findByName("study")).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> gatheringService.createGathering(requestDto, hostId))
@@ -211,7 +220,7 @@ public class CreateGatheringUnitTest {
                 .isEqualTo(CategoryErrorCode.CATEGORY_NOT_FOUND);
 
         verify(userRepository, times(1)).findById(hostId);
-        verify(categoryRepository, times(1)).findByName("study");
+        verify(categoryRegistry, times(1)).findByName("study");
 
         verifyNoInteractions(
                 gatheringRepository,
@@ -219,7 +228,7 @@ public class CreateGatheringUnitTest {
                 fileUrlResolver,
                 aiApiClient,
                 aiTextFilterMapper);
-        verifyNoMoreInteractions(userRepository, categoryRepository);
+        verifyNoMoreInteractions(userRepository, categoryRegistry);
     }
 
     @Test
@@ -246,7 +255,7 @@ public class CreateGatheringUnitTest {
         TextFilterResponseDto textFilterResponseDto = mock(TextFilterResponseDto.class);
 
         when(userRepository.findById(hostId)).thenReturn(Optional.of(host));
-        when(categoryRepository.findByName("study")).thenReturn(Optional.of(category));
+        when(categoryRegistry.findByName("study")).thenReturn(Optional.of(category));
 
         when(aiTextFilterMapper.fromGatheringCreate(requestDto)).thenReturn(textFilterRequestDto);
         when(aiApiClient.filterText(textFilterRequestDto)).thenReturn(textFilterResponseDto);
@@ -259,7 +268,7 @@ public class CreateGatheringUnitTest {
                 .isEqualTo(GatheringErrorCode.INVALID_GATHERING_CONTENT);
 
         verify(userRepository, times(1)).findById(hostId);
-        verify(categoryRepository, times(1)).findByName("study");
+        verify(categoryRegistry, times(1)).findByName("study");
         verify(aiTextFilterMapper, times(1)).fromGatheringCreate(requestDto);
         verify(aiApiClient, times(1)).filterText(textFilterRequestDto);
 
@@ -269,11 +278,63 @@ public class CreateGatheringUnitTest {
 
         verifyNoMoreInteractions(
                 userRepository,
-                categoryRepository,
+                categoryRegistry,
                 aiTextFilterMapper,
                 aiApiClient,
                 gatheringRepository,
                 participationRepository,
                 fileUrlResolver);
     }
+
+    @Test
+    @DisplayName("모임 생성 (201 Created): 비동기 검수 모드면 AI 를 부르지 않고 검수 대기로 저장한 뒤 검수를 요청한다")
+    void createGathering_asyncModeration_pendingAndRequested() {
+        // given
+        Long hostId = 1L;
+
+        GatheringCreateRequestDto requestDto =
+                new GatheringCreateRequestDto(
+                        "알고리즘 스터디",
+                        "statics/image/prod/2025/11/efe6-a7d.jpg",
+                        "study",
+                        12,
+                        LocalDateTime.of(2025, 10, 1, 10, 0),
+                        "공학관 301",
+                        "https://open.kakao.com/o/abcdef",
+                        "기초부터 차근차근 알고리즘을 공부합니다.");
+
+        User host = User.builder().id(hostId).participations(new ArrayList<>()).build();
+        Category category = mock(Category.class);
+        TextFilterRequestDto textFilterRequestDto = mock(TextFilterRequestDto.class);
+
+        when(category.getName()).thenReturn("study");
+        when(moderationService.isAsyncEnabled()).thenReturn(true);
+        when(userRepository.findById(hostId)).thenReturn(Optional.of(host));
+        when(categoryRegistry.findByName("study")).thenReturn(Optional.of(category));
+        when(aiTextFilterMapper.fromGatheringCreate(requestDto)).thenReturn(textFilterRequestDto);
+        when(gatheringRepository.save(any(Gathering.class)))
+                .thenAnswer(
+                        inv -> {
+                            Gathering g = inv.getArgument(0);
+                            java.lang.reflect.Field idField =
+                                    Gathering.class.getDeclaredField("id");
+                            idField.setAccessible(true);
+                            idField.set(g, 12345L);
+                            return g;
+                        });
+
+        // when
+        gatheringService.createGathering(requestDto, hostId);
+
+        // then
+        ArgumentCaptor<Gathering> gatheringCaptor = ArgumentCaptor.forClass(Gathering.class);
+        verify(gatheringRepository, times(1)).save(gatheringCaptor.capture());
+        assertThat(gatheringCaptor.getValue().getModerationStatus())
+                .isEqualTo(ModerationStatus.PENDING_MODERATION);
+
+        verify(moderationService, times(1))
+                .requestModeration(ModerationTargetType.GATHERING, 12345L, textFilterRequestDto);
+        verify(participationRepository, times(1)).save(any(Participation.class));
+        verifyNoInteractions(aiApiClient);
+    }
 }
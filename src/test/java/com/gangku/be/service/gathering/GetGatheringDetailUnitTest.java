@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
+import com.gangku.be.config.ai.ItemSimilarityProps;
 import com.gangku.be.constant.gathering.GatheringStatus;
 import com.gangku.be.constant.participation.ParticipationRole;
 import com.gangku.be.constant.participation.ParticipationStatus;
@@ -19,6 +20,8 @@ import com.gangku.be.repository.GatheringRepository;
 import com.gangku.be.repository.ParticipationRepository;
 import com.gangku.be.repository.UserRepository;
 import com.gangku.be.service.GatheringService;
+import com.gangku.be.util.action.UserActionRecorder;
+import com.gangku.be.util.ai.ItemSimilarityIndex;
 import com.gangku.be.util.object.FileUrlResolver;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -42,6 +46,10 @@ public class GetGatheringDetailUnitTest {
     @Mock private ParticipationRepository participationRepository;
     @Mock private UserRepository userRepository;
     @Mock private FileUrlResolver fileUrlResolver;
+    @Mock private UserActionRecorder userActionRecorder;
+    @Mock private ItemSimilarityIndex itemSimilarityIndex;
+
+    @Spy private ItemSimilarityProps itemSimilarityProps = new ItemSimilarityProps();
 
     @InjectMocks private GatheringService gatheringService;
 
@@ -122,6 +130,7 @@ public class GetGatheringDetailUnitTest {
                 .findByGatheringId(eq(gatheringId), any(Pageable.class));
         verify(fileUrlResolver, times(1)).toPublicUrl("gatherings/g1.png");
         verify(fileUrlResolver, atLeastOnce()).toPublicUrl("profiles/user10.png");
+        verify(userActionRecorder, times(1)).recordClick(userId, gatheringId);
     }
 
     @Test
@@ -202,6 +211,7 @@ public class GetGatheringDetailUnitTest {
         verify(userRepository, never()).findById(anyLong());
         verify(participationRepository, never()).existsByUserAndGathering(any(), any());
         verify(participationRepository, never()).findByGatheringId(anyLong(), any(Pageable.class));
+        verifyNoInteractions(userActionRecorder);
     }
 
     @Test
@@ -239,5 +249,6 @@ public class GetGatheringDetailUnitTest {
         verify(userRepository, times(1)).findById(userId);
         verify(participationRepository, never()).existsByUserAndGathering(any(), any());
         verify(participationRepository, never()).findByGatheringId(anyLong(), any(Pageable.class));
+        verifyNoInteractions(userActionRecorder);
     }
 }
@@ -0,0 +1,97 @@
+package com.gangku.be.service.gathering;
+
+import static com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.dto.gathering.response.GatheringListResponseDto;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.gathering.GatheringListItem;
+import com.gangku.be.repository.GatheringRepository;
+import com.gangku.be.service.GatheringService;
+import com.gangku.be.util.ai.ClusterPopularityStore;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class GetPeerPopularGatheringListUnitTest {
+
+    @Mock private GatheringRepository gatheringRepository;
+    @Mock private ClusterPopularityStore clusterPopularityStore;
+    @Mock private AiApiClient aiApiClient;
+
+    @Spy
+    private TransactionOperations readOnlyTransactionOperations =
+            TransactionOperations.withoutTransaction();
+
+    @InjectMocks private GatheringService gatheringService;
+
+    private final Category category = Category.builder().id(1L).name("운동").build();
+
+    @Test
+    @DisplayName("비슷한 유저 인기 목록: 저장해 둔 클러스터 목록 순서대로 AI 호출 없이 보여준다")
+    void getGatheringList_peerPopular_servesPrecomputedList() {
+        // given
+        when(clusterPopularityStore.findPopularGatheringIds(7L)).thenReturn(List.of(2L, 1L, 3L));
+        when(gatheringRepository.findByIdIn(List.of(2L, 1L, 3L)))
+                .thenReturn(
+                        List.of(
+                                gathering(1L, GatheringStatus.RECRUITING),
+                                gathering(2L, GatheringStatus.RECRUITING),
+                                gathering(3L, GatheringStatus.FINISHED)));
+
+        // when
+        GatheringListResponseDto response =
+                gatheringService.getGatheringList(7L, null, 1, 10, "peer-popular");
+
+        // then
+        assertThat(response.getData())
+                .extracting(GatheringListItem::id)
+                .containsExactly("gath_2", "gath_1");
+        assertThat(response.getMeta().sortedBy()).isEqualTo("peerPopular,desc");
+        verifyNoInteractions(aiApiClient);
+    }
+
+    @Test
+    @DisplayName("비슷한 유저 인기 목록: 로그인하지 않았거나 클러스터가 없으면 인기순으로 대신한다")
+    void getGatheringList_noCluster_fallsBackToPopular() {
+        // given
+        when(clusterPopularityStore.findPopularGatheringIds(7L)).thenReturn(List.of());
+        when(gatheringRepository.findPopularGatherings(any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // when
+        gatheringService.getGatheringList(7L, null, 1, 10, "peer-popular");
+        gatheringService.getGatheringList(null, null, 1, 10, "peer-popular");
+
+        // then
+        verify(clusterPopularityStore, times(1)).findPopularGatheringIds(7L);
+        verify(gatheringRepository, times(2)).findPopularGatherings(any(Pageable.class));
+        verify(gatheringRepository, never()).findByIdIn(any());
+    }
+
+    private Gathering gathering(Long id, GatheringStatus status) {
+        return Gathering.builder()
+                .id(id)
+                .category(category)
+                .title("모임 " + id)
+                .status(status)
+                .moderationStatus(PUBLISHED)
+                .build();
+    }
+}
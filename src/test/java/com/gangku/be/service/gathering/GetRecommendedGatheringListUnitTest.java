@@ -0,0 +1,222 @@
+package com.gangku.be.service.gathering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.ai.ItemSimilarityProps;
+import com.gangku.be.config.ai.LocalRecommenderProps;
+import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.domain.User;
+import com.gangku.be.dto.ai.request.RecommendationRequestDto;
+import com.gangku.be.dto.ai.response.RecommendationResponseDto;
+import com.gangku.be.dto.gathering.response.GatheringListResponseDto;
+import com.gangku.be.exception.CustomException;
+import com.gangku.be.exception.constant.CommonErrorCode;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.ai.RecommendationGatheringItem;
+import com.gangku.be.model.gathering.GatheringListItem;
+import com.gangku.be.repository.GatheringRepository;
+import com.gangku.be.repository.UserRepository;
+import com.gangku.be.service.GatheringService;
+import com.gangku.be.util.ai.ItemSimilarityIndex;
+import com.gangku.be.util.ai.LocalGatheringRecommender;
+import com.gangku.be.util.ai.RecommendationStore;
+import com.gangku.be.util.category.CategoryRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class GetRecommendedGatheringListUnitTest {
+
+    @Mock private GatheringRepository gatheringRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private AiApiClient aiApiClient;
+    @Mock private LocalGatheringRecommender localGatheringRecommender;
+    @Mock private RecommendationStore recommendationStore;
+    @Mock private CategoryRegistry categoryRegistry;
+    @Mock private ItemSimilarityIndex itemSimilarityIndex;
+
+    @Spy private LocalRecommenderProps localRecommenderProps = new LocalRecommenderProps();
+    @Spy private ItemSimilarityProps itemSimilarityProps = new ItemSimilarityProps();
+
+    @Spy
+    private TransactionOperations readOnlyTransactionOperations =
+            TransactionOperations.withoutTransaction();
+
+    @InjectMocks private GatheringService gatheringService;
+
+    private final User user = User.builder().id(10L).age(23).build();
+    private final Category category = Category.builder().id(1L).name("운동").build();
+
+    @Test
+    @DisplayName("추천 목록: AI 서버가 실패하면 로컬 추천 순위로 대신한다")
+    void getGatheringList_aiServiceError_fallsBackToLocalRanking() {
+        // given
+        List<Gathering> candidates = List.of(gathering(1L), gathering(2L));
+        givenCandidates(candidates);
+
+        when(aiApiClient.recommend(any(RecommendationRequestDto.class)))
+                .thenThrow(new CustomException(CommonErrorCode.AI_SERVICE_ERROR));
+        when(localGatheringRecommender.rank(user, candidates)).thenReturn(List.of(2L, 1L));
+        when(gatheringRepository.findByIdIn(List.of(2L, 1L))).thenReturn(candidates);
+
+        // when
+        GatheringListResponseDto response =
+                gatheringService.getGatheringList(10L, null, 1, 10, "recommend");
+
+        // then
+        assertThat(response.getData())
+                .extracting(GatheringListItem::id)
+                .containsExactly("gath_2", "gath_1");
+        verify(gatheringRepository, never()).findLatestGatherings(any());
+    }
+
+    @Test
+    @DisplayName("추천 목록: 로컬 대체를 끄면 AI 서버 오류를 그대로 던진다")
+    void getGatheringList_fallbackDisabled_rethrows() {
+        // given
+        localRecommenderProps.setFallbackEnabled(false);
+        givenCandidates(List.of(gathering(1L)));
+
+        when(aiApiClient.recommend(any(RecommendationRequestDto.class)))
+                .thenThrow(new CustomException(CommonErrorCode.AI_SERVICE_ERROR));
+
+        // when & then
+        assertThatThrownBy(
+                        () -> gatheringService.getGatheringList(10L, null, 1, 10, "recommend"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(CommonErrorCode.AI_SERVICE_ERROR);
+        verifyNoInteractions(localGatheringRecommender);
+    }
+
+    @Test
+    @DisplayName("추천 목록: 미리 계산한 목록이 있으면 AI 호출 없이 그 순서대로 보여준다")
+    void getGatheringList_precomputed_skipsLiveCall() {
+        // given
+        when(recommendationStore.find(10L)).thenReturn(List.of(2L, 1L));
+        when(gatheringRepository.findByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(gathering(1L), gathering(2L)));
+
+        // when
+        GatheringListResponseDto response =
+                gatheringService.getGatheringList(10L, null, 1, 10, "recommend");
+
+        // then
+        assertThat(response.getData())
+                .extracting(GatheringListItem::id)
+                .containsExactly("gath_2", "gath_1");
+        verifyNoInteractions(aiApiClient, userRepository, localGatheringRecommender);
+    }
+
+    @Test
+    @DisplayName("추천 목록: 최근 참여 모임과 함께 참여된 모임도 AI 추천 후보로 보낸다")
+    void getGatheringList_similarGatherings_addedToAiCandidates() {
+        // given
+        givenCandidates(List.of(gathering(1L), gathering(2L)));
+
+        Gathering finished = gathering(8L);
+        finished.changeStatusAsFinished();
+
+        when(itemSimilarityIndex.similarToRecentJoins(10L, 20)).thenReturn(List.of(7L, 8L, 2L));
+        when(gatheringRepository.findByIdIn(List.of(7L, 8L)))
+                .thenReturn(List.of(gathering(7L), finished));
+        when(aiApiClient.recommend(any(RecommendationRequestDto.class)))
+                .thenReturn(response(List.of(7L)));
+        when(gatheringRepository.findByIdIn(List.of(7L))).thenReturn(List.of(gathering(7L)));
+
+        // when
+        gatheringService.getGatheringList(10L, null, 1, 10, "recommend");
+
+        // then
+        ArgumentCaptor<RecommendationRequestDto> captor =
+                ArgumentCaptor.forClass(RecommendationRequestDto.class);
+        verify(aiApiClient, times(1)).recommend(captor.capture());
+        assertThat(captor.getValue().getGatheringItems())
+                .extracting(RecommendationGatheringItem::gatheringId)
+                .containsExactly(1L, 2L, 7L);
+    }
+
+    @Test
+    @DisplayName("추천 목록: AI 호출은 후보를 읽은 읽기 트랜잭션이 끝난 뒤 트랜잭션 밖에서 한다")
+    void getGatheringList_aiCall_runsOutsideTransaction() {
+        // given
+        List<Gathering> candidates = List.of(gathering(1L), gathering(2L));
+        givenCandidates(candidates);
+
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        doAnswer(
+                        invocation -> {
+                            inTransaction.set(true);
+                            try {
+                                return invocation.callRealMethod();
+                            } finally {
+                                inTransaction.set(false);
+                            }
+                        })
+                .when(readOnlyTransactionOperations)
+                .execute(any());
+
+        AtomicBoolean calledInTransaction = new AtomicBoolean();
+        when(aiApiClient.recommend(any(RecommendationRequestDto.class)))
+                .thenAnswer(
+                        invocation -> {
+                            calledInTransaction.set(inTransaction.get());
+                            return response(List.of(2L, 1L));
+                        });
+        when(gatheringRepository.findByIdIn(List.of(2L, 1L))).thenReturn(candidates);
+
+        // when
+        GatheringListResponseDto response =
+                gatheringService.getGatheringList(10L, null, 1, 10, "recommend");
+
+        // then
+        assertThat(calledInTransaction).isFalse();
+        assertThat(response.getData())
+                .extracting(GatheringListItem::id)
+                .containsExactly("gath_2", "gath_1");
+        verify(readOnlyTransactionOperations, times(2)).execute(any());
+    }
+
+    private void givenCandidates(List<Gathering> candidates) {
+        when(userRepository.findById(10L)).thenReturn(Optional.of(user));
+        when(gatheringRepository.findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                        GatheringStatus.FINISHED, ModerationStatus.PUBLISHED))
+                .thenReturn(candidates);
+    }
+
+    private Gathering gathering(Long id) {
+        return Gathering.builder()
+                .id(id)
+                .host(User.builder().id(100L).age(25).build())
+                .category(category)
+                .title("모임 " + id)
+                .capacity(10)
+                .status(GatheringStatus.RECRUITING)
+                .build();
+    }
+
+    private RecommendationResponseDto response(List<Long> gatheringIds) {
+        RecommendationResponseDto response = new RecommendationResponseDto();
+        ReflectionTestUtils.setField(response, "gatheringsId", gatheringIds);
+        return response;
+    }
+}
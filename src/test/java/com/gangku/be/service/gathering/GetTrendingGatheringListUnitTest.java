@@ -0,0 +1,101 @@
+package com.gangku.be.service.gathering;
+
+import static com.gangku.be.constant.moderation.ModerationStatus.PENDING_MODERATION;
+import static com.gangku.be.constant.moderation.ModerationStatus.PUBLISHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.action.TrendingProps;
+import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.dto.gathering.response.GatheringListResponseDto;
+import com.gangku.be.model.gathering.GatheringListItem;
+import com.gangku.be.repository.GatheringRepository;
+import com.gangku.be.service.GatheringService;
+import com.gangku.be.util.action.GatheringTrendingIndex;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class GetTrendingGatheringListUnitTest {
+
+    @Mock private GatheringRepository gatheringRepository;
+    @Mock private GatheringTrendingIndex gatheringTrendingIndex;
+
+    @Spy private TrendingProps trendingProps = new TrendingProps();
+    @Spy
+    private TransactionOperations readOnlyTransactionOperations =
+            TransactionOperations.withoutTransaction();
+
+    @InjectMocks private GatheringService gatheringService;
+
+    private final Category category = Category.builder().id(1L).name("운동").build();
+
+    @Test
+    @DisplayName("트렌딩 목록: 점수 순서를 지키고 끝났거나 검수 중인 모임은 뺀다")
+    void getGatheringList_trending_keepsScoreOrder() {
+        // given
+        when(gatheringTrendingIndex.topGatheringIds(200)).thenReturn(List.of(3L, 1L, 2L, 4L));
+        when(gatheringRepository.findByIdIn(List.of(3L, 1L, 2L, 4L)))
+                .thenReturn(
+                        List.of(
+                                gathering(1L, GatheringStatus.RECRUITING, PUBLISHED),
+                                gathering(2L, GatheringStatus.FINISHED, PUBLISHED),
+                                gathering(3L, GatheringStatus.RECRUITING, PUBLISHED),
+                                gathering(4L, GatheringStatus.RECRUITING, PENDING_MODERATION)));
+
+        // when
+        GatheringListResponseDto response =
+                gatheringService.getGatheringList(null, null, 1, 10, "trending");
+
+        // then
+        assertThat(response.getData())
+                .extracting(GatheringListItem::id)
+                .containsExactly("gath_3", "gath_1");
+        assertThat(response.getMeta().sortedBy()).isEqualTo("trending,desc");
+        assertThat(response.getMeta().totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트렌딩 목록: 점수가 아직 없으면 인기순으로 대신한다")
+    void getGatheringList_noTrendingScores_fallsBackToPopular() {
+        // given
+        when(gatheringTrendingIndex.topGatheringIds(200)).thenReturn(List.of());
+        when(gatheringRepository.findPopularGatherings(any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // when
+        GatheringListResponseDto response =
+                gatheringService.getGatheringList(null, null, 1, 10, "trending");
+
+        // then
+        assertThat(response.getData()).isEmpty();
+        verify(gatheringRepository, times(1)).findPopularGatherings(any(Pageable.class));
+        verify(gatheringRepository, never()).findByIdIn(any());
+    }
+
+    private Gathering gathering(
+            Long id, GatheringStatus status, ModerationStatus moderationStatus) {
+        return Gathering.builder()
+                .id(id)
+                .category(category)
+                .title("모임 " + id)
+                .status(status)
+                .moderationStatus(moderationStatus)
+                .build();
+    }
+}
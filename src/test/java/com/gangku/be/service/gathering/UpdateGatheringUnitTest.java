@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.constant.moderation.ModerationTargetType;
 import com.gangku.be.domain.Category;
 import com.gangku.be.domain.Gathering;
 import com.gangku.be.domain.User;
@@ -17,12 +19,13 @@ import com.gangku.be.exception.CustomException;
 import com.gangku.be.exception.constant.CategoryErrorCode;
 import com.gangku.be.exception.constant.GatheringErrorCode;
 import com.gangku.be.external.ai.AiApiClient;
-import com.gangku.be.repository.CategoryRepository;
 import com.gangku.be.repository.GatheringRepository;
 import com.gangku.be.repository.ParticipationRepository;
 import com.gangku.be.repository.UserRepository;
 import com.gangku.be.service.GatheringService;
+import com.gangku.be.service.ModerationService;
 import com.gangku.be.util.ai.AiTextFilterMapper;
+import com.gangku.be.util.category.CategoryRegistry;
 import com.gangku.be.util.object.FileUrlResolver;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -32,19 +35,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
 public class UpdateGatheringUnitTest {
 
     @Mock private GatheringRepository gatheringRepository;
-    @Mock private CategoryRepository categoryRepository;
+    @Mock private CategoryRegistry categoryRegistry;
     @Mock private ParticipationRepository participationRepository;
     @Mock private UserRepository userRepository;
     @Mock private FileUrlResolver fileUrlResolver;
     @Mock private AiApiClient aiApiClient;
     @Mock private AiTextFilterMapper aiTextFilterMapper;
+    @Mock private ModerationService moderationService;
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
 
     @InjectMocks private GatheringService gatheringService;
 
@@ -94,7 +103,7 @@ public class UpdateGatheringUnitTest {
         when(aiTextFilterMapper.fromGatheringUpdate(requestDto)).thenReturn(textFilterRequestDto);
         when(aiApiClient.filterText(textFilterRequestDto)).thenReturn(textFilterResponseDto);
         when(textFilterResponseDto.isAllowed()).thenReturn(true);
-        when(categoryRepository.findByName("study")).thenReturn(Optional.of(newCategory));
+        when(categoryRegistry.findByName("study")).thenReturn(Optional.of(newCategory));
         when(gatheringRepository.save(gathering)).thenReturn(gathering);
         when(fileUrlResolver.toPublicUrl("statics/image/prod/2025/11/new.jpg"))
                 .thenReturn("https://cdn.example.com/gatherings/2025/09/new-cover.jpg");
@@ -124,16 +133,16 @@ public class UpdateGatheringUnitTest {
         assertThat(response.getOpenChatUrl()).isEqualTo("https://open.kakao.com/o/xyz987");
         assertThat(response.getDescription()).isEqualTo("설명 업데이트");
 
-        verify(gatheringRepository, times(1)).findById(gatheringId);
+        verify(gatheringRepository, times(2)).findById(gatheringId);
         verify(aiTextFilterMapper, times(1)).fromGatheringUpdate(requestDto);
         verify(aiApiClient, times(1)).filterText(textFilterRequestDto);
-        verify(categoryRepository, times(1)).findByName("study");
+        verify(categoryRegistry, times(1)).findByName("study");
         verify(gatheringRepository, times(1)).save(gathering);
         verify(fileUrlResolver, times(1)).toPublicUrl("statics/image/prod/2025/11/new.jpg");
 
         verifyNoMoreInteractions(
                 gatheringRepository,
-                categoryRepository,
+                categoryRegistry,
                 fileUrlResolver,
                 aiTextFilterMapper,
                 aiApiClient);
@@ -169,7 +178,7 @@ public class UpdateGatheringUnitTest {
         verify(gatheringRepository, times(1)).findById(gatheringId);
 
         verifyNoInteractions(
-                categoryRepository,
+                categoryRegistry,
                 fileUrlResolver,
                 aiTextFilterMapper,
                 aiApiClient,
@@ -212,7 +221,7 @@ public class UpdateGatheringUnitTest {
         verify(gatheringRepository, times(1)).findById(gatheringId);
 
         verifyNoInteractions(
-                categoryRepository,
+                categoryRegistry,
                 fileUrlResolver,
                 aiTextFilterMapper,
                 aiApiClient,
@@ -263,14 +272,14 @@ public class UpdateGatheringUnitTest {
         verify(aiApiClient, times(1)).filterText(textFilterRequestDto);
 
         verify(gatheringRepository, never()).save(any());
-        verify(categoryRepository, never()).findByName(anyString());
+        verify(categoryRegistry, never()).findByName(anyString());
         verify(fileUrlResolver, never()).toPublicUrl(anyString());
 
         verifyNoMoreInteractions(
                 gatheringRepository,
                 aiTextFilterMapper,
                 aiApiClient,
-                categoryRepository,
+                categoryRegistry,
                 fileUrlResolver);
         verifyNoInteractions(userRepository, participationRepository);
     }
@@ -305,7 +314,7 @@ public class UpdateGatheringUnitTest {
         when(aiTextFilterMapper.fromGatheringUpdate(requestDto)).thenReturn(textFilterRequestDto);
         when(aiApiClient.filterText(textFilterRequestDto)).thenReturn(textFilterResponseDto);
         when(textFilterResponseDto.isAllowed()).thenReturn(true);
-        when(categoryRepository.findByName("study")).thenReturn(Optional.empty());
+        when(categoryRegistry.findByName("study")).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> gatheringService.updateGathering(gatheringId, userId, requestDto))
@@ -313,10 +322,10 @@ public class UpdateGatheringUnitTest {
                 .extracting("errorCode")
                 .isEqualTo(CategoryErrorCode.CATEGORY_NOT_FOUND);
 
-        verify(gatheringRepository, times(1)).findById(gatheringId);
+        verify(gatheringRepository, times(2)).findById(gatheringId);
         verify(aiTextFilterMapper, times(1)).fromGatheringUpdate(requestDto);
         verify(aiApiClient, times(1)).filterText(textFilterRequestDto);
-        verify(categoryRepository, times(1)).findByName("study");
+        verify(categoryRegistry, times(1)).findByName("study");
 
         verify(gatheringRepository, never()).save(any());
         verify(fileUrlResolver, never()).toPublicUrl(anyString());
@@ -325,8 +334,59 @@ public class UpdateGatheringUnitTest {
                 gatheringRepository,
                 aiTextFilterMapper,
                 aiApiClient,
-                categoryRepository,
+                categoryRegistry,
                 fileUrlResolver);
         verifyNoInteractions(userRepository, participationRepository);
     }
+
+    @Test
+    @DisplayName("모임 수정 (200 OK): 비동기 검수 모드에서 제목/설명이 바뀌면 검수 대기로 돌리고 검수를 요청한다")
+    void updateGathering_asyncModeration_pendingAndRequested() {
+        // given
+        Long gatheringId = 1L;
+        Long userId = 10L;
+
+        User host = User.builder().id(userId).build();
+        Category category = mock(Category.class);
+
+        Gathering gathering =
+                Gathering.builder()
+                        .id(gatheringId)
+                        .host(host)
+                        .category(category)
+                        .title("기존 제목")
+                        .capacity(10)
+                        .date(LocalDateTime.of(2025, 10, 1, 10, 0))
+                        .location("공학관 301")
+                        .openChatUrl("https://open.kakao.com/o/old")
+                        .description("기존 설명")
+                        .status(GatheringStatus.RECRUITING)
+                        .build();
+
+        GatheringUpdateRequestDto requestDto =
+                new GatheringUpdateRequestDto(
+                        "제목 수정", null, null, null, null, null, null, "설명 업데이트");
+
+        TextFilterRequestDto textFilterRequestDto = mock(TextFilterRequestDto.class);
+
+        when(moderationService.isAsyncEnabled()).thenReturn(true);
+        when(gatheringRepository.findById(gatheringId)).thenReturn(Optional.of(gathering));
+        when(gatheringRepository.save(gathering)).thenReturn(gathering);
+        when(aiTextFilterMapper.fromGathering(gathering)).thenReturn(textFilterRequestDto);
+
+        // when
+        gatheringService.updateGathering(gatheringId, userId, requestDto);
+
+        // then
+        assertThat(gathering.getTitle()).isEqualTo("제목 수정");
+        assertThat(gathering.getDescription()).isEqualTo("설명 업데이트");
+        assertThat(gathering.getModerationStatus())
+                .isEqualTo(ModerationStatus.PENDING_MODERATION);
+
+        verify(moderationService, times(1))
+                .requestModeration(
+                        ModerationTargetType.GATHERING, gatheringId, textFilterRequestDto);
+        verify(aiTextFilterMapper, never()).fromGatheringUpdate(any());
+        verifyNoInteractions(aiApiClient);
+    }
 }
@@ -0,0 +1,193 @@
+package com.gangku.be.service.moderation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.moderation.ModerationProps;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.constant.moderation.ModerationTargetType;
+import com.gangku.be.domain.ModerationTask;
+import com.gangku.be.domain.Review;
+import com.gangku.be.domain.User;
+import com.gangku.be.repository.GatheringRepository;
+import com.gangku.be.repository.ModerationTaskRepository;
+import com.gangku.be.repository.ReviewRepository;
+import com.gangku.be.repository.UserRepository;
+import com.gangku.be.service.ModerationService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class ApplyModerationResultUnitTest {
+
+    @Mock private ModerationTaskRepository moderationTaskRepository;
+    @Mock private ReviewRepository reviewRepository;
+    @Mock private GatheringRepository gatheringRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private ModerationProps moderationProps;
+
+    @InjectMocks private ModerationService moderationService;
+
+    @Test
+    @DisplayName("검수 결과 반영: 허용된 리뷰는 PUBLISHED로 바뀌고 작업이 삭제된다")
+    void applyResult_allowedReview_published() {
+        // given
+        Review review =
+                Review.builder()
+                        .id(5L)
+                        .rating(5)
+                        .content("좋았어요")
+                        .moderationStatus(ModerationStatus.PENDING_MODERATION)
+                        .build();
+        ModerationTask task =
+                ModerationTask.builder()
+                        .id(1L)
+                        .targetType(ModerationTargetType.REVIEW)
+                        .targetId(5L)
+                        .text("좋았어요")
+                        .build();
+
+        when(moderationTaskRepository.existsByTargetTypeAndTargetIdAndIdGreaterThan(
+                        ModerationTargetType.REVIEW, 5L, 1L))
+                .thenReturn(false);
+        when(reviewRepository.findById(5L)).thenReturn(Optional.of(review));
+
+        // when
+        moderationService.applyResult(task, true);
+
+        // then
+        assertThat(review.getModerationStatus()).isEqualTo(ModerationStatus.PUBLISHED);
+
+        verify(moderationTaskRepository, times(1)).deleteById(1L);
+        verifyNoInteractions(gatheringRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("검수 결과 반영: 같은 대상에 더 최근 요청이 있으면 결과를 버리고 작업만 삭제한다")
+    void applyResult_superseded_ignored() {
+        // given
+        ModerationTask task =
+                ModerationTask.builder()
+                        .id(1L)
+                        .targetType(ModerationTargetType.GATHERING)
+                        .targetId(7L)
+                        .text("제목|||설명")
+                        .build();
+
+        when(moderationTaskRepository.existsByTargetTypeAndTargetIdAndIdGreaterThan(
+                        ModerationTargetType.GATHERING, 7L, 1L))
+                .thenReturn(true);
+
+        // when
+        moderationService.applyResult(task, true);
+
+        // then
+        verify(moderationTaskRepository, times(1)).deleteById(1L);
+        verifyNoInteractions(gatheringRepository, reviewRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("검수 결과 반영: 허용된 닉네임이라도 그 사이 다른 유저가 선점했으면 반영하지 않는다")
+    void applyResult_nicknameTaken_discarded() {
+        // given
+        User user = User.builder().id(3L).nickname("기존닉네임").pendingNickname("새닉네임").build();
+        ModerationTask task =
+                ModerationTask.builder()
+                        .id(1L)
+                        .targetType(ModerationTargetType.NICKNAME)
+                        .targetId(3L)
+                        .text("새닉네임")
+                        .build();
+
+        when(moderationTaskRepository.existsByTargetTypeAndTargetIdAndIdGreaterThan(
+                        ModerationTargetType.NICKNAME, 3L, 1L))
+                .thenReturn(false);
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user));
+        when(userRepository.existsByNicknameAndIdNot("새닉네임", 3L)).thenReturn(true);
+
+        // when
+        moderationService.applyResult(task, true);
+
+        // then
+        assertThat(user.getNickname()).isEqualTo("기존닉네임");
+        assertThat(user.getPendingNickname()).isNull();
+
+        verify(moderationTaskRepository, times(1)).deleteById(1L);
+    }
+
+    @Test
+    @DisplayName("검수 결과 반영: 재시도 한도를 넘긴 닉네임 검수는 변경 요청을 버리고 작업을 삭제한다")
+    void rejectExhausted_nickname_discarded() {
+        // given
+        User user = User.builder().id(3L).nickname("기존닉네임").pendingNickname("새닉네임").build();
+        ModerationTask task =
+                ModerationTask.builder()
+                        .id(1L)
+                        .targetType(ModerationTargetType.NICKNAME)
+                        .targetId(3L)
+                        .text("새닉네임")
+                        .attempts(5)
+                        .build();
+
+        when(moderationTaskRepository.existsByTargetTypeAndTargetIdAndIdGreaterThan(
+                        ModerationTargetType.NICKNAME, 3L, 1L))
+                .thenReturn(false);
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user));
+
+        // when
+        moderationService.rejectExhausted(task);
+
+        // then
+        assertThat(user.getNickname()).isEqualTo("기존닉네임");
+        assertThat(user.getPendingNickname()).isNull();
+
+        verify(moderationTaskRepository, times(1)).deleteById(1L);
+        verify(userRepository, never()).existsByNicknameAndIdNot(any(), any());
+    }
+
+    @Test
+    @DisplayName("검수 재시도: AI 서버 장애로 미룰 때마다 대기를 두 배로 늘리되 상한을 넘기지 않는다")
+    void deferForOutage_backsOffExponentially() {
+        // given
+        when(moderationProps.getRetryBackoffSeconds()).thenReturn(5L);
+        when(moderationProps.getMaxRetryBackoffSeconds()).thenReturn(300L);
+
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        moderationService.deferForOutage(outageTask(1L, 2));
+        moderationService.deferForOutage(outageTask(2L, 40));
+
+        // then
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> third = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(moderationTaskRepository, times(1)).deferForOutage(eq(1L), third.capture());
+        assertThat(third.getValue()).isBetween(before.plusSeconds(20), after.plusSeconds(20));
+
+        ArgumentCaptor<LocalDateTime> capped = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(moderationTaskRepository, times(1)).deferForOutage(eq(2L), capped.capture());
+        assertThat(capped.getValue()).isBetween(before.plusSeconds(300), after.plusSeconds(300));
+    }
+
+    private static ModerationTask outageTask(Long id, int deferrals) {
+        return ModerationTask.builder()
+                .id(id)
+                .targetType(ModerationTargetType.GATHERING)
+                .targetId(7L)
+                .text("제목|||설명")
+                .deferrals(deferrals)
+                .build();
+    }
+}
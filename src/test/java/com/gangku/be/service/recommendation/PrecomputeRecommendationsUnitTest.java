@@ -0,0 +1,190 @@
+package com.gangku.be.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.ai.ItemSimilarityProps;
+import com.gangku.be.config.ai.RecommendationPrecomputeProps;
+import com.gangku.be.constant.gathering.GatheringStatus;
+import com.gangku.be.constant.moderation.ModerationStatus;
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.domain.User;
+import com.gangku.be.dto.ai.request.RecommendationRequestDto;
+import com.gangku.be.dto.ai.response.RecommendationResponseDto;
+import com.gangku.be.exception.CustomException;
+import com.gangku.be.exception.constant.CommonErrorCode;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.model.ai.ClusteringUserRow;
+import com.gangku.be.model.ai.RecommendationGatheringItem;
+import com.gangku.be.repository.GatheringRepository;
+import com.gangku.be.repository.UserRepository;
+import com.gangku.be.service.RecommendationPrecomputeService;
+import com.gangku.be.util.ai.ItemSimilarityIndex;
+import com.gangku.be.util.ai.RecommendationStore;
+import com.gangku.be.util.category.CategoryRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class PrecomputeRecommendationsUnitTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private GatheringRepository gatheringRepository;
+    @Mock private AiApiClient aiApiClient;
+    @Mock private RecommendationStore recommendationStore;
+    @Mock private CategoryRegistry categoryRegistry;
+    @Mock private ItemSimilarityIndex itemSimilarityIndex;
+
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
+
+    @Spy
+    private RecommendationPrecomputeProps recommendationPrecomputeProps =
+            new RecommendationPrecomputeProps();
+
+    @Spy private ItemSimilarityProps itemSimilarityProps = new ItemSimilarityProps();
+
+    @InjectMocks private RecommendationPrecomputeService recommendationPrecomputeService;
+
+    @Test
+    @DisplayName("추천 미리 계산: 활동 유저마다 AI 추천을 받아 저장하고 실패한 유저는 건너뛴다")
+    void precomputeRecommendations_savesPerActiveUser() {
+        // given
+        recommendationPrecomputeProps.setConcurrency(2);
+
+        when(gatheringRepository.findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                        GatheringStatus.FINISHED, ModerationStatus.PUBLISHED))
+                .thenReturn(List.of(gathering(100L)));
+        when(userRepository.findActiveUsersAfter(
+                        eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(
+                        List.of(
+                                new ClusteringUserRow(1L, 23, 22, 1L),
+                                new ClusteringUserRow(2L, 24, 21, 0L)));
+
+        when(categoryRegistry.namesOf(1L)).thenReturn(List.of("운동"));
+        when(categoryRegistry.namesOf(0L)).thenReturn(List.of());
+
+        when(aiApiClient.recommend(any(RecommendationRequestDto.class)))
+                .thenAnswer(
+                        invocation -> {
+                            RecommendationRequestDto request = invocation.getArgument(0);
+                            if (request.getUserId() == 2L) {
+                                throw new CustomException(CommonErrorCode.AI_SERVICE_ERROR);
+                            }
+                            return response(List.of(100L));
+                        });
+
+        // when
+        int savedCount = recommendationPrecomputeService.precomputeRecommendations();
+
+        // then
+        assertThat(savedCount).isEqualTo(1);
+        verify(recommendationStore, times(1)).save(1L, List.of(100L), Duration.ofHours(26));
+        verify(recommendationStore, never()).save(eq(2L), anyList(), any(Duration.class));
+
+        ArgumentCaptor<RecommendationRequestDto> captor =
+                ArgumentCaptor.forClass(RecommendationRequestDto.class);
+        verify(aiApiClient, times(2)).recommend(captor.capture());
+        assertThat(captor.getAllValues())
+                .filteredOn(request -> request.getUserId() == 1L)
+                .singleElement()
+                .extracting(RecommendationRequestDto::getPreferredCategories)
+                .isEqualTo(List.of("운동"));
+    }
+
+    @Test
+    @DisplayName("추천 미리 계산: 유저가 최근 참여한 모임과 함께 참여된 모임을 그 유저의 후보에만 더한다")
+    void precomputeRecommendations_addsSimilarCandidatesPerUser() {
+        // given
+        when(gatheringRepository.findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                        GatheringStatus.FINISHED, ModerationStatus.PUBLISHED))
+                .thenReturn(List.of(gathering(100L)));
+        when(userRepository.findActiveUsersAfter(
+                        eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(
+                        List.of(
+                                new ClusteringUserRow(1L, 23, 22, 0L),
+                                new ClusteringUserRow(2L, 24, 21, 0L)));
+
+        when(itemSimilarityIndex.similarToRecentJoins(1L, 20)).thenReturn(List.of(200L, 100L));
+        when(gatheringRepository.findByIdIn(Set.of(200L))).thenReturn(List.of(gathering(200L)));
+        when(aiApiClient.recommend(any(RecommendationRequestDto.class)))
+                .thenReturn(response(List.of(100L)));
+
+        // when
+        recommendationPrecomputeService.precomputeRecommendations();
+
+        // then
+        ArgumentCaptor<RecommendationRequestDto> captor =
+                ArgumentCaptor.forClass(RecommendationRequestDto.class);
+        verify(aiApiClient, times(2)).recommend(captor.capture());
+        assertThat(captor.getAllValues())
+                .filteredOn(request -> request.getUserId() == 1L)
+                .singleElement()
+                .extracting(
+                        request ->
+                                request.getGatheringItems().stream()
+                                        .map(RecommendationGatheringItem::gatheringId)
+                                        .toList())
+                .isEqualTo(List.of(100L, 200L));
+        assertThat(captor.getAllValues())
+                .filteredOn(request -> request.getUserId() == 2L)
+                .singleElement()
+                .extracting(request -> request.getGatheringItems().size())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추천 미리 계산: 후보 모임이 없으면 유저를 읽지 않는다")
+    void precomputeRecommendations_noCandidates_skipped() {
+        // given
+        when(gatheringRepository.findTop50ByStatusNotAndModerationStatusOrderByCreatedAtDesc(
+                        GatheringStatus.FINISHED, ModerationStatus.PUBLISHED))
+                .thenReturn(List.of());
+
+        // when
+        int savedCount = recommendationPrecomputeService.precomputeRecommendations();
+
+        // then
+        assertThat(savedCount).isZero();
+        verifyNoInteractions(userRepository, aiApiClient, recommendationStore);
+    }
+
+    private Gathering gathering(Long id) {
+        return Gathering.builder()
+                .id(id)
+                .host(User.builder().id(50L).age(25).build())
+                .category(Category.builder().id(1L).name("운동").build())
+                .title("모임 " + id)
+                .capacity(10)
+                .status(GatheringStatus.RECRUITING)
+                .build();
+    }
+
+    private RecommendationResponseDto response(List<Long> gatheringIds) {
+        RecommendationResponseDto response = new RecommendationResponseDto();
+        ReflectionTestUtils.setField(response, "gatheringsId", gatheringIds);
+        return response;
+    }
+}
@@ -21,6 +21,7 @@ import com.gangku.be.repository.GatheringRepository;
 import com.gangku.be.repository.ParticipationRepository;
 import com.gangku.be.repository.ReviewRepository;
 import com.gangku.be.repository.UserRepository;
+import com.gangku.be.service.ModerationService;
 import com.gangku.be.service.ReviewService;
 import com.gangku.be.util.ai.AiTextFilterMapper;
 import java.util.List;
@@ -32,7 +33,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +47,10 @@ public class CreateReviewUnitTest {
     @Mock private ParticipationRepository participationRepository;
     @Mock private AiApiClient aiApiClient;
     @Mock private AiTextFilterMapper aiTextFilterMapper;
+    @Mock private ModerationService moderationService;
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
 
     @InjectMocks private ReviewService reviewService;
 
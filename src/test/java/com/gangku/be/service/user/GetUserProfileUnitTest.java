@@ -12,6 +12,7 @@ import com.gangku.be.exception.constant.UserErrorCode;
 import com.gangku.be.repository.ReviewRepository;
 import com.gangku.be.repository.UserRepository;
 import com.gangku.be.service.UserService;
+import com.gangku.be.util.category.CategoryRegistry;
 import com.gangku.be.util.object.FileUrlResolver;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -35,6 +36,7 @@ public class GetUserProfileUnitTest {
     @Mock private UserRepository userRepository;
     @Mock private ReviewRepository reviewRepository;
     @Mock private FileUrlResolver fileUrlResolver;
+    @Mock private CategoryRegistry categoryRegistry;
 
     @InjectMocks private UserService userService;
 
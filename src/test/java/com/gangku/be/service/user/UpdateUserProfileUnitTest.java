@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
+import com.gangku.be.constant.moderation.ModerationTargetType;
 import com.gangku.be.domain.Category;
+import com.gangku.be.domain.PreferredCategory;
 import com.gangku.be.domain.User;
 import com.gangku.be.dto.ai.request.TextFilterRequestDto;
 import com.gangku.be.dto.ai.response.TextFilterResponseDto;
@@ -16,8 +18,10 @@ import com.gangku.be.external.ai.AiApiClient;
 import com.gangku.be.repository.CategoryRepository;
 import com.gangku.be.repository.PreferredCategoryRepository;
 import com.gangku.be.repository.UserRepository;
+import com.gangku.be.service.ModerationService;
 import com.gangku.be.service.UserService;
 import com.gangku.be.util.ai.AiTextFilterMapper;
+import com.gangku.be.util.category.CategoryRegistry;
 import com.gangku.be.util.object.FileUrlResolver;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,9 +30,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Tag("unit")
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +44,14 @@ public class UpdateUserProfileUnitTest {
     @Mock private UserRepository userRepository;
     @Mock private CategoryRepository categoryRepository;
     @Mock private PreferredCategoryRepository preferredCategoryRepository;
+    @Mock private CategoryRegistry categoryRegistry;
     @Mock private FileUrlResolver fileUrlResolver;
     @Mock private AiApiClient aiApiClient;
     @Mock private AiTextFilterMapper aiTextFilterMapper;
+    @Mock private ModerationService moderationService;
+    @Spy
+    private TransactionOperations transactionOperations =
+            TransactionOperations.withoutTransaction();
 
     @InjectMocks private UserService userService;
 
@@ -68,20 +80,18 @@ public class UpdateUserProfileUnitTest {
                 new UserProfileUpdateRequestDto(
                         "new/profile.png", "새로운닉네임", 24, "MALE", 20, List.of("SPORTS", "MUSIC"));
 
-        Category sports = mock(Category.class);
-        Category music = mock(Category.class);
+        Category sports = Category.builder().id(1L).name("SPORTS").build();
+        Category music = Category.builder().id(2L).name("MUSIC").build();
 
         TextFilterRequestDto textFilterRequestDto = mock(TextFilterRequestDto.class);
         TextFilterResponseDto textFilterResponseDto = mock(TextFilterResponseDto.class);
 
-        when(sports.getName()).thenReturn("SPORTS");
-        when(music.getName()).thenReturn("MUSIC");
-
         when(userRepository.findById(targetUserId)).thenReturn(Optional.of(user));
         when(userRepository.existsByNicknameAndIdNot("새로운닉네임", targetUserId)).thenReturn(false);
         when(categoryRepository.findByNameIn(List.of("SPORTS", "MUSIC")))
                 .thenReturn(List.of(sports, music));
         when(userRepository.save(user)).thenReturn(user);
+        when(categoryRegistry.namesOf(0b11L)).thenReturn(List.of("SPORTS", "MUSIC"));
         when(fileUrlResolver.toPublicUrl("new/profile.png"))
                 .thenReturn("https://cdn.example.com/profiles/2025/09/uuid.jpg");
         when(aiTextFilterMapper.fromProfileUpdate(requestDto)).thenReturn(textFilterRequestDto);
@@ -102,11 +112,12 @@ public class UpdateUserProfileUnitTest {
         assertThat(response.getEnrollNumber()).isEqualTo(20);
         assertThat(response.getPreferredCategories()).containsExactly("SPORTS", "MUSIC");
         assertThat(response.getUpdatedAt()).isEqualTo(user.getUpdatedAt());
+        assertThat(user.getPreferredCategoryMask()).isEqualTo(0b11L);
 
-        verify(userRepository, times(1)).findById(targetUserId);
+        verify(userRepository, times(2)).findById(targetUserId);
         verify(userRepository, times(1)).existsByNicknameAndIdNot("새로운닉네임", targetUserId);
         verify(categoryRepository, times(1)).findByNameIn(List.of("SPORTS", "MUSIC"));
-        verify(userRepository, times(1)).flush();
+        verify(userRepository, never()).flush();
         verify(preferredCategoryRepository, times(1)).saveAll(anyList());
         verify(userRepository, times(1)).save(user);
         verify(fileUrlResolver, times(1)).toPublicUrl("new/profile.png");
@@ -121,6 +132,57 @@ public class UpdateUserProfileUnitTest {
                 aiTextFilterMapper);
     }
 
+    @Test
+    @DisplayName("프로필 수정 (200 OK): 선호 카테고리는 빠진 행만 지우고 새로 생긴 행만 저장한다")
+    void updateUserProfile_preferredCategoriesDiffed() {
+        // given
+        Long targetUserId = 1L;
+
+        Category sports = Category.builder().id(1L).name("SPORTS").build();
+        Category music = Category.builder().id(2L).name("MUSIC").build();
+        Category study = Category.builder().id(3L).name("STUDY").build();
+
+        User user =
+                User.builder()
+                        .id(targetUserId)
+                        .email("test@example.com")
+                        .password("encoded-password")
+                        .nickname("기존닉네임")
+                        .preferredCategories(new ArrayList<>())
+                        .build();
+        user.addPreferredCategory(preferredCategory(sports));
+        user.addPreferredCategory(preferredCategory(study));
+
+        UserProfileUpdateRequestDto requestDto =
+                new UserProfileUpdateRequestDto(
+                        null, null, null, null, null, List.of("MUSIC", "SPORTS"));
+
+        when(userRepository.findById(targetUserId)).thenReturn(Optional.of(user));
+        when(categoryRepository.findByNameIn(List.of("MUSIC", "SPORTS")))
+                .thenReturn(List.of(sports, music));
+        when(userRepository.save(user)).thenReturn(user);
+        when(categoryRegistry.namesOf(0b11L)).thenReturn(List.of("SPORTS", "MUSIC"));
+
+        // when
+        UserProfileUpdateResponseDto response =
+                userService.updateUserProfile(targetUserId, targetUserId, requestDto);
+
+        // then
+        assertThat(response.getPreferredCategories()).containsExactly("SPORTS", "MUSIC");
+        assertThat(user.getPreferredCategoryMask()).isEqualTo(0b11L);
+        assertThat(user.getPreferredCategories())
+                .extracting(pc -> pc.getCategory().getName())
+                .containsExactly("SPORTS", "MUSIC");
+
+        ArgumentCaptor<List<PreferredCategory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(preferredCategoryRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(pc -> pc.getCategory().getName())
+                .containsExactly("MUSIC");
+        verify(userRepository, never()).flush();
+        verifyNoMoreInteractions(preferredCategoryRepository);
+    }
+
     @Test
     @DisplayName("프로필 수정 (400 Bad Request): 닉네임에 금칙어가 있으면 INVALID_NICKNAME 예외")
     void updateUserProfile_invalidNickname() {
@@ -272,7 +334,7 @@ public class UpdateUserProfileUnitTest {
                 .isEqualTo(UserErrorCode.NICKNAME_ALREADY_EXISTS);
 
         // then
-        verify(userRepository, times(1)).findById(targetUserId);
+        verify(userRepository, times(2)).findById(targetUserId);
         verify(aiTextFilterMapper, times(1)).fromProfileUpdate(requestDto);
         verify(aiApiClient, times(1)).filterText(textFilterRequestDto);
         verify(userRepository, times(1)).existsByNicknameAndIdNot("중복닉네임", targetUserId);
@@ -281,4 +343,52 @@ public class UpdateUserProfileUnitTest {
         verifyNoInteractions(categoryRepository, preferredCategoryRepository, fileUrlResolver);
         verifyNoMoreInteractions(userRepository, aiTextFilterMapper, aiApiClient);
     }
+
+    private PreferredCategory preferredCategory(Category category) {
+        PreferredCategory preferredCategory = new PreferredCategory();
+        preferredCategory.assignCategory(category);
+        return preferredCategory;
+    }
+
+    @Test
+    @DisplayName("프로필 수정 (200 OK): 비동기 검수 모드면 기존 닉네임을 유지하고 새 닉네임 검수를 요청한다")
+    void updateUserProfile_asyncNicknameModeration_pendingAndRequested() {
+        // given
+        Long targetUserId = 1L;
+
+        User user =
+                User.builder()
+                        .id(targetUserId)
+                        .email("test@example.com")
+                        .password("encoded-password")
+                        .nickname("기존닉네임")
+                        .preferredCategories(new ArrayList<>())
+                        .build();
+
+        UserProfileUpdateRequestDto requestDto =
+                new UserProfileUpdateRequestDto(null, " 새로운닉네임 ", null, null, null, null);
+
+        TextFilterRequestDto textFilterRequestDto = mock(TextFilterRequestDto.class);
+
+        when(moderationService.isAsyncEnabled()).thenReturn(true);
+        when(userRepository.findById(targetUserId)).thenReturn(Optional.of(user));
+        when(userRepository.existsByNicknameAndIdNot(" 새로운닉네임 ", targetUserId))
+                .thenReturn(false);
+        when(userRepository.save(user)).thenReturn(user);
+        when(aiTextFilterMapper.fromProfileUpdate(requestDto)).thenReturn(textFilterRequestDto);
+
+        // when
+        UserProfileUpdateResponseDto response =
+                userService.updateUserProfile(targetUserId, targetUserId, requestDto);
+
+        // then
+        assertThat(response.getNickname()).isEqualTo("기존닉네임");
+        assertThat(user.getNickname()).isEqualTo("기존닉네임");
+        assertThat(user.getPendingNickname()).isEqualTo("새로운닉네임");
+
+        verify(moderationService, times(1))
+                .requestModeration(
+                        ModerationTargetType.NICKNAME, targetUserId, textFilterRequestDto);
+        verifyNoInteractions(aiApiClient);
+    }
 }
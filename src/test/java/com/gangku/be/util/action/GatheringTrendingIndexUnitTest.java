@@ -0,0 +1,69 @@
+package com.gangku.be.util.action;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.action.TrendingProps;
+import com.gangku.be.repository.GatheringEngagementRollupRepository;
+import com.gangku.be.util.scheduler.JobLeaseLock;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class GatheringTrendingIndexUnitTest {
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ZSetOperations<String, String> zSetOperations;
+    @Mock private GatheringEngagementRollupRepository engagementRollupRepository;
+    @Mock private JobLeaseLock jobLeaseLock;
+
+    @Spy private TrendingProps trendingProps = new TrendingProps();
+
+    @InjectMocks private GatheringTrendingIndex gatheringTrendingIndex;
+
+    @Test
+    @DisplayName("트렌딩 순위: ZSET 의 점수 순서대로 모임 id 를 돌려준다")
+    void topGatheringIds_readsScoreOrder() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange("gathering:trending", 0, 9))
+                .thenReturn(new LinkedHashSet<>(List.of("3", "1", "2")));
+
+        // when
+        List<Long> ids = gatheringTrendingIndex.topGatheringIds(10);
+
+        // then
+        assertThat(ids).containsExactly(3L, 1L, 2L);
+        verifyNoInteractions(jobLeaseLock, engagementRollupRepository);
+    }
+
+    @Test
+    @DisplayName("트렌딩 순위: Redis 장애면 예외 대신 빈 목록을 돌려주어 인기순으로 대신하게 한다")
+    void topGatheringIds_redisDown_emptyList() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        List<Long> ids = gatheringTrendingIndex.topGatheringIds(10);
+
+        // then
+        assertThat(ids).isEmpty();
+        verifyNoInteractions(engagementRollupRepository);
+    }
+}
@@ -0,0 +1,133 @@
+package com.gangku.be.util.action;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gangku.be.config.action.ActionIngestProps;
+import com.gangku.be.constant.action.UserAction;
+import com.gangku.be.model.action.UserActionEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Tag("unit")
+public class UserActionRecorderUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("행동 수집: 같은 유저의 같은 모임 클릭은 중복 창 안에서 한 번만 기록한다")
+    void recordClick_duplicateWithinWindow_suppressed() {
+        // given
+        UserActionRecorder recorder = recorder(16);
+
+        // when
+        recorder.recordClick(1L, 100L);
+        recorder.recordClick(1L, 100L);
+        recorder.recordClick(1L, 200L);
+
+        // then
+        assertThat(drain(recorder))
+                .extracting(UserActionEvent::gatheringId)
+                .containsExactly(100L, 200L);
+        assertThat(count(UserAction.CLICK, "duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("행동 수집: 버퍼가 차오르면 클릭부터 버리고 참여는 가득 찰 때까지 받는다")
+    void record_bufferFilling_shedsClicksBeforeJoins() {
+        // given
+        UserActionRecorder recorder = recorder(4);
+
+        // when
+        for (long userId = 1; userId <= 4; userId++) {
+            recorder.recordClick(userId, 100L);
+        }
+        recorder.recordJoin(1L, 100L);
+        recorder.recordJoin(2L, 100L);
+
+        // then
+        assertThat(count(UserAction.CLICK, "accepted")).isEqualTo(3);
+        assertThat(count(UserAction.CLICK, "dropped")).isEqualTo(1);
+        assertThat(count(UserAction.JOIN, "accepted")).isEqualTo(1);
+        assertThat(count(UserAction.JOIN, "dropped")).isEqualTo(1);
+        assertThat(drain(recorder))
+                .extracting(UserActionEvent::status)
+                .containsExactly(
+                        UserAction.CLICK, UserAction.CLICK, UserAction.CLICK, UserAction.JOIN);
+    }
+
+    @Test
+    @DisplayName("행동 수집: 버퍼가 차서 버린 클릭은 중복으로 남기지 않아 버퍼가 비면 다시 받는다")
+    void recordClick_shed_notMarkedAsDuplicate() {
+        // given
+        UserActionRecorder recorder = recorder(4);
+        for (long userId = 1; userId <= 3; userId++) {
+            recorder.recordClick(userId, 100L);
+        }
+
+        // when
+        recorder.recordClick(9L, 100L);
+        drain(recorder);
+        recorder.recordClick(9L, 100L);
+
+        // then
+        assertThat(count(UserAction.CLICK, "dropped")).isEqualTo(1);
+        assertThat(count(UserAction.CLICK, "duplicate")).isZero();
+        assertThat(drain(recorder)).extracting(UserActionEvent::userId).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("행동 수집: 트랜잭션 안의 참여는 커밋된 뒤에만 버퍼에 들어간다")
+    void recordJoin_inTransaction_publishedAfterCommit() {
+        // given
+        UserActionRecorder recorder = recorder(16);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        recorder.recordJoin(1L, 100L);
+
+        // then
+        assertThat(drain(recorder)).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(drain(recorder))
+                .extracting(UserActionEvent::status)
+                .containsExactly(UserAction.JOIN);
+    }
+
+    private UserActionRecorder recorder(int bufferCapacity) {
+        ActionIngestProps actionIngestProps = new ActionIngestProps();
+        actionIngestProps.setBufferCapacity(bufferCapacity);
+        return new UserActionRecorder(actionIngestProps, meterRegistry);
+    }
+
+    private List<UserActionEvent> drain(UserActionRecorder recorder) {
+        List<UserActionEvent> events = new ArrayList<>();
+        recorder.drainTo(events, Integer.MAX_VALUE);
+        return events;
+    }
+
+    private double count(UserAction action, String result) {
+        return meterRegistry
+                .get("user.action.ingest")
+                .tag("action", action.name())
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.gangku.be.util.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class AhoCorasickMatcherUnitTest {
+
+    private static final char SEPARATOR = ' ';
+
+    @Test
+    @DisplayName("매칭: 여러 금칙어 중 하나라도 부분 문자열로 들어 있으면 찾는다")
+    void matches_anyPatternAsSubstring() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("he", "she", "hers"));
+
+        assertThat(matcher.matches("ushers")).isTrue();
+        assertThat(matcher.matches("xhex")).isTrue();
+        assertThat(matcher.matches("hxsx")).isFalse();
+    }
+
+    @Test
+    @DisplayName("매칭: 실패 링크를 따라가도 접미사로 끝나는 금칙어를 놓치지 않는다")
+    void matches_suffixViaFailureLink() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("abcd", "bc"));
+
+        assertThat(matcher.matches("xabcx")).isTrue();
+    }
+
+    @Test
+    @DisplayName("단어 매칭: 금칙어 앞뒤가 텍스트 끝이거나 구분자일 때만 찾는다")
+    void matchesWholeWord_requiresBoundaries() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("bad"));
+
+        assertThat(matcher.matchesWholeWord("bad", SEPARATOR)).isTrue();
+        assertThat(matcher.matchesWholeWord("so bad day", SEPARATOR)).isTrue();
+        assertThat(matcher.matchesWholeWord("badge", SEPARATOR)).isFalse();
+        assertThat(matcher.matchesWholeWord("sinbad", SEPARATOR)).isFalse();
+        assertThat(matcher.matches("badge")).isTrue();
+    }
+
+    @Test
+    @DisplayName("단어 매칭: 긴 단어 안에 들어 있는 짧은 금칙어도 경계가 맞으면 찾는다")
+    void matchesWholeWord_shorterPatternAtBoundary() {
+        // "xbad" 를 따라가다 실패 링크로 "bad" 가 끝나는 상태에 도달한다
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("xbadx", "bad"));
+
+        assertThat(matcher.matchesWholeWord("xbad bad", SEPARATOR)).isTrue();
+        assertThat(matcher.matchesWholeWord("xbad", SEPARATOR)).isFalse();
+    }
+
+    @Test
+    @DisplayName("매칭: 금칙어가 없거나 빈 문자열뿐이면 비어 있고 아무것도 찾지 않는다")
+    void emptyPatterns_matchNothing() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of(""));
+
+        assertThat(matcher.isEmpty()).isTrue();
+        assertThat(matcher.matches("anything")).isFalse();
+        assertThat(matcher.matchesWholeWord("anything", SEPARATOR)).isFalse();
+    }
+}
@@ -0,0 +1,84 @@
+package com.gangku.be.util.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class ItemSimilarityMatrixUnitTest {
+
+    // 유저 1,2,3 -> 모임 10,11 / 유저 1,2 -> 모임 12 / 유저 1 -> 다른 카테고리 모임 20
+    private static final long[] USER_IDS = {1, 2, 3, 1, 2, 3, 1, 2, 1};
+    private static final long[] GATHERING_IDS = {10, 10, 10, 11, 11, 11, 12, 12, 20};
+    private static final long[] CATEGORY_IDS = {1, 1, 1, 1, 1, 1, 1, 1, 2};
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 카테고리 모임만 코사인 유사도 내림차순 이웃으로 남는다")
+    void build_sameCategoryNeighborsOrderedByCosine() {
+        // given & when
+        ItemSimilarityMatrix matrix = build(20, 2);
+
+        // then
+        assertThat(matrix.itemCount()).isEqualTo(4);
+        assertThat(matrix.neighbors(10L, 10)).containsExactly(11L, 12L);
+        assertThat(matrix.neighbors(20L, 10)).isEmpty();
+        assertThat(matrix.neighbors(99L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공동 참여 수가 최소치보다 적은 쌍은 이웃에서 빠진다")
+    void build_dropsPairsBelowMinCoJoins() {
+        // given & when
+        ItemSimilarityMatrix matrix = build(20, 3);
+
+        // then
+        assertThat(matrix.neighbors(10L, 10)).containsExactly(11L);
+        assertThat(matrix.neighbors(12L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("top-k 와 조회 limit 을 넘는 이웃은 잘린다")
+    void build_keepsOnlyTopK() {
+        // given & when
+        ItemSimilarityMatrix matrix = build(1, 2);
+
+        // then
+        assertThat(matrix.neighbors(10L, 10)).containsExactly(11L);
+        assertThat(build(20, 2).neighbors(10L, 1)).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("seed 모임들의 이웃 유사도를 모임별로 더한다")
+    void scoreNeighbors_sumsSimilarityPerGathering() {
+        // given
+        ItemSimilarityMatrix matrix = build(20, 2);
+
+        // when
+        Map<Long, Double> scores = matrix.scoreNeighbors(List.of(11L, 12L, 99L));
+
+        // then
+        assertThat(scores).containsOnlyKeys(10L, 11L, 12L);
+        assertThat(scores.get(10L)).isCloseTo(1.0 + 2 / Math.sqrt(6), within(1e-5));
+        assertThat(scores.get(11L)).isCloseTo(2 / Math.sqrt(6), within(1e-5));
+        assertThat(scores.get(12L)).isCloseTo(2 / Math.sqrt(6), within(1e-5));
+    }
+
+    private ItemSimilarityMatrix build(int topK, int minCoJoins) {
+        return ItemSimilarityMatrix.build(
+                USER_IDS, GATHERING_IDS, CATEGORY_IDS, USER_IDS.length, topK, minCoJoins, pool);
+    }
+}
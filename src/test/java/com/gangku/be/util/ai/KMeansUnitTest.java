@@ -0,0 +1,66 @@
+package com.gangku.be.util.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class KMeansUnitTest {
+
+    // (0,0) 근처 3개, (10,10) 근처 3개
+    private static final float[] POINTS = {
+        0f, 0f, 0f, 1f, 1f, 0f, 10f, 10f, 10f, 11f, 11f, 10f,
+    };
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("떨어진 두 묶음은 서로 다른 클러스터로 나뉘고 inertia 는 묶음 안 거리 제곱합이다")
+    void fit_separatesBlobs() {
+        // when
+        KMeans.Result result = KMeans.fit(POINTS, 6, 2, 2, 100, 1e-4, new Random(42), pool);
+
+        // then
+        int[] assignments = result.assignments();
+        assertThat(assignments[0]).isEqualTo(assignments[1]).isEqualTo(assignments[2]);
+        assertThat(assignments[3]).isEqualTo(assignments[4]).isEqualTo(assignments[5]);
+        assertThat(assignments[0]).isNotEqualTo(assignments[3]);
+        assertThat(result.clusterSizes()).containsExactly(3, 3);
+        // 묶음마다 중심 (1/3, 1/3) 에서의 거리 제곱합 = 4/3
+        assertThat(result.inertia()).isCloseTo(8.0 / 3, within(1e-4));
+    }
+
+    @Test
+    @DisplayName("클러스터 수가 행 수보다 많으면 행 수로 줄인다")
+    void fit_clampsClusterCountToRows() {
+        // when
+        KMeans.Result result = KMeans.fit(POINTS, 2, 2, 5, 100, 1e-4, new Random(42), pool);
+
+        // then
+        assertThat(result.clusterSizes()).hasSize(2).containsOnly(1);
+        assertThat(result.inertia()).isZero();
+    }
+
+    @Test
+    @DisplayName("행이 없으면 빈 결과를 돌려준다")
+    void fit_empty() {
+        // when
+        KMeans.Result result = KMeans.fit(new float[0], 0, 2, 3, 100, 1e-4, new Random(42), pool);
+
+        // then
+        assertThat(result.assignments()).isEmpty();
+        assertThat(result.clusterSizes()).isEmpty();
+        assertThat(result.inertia()).isZero();
+    }
+}
@@ -0,0 +1,41 @@
+package com.gangku.be.util.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class KoreanTextNormalizerUnitTest {
+
+    @Test
+    @DisplayName("정규화: 한글 음절과 자모로 풀어 쓴 표기가 같은 문자열이 된다")
+    void normalize_syllablesAndJamo_same() {
+        assertThat(KoreanTextNormalizer.normalize("바보"))
+                .isEqualTo(KoreanTextNormalizer.normalize("ㅂㅏㅂㅗ"))
+                .isEqualTo("ㅂㅏㅂㅗ");
+        assertThat(KoreanTextNormalizer.normalize("강")).isEqualTo("ㄱㅏㅇ");
+    }
+
+    @Test
+    @DisplayName("정규화: 전각 문자는 반각으로, 라틴 문자는 소문자로 바꾼다")
+    void normalize_fullWidthAndCase_folded() {
+        assertThat(KoreanTextNormalizer.normalize("ＡＢＣ１２")).isEqualTo("abc12");
+    }
+
+    @Test
+    @DisplayName("정규화: 공백/특수문자/필드 구분자는 단어 경계 하나로 줄이고 앞뒤는 잘라낸다")
+    void normalize_separators_collapsedToSingleBoundary() {
+        assertThat(KoreanTextNormalizer.normalize("  hi!!  there |||모임 "))
+                .isEqualTo("hi there ㅁㅗㅇㅣㅁ");
+    }
+
+    @Test
+    @DisplayName("정규화: null 과 빈 문자열, 구분자만 있는 문자열은 빈 문자열이 된다")
+    void normalize_empty() {
+        assertThat(KoreanTextNormalizer.normalize(null)).isEmpty();
+        assertThat(KoreanTextNormalizer.normalize("")).isEmpty();
+        assertThat(KoreanTextNormalizer.normalize(" |||  ")).isEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+package com.gangku.be.util.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.ai.ItemSimilarityProps;
+import com.gangku.be.config.ai.LocalRecommenderProps;
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.Gathering;
+import com.gangku.be.domain.PreferredCategory;
+import com.gangku.be.domain.User;
+import com.gangku.be.model.action.GatheringEngagement;
+import com.gangku.be.repository.GatheringEngagementRollupRepository;
+import com.gangku.be.repository.ParticipationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class LocalGatheringRecommenderUnitTest {
+
+    @Mock private ParticipationRepository participationRepository;
+    @Mock private ItemSimilarityIndex itemSimilarityIndex;
+    @Mock private GatheringEngagementRollupRepository engagementRollupRepository;
+
+    @Spy private LocalRecommenderProps localRecommenderProps = new LocalRecommenderProps();
+    @Spy private ItemSimilarityProps itemSimilarityProps = new ItemSimilarityProps();
+
+    @InjectMocks private LocalGatheringRecommender localGatheringRecommender;
+
+    private final Category sports = Category.builder().id(1L).name("운동").build();
+    private final Category study = Category.builder().id(2L).name("스터디").build();
+    private final Category music = Category.builder().id(3L).name("음악").build();
+
+    @Test
+    @DisplayName("로컬 추천: 선호 카테고리 > 참여 이력 카테고리 > 인기/최신 순으로 점수를 매긴다")
+    void rank_weighsPreferenceAffinityPopularityAndRecency() {
+        // given
+        PreferredCategory preferredCategory = new PreferredCategory();
+        preferredCategory.assignCategory(sports);
+
+        User user = User.builder().id(10L).build();
+        user.addPreferredCategory(preferredCategory);
+
+        LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
+        List<Gathering> candidates =
+                List.of(
+                        gathering(3L, music, 10, LocalDateTime.now()),
+                        gathering(2L, study, 1, monthAgo),
+                        gathering(1L, sports, 1, monthAgo));
+
+        when(participationRepository.countApprovedParticipationByCategory(10L))
+                .thenReturn(List.<Object[]>of(new Object[] {2L, 4L}));
+
+        // when
+        List<Long> rankedIds = localGatheringRecommender.rank(user, candidates);
+
+        // then
+        assertThat(rankedIds).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("로컬 추천: 인기 점수는 참여 인원 대신 집계 테이블의 최근 클릭/참여로 매긴다")
+    void rank_popularityFromRecentEngagementRollup() {
+        // given
+        User user = User.builder().id(10L).build();
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        List<Gathering> candidates =
+                List.of(gathering(2L, music, 10, createdAt), gathering(1L, music, 1, createdAt));
+
+        when(engagementRollupRepository.sumEngagementSince(
+                        anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(new GatheringEngagement(1L, 30L, 2L)));
+
+        // when
+        List<Long> rankedIds = localGatheringRecommender.rank(user, candidates);
+
+        // then
+        assertThat(rankedIds).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("로컬 추천: 섀도 비교는 요청 스레드가 아닌 별도 스레드에서 계산한다")
+    void shadowCompare_runsOffRequestThread() {
+        // given
+        User user = User.builder().id(10L).build();
+        List<Gathering> candidates = List.of(gathering(1L, music, 1, LocalDateTime.now()));
+        AtomicReference<String> rankThread = new AtomicReference<>();
+
+        when(participationRepository.countApprovedParticipationByCategory(10L))
+                .thenAnswer(
+                        invocation -> {
+                            rankThread.set(Thread.currentThread().getName());
+                            return List.of();
+                        });
+
+        // when
+        localGatheringRecommender.shadowCompare(user, candidates, List.of(1L), 0);
+
+        // then (카테고리 분포 다음에 읽는 최근 참여 조회까지 기다린다)
+        verify(participationRepository, timeout(1000))
+                .findRecentJoinedGatheringIds(eq(10L), any(Pageable.class));
+        assertThat(rankThread.get()).isEqualTo("recommend-shadow");
+    }
+
+    private Gathering gathering(
+            Long id, Category category, int participantCount, LocalDateTime createdAt) {
+        return Gathering.builder()
+                .id(id)
+                .category(category)
+                .participantCount(participantCount)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.gangku.be.util.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gangku.be.config.ai.TextFilterProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class TextPreFilterUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TextPreFilter textPreFilter;
+
+    @BeforeEach
+    void setUp() {
+        TextFilterProps textFilterProps = new TextFilterProps();
+        textFilterProps.setBlocklist(List.of("시발"));
+
+        textPreFilter = new TextPreFilter(textFilterProps, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("사전 필터: 금칙어가 한 단어로 나오면 AI 호출 없이 차단한다")
+    void screen_wholeWord_blocked() {
+        assertThat(textPreFilter.screen("아 시발 진짜")).isEqualTo(TextPreFilter.Verdict.BLOCKED);
+        assertThat(textPreFilter.screen("ㅅㅣㅂㅏㄹ")).isEqualTo(TextPreFilter.Verdict.BLOCKED);
+    }
+
+    @Test
+    @DisplayName("사전 필터: 다른 단어의 일부로만 나오면 차단하지 않고 AI 에 맡긴다")
+    void screen_partOfWord_forwarded() {
+        assertThat(textPreFilter.screen("새 학기의 시발점")).isEqualTo(TextPreFilter.Verdict.UNDECIDED);
+        assertThat(meterRegistry.counter("ai.text.filter.prefilter", "verdict", "suspect").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사전 필터: 필드 구분자를 사이에 두고 이어지는 글자는 금칙어로 보지 않는다")
+    void screen_acrossFieldSeparator_notBlocked() {
+        // 제목 끝 "시" 와 설명 첫 글자 "발" 을 이어 붙이면 금칙어가 된다
+        assertThat(textPreFilter.screen("모임 시|||발표 연습"))
+                .isEqualTo(TextPreFilter.Verdict.UNDECIDED);
+    }
+
+    @Test
+    @DisplayName("사전 필터: 아주 짧은 텍스트는 AI 호출 없이 허용한다")
+    void screen_triviallyShort_safe() {
+        assertThat(textPreFilter.screen(" 네 ")).isEqualTo(TextPreFilter.Verdict.SAFE);
+    }
+}
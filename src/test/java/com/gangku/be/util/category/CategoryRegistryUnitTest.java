@@ -0,0 +1,124 @@
+package com.gangku.be.util.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.domain.Category;
+import com.gangku.be.domain.PreferredCategory;
+import com.gangku.be.domain.User;
+import com.gangku.be.model.category.CategoryCatalog;
+import com.gangku.be.repository.CategoryRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class CategoryRegistryUnitTest {
+
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @InjectMocks private CategoryRegistry categoryRegistry;
+
+    private final Category sports = Category.builder().id(1L).name("운동").build();
+    private final Category study = Category.builder().id(2L).name("스터디").build();
+    private final Category music = Category.builder().id(3L).name("음악").build();
+
+    @Test
+    @DisplayName("카테고리 레지스트리: 한 번 읽은 스냅샷으로 이름 조회, 정렬 목록, 비트마스크 풀이를 한다")
+    void lookups_served_fromSingleLoad() {
+        // given
+        when(categoryRepository.findAllByOrderByNameAsc())
+                .thenReturn(List.of(study, sports, music));
+
+        // when
+        CategoryCatalog catalog = categoryRegistry.catalog();
+
+        // then
+        assertThat(catalog.names()).containsExactly("스터디", "운동", "음악");
+        assertThat(catalog.eTag()).startsWith("\"").endsWith("\"");
+        assertThat(categoryRegistry.findByName("운동")).containsSame(sports);
+        assertThat(categoryRegistry.findByName("없음")).isEmpty();
+        assertThat(categoryRegistry.namesOf(0b101L)).containsExactly("운동", "음악");
+        assertThat(categoryRegistry.namesOf(0L)).isEmpty();
+
+        verify(categoryRepository, times(1)).findAllByOrderByNameAsc();
+    }
+
+    @Test
+    @DisplayName("카테고리 레지스트리: 선호 카테고리로 만든 비트마스크를 풀면 같은 카테고리가 id 순으로 돌아온다")
+    void namesOf_roundTripsPreferredCategoryMask() {
+        // given
+        Category last =
+                Category.builder().id((long) Category.MAX_MASK_CATEGORY_ID).name("기타").build();
+        when(categoryRepository.findAllByOrderByNameAsc())
+                .thenReturn(List.of(study, sports, music, last));
+
+        User user = User.builder().id(10L).build();
+        for (Category category : List.of(last, sports, music)) {
+            PreferredCategory preferredCategory = new PreferredCategory();
+            preferredCategory.assignCategory(category);
+            user.addPreferredCategory(preferredCategory);
+        }
+
+        // when
+        List<String> names = categoryRegistry.namesOf(user.getPreferredCategoryMask());
+        user.retainPreferredCategories(Set.of(music.getId()));
+
+        // then
+        assertThat(names).containsExactly("운동", "음악", "기타");
+        assertThat(Category.maskContains(user.getPreferredCategoryMask(), 3L)).isTrue();
+        assertThat(Category.maskContains(user.getPreferredCategoryMask(), 1L)).isFalse();
+        assertThat(categoryRegistry.namesOf(user.getPreferredCategoryMask()))
+                .containsExactly("음악");
+        assertThatThrownBy(() -> Category.maskBit(Category.MAX_MASK_CATEGORY_ID + 1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("카테고리 레지스트리: 변경 알림을 받으면 새 스냅샷으로 갈아 끼우고 ETag 도 바뀐다")
+    void onMessage_swapsSnapshot() {
+        // given
+        when(categoryRepository.findAllByOrderByNameAsc())
+                .thenReturn(List.of(study, sports))
+                .thenReturn(List.of(study, sports, music));
+        CategoryCatalog before = categoryRegistry.catalog();
+
+        // when
+        categoryRegistry.onMessage(mock(Message.class), null);
+
+        // then
+        CategoryCatalog after = categoryRegistry.catalog();
+        assertThat(after.names()).containsExactly("스터디", "운동", "음악");
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(categoryRegistry.findByName("음악")).containsSame(music);
+    }
+
+    @Test
+    @DisplayName("카테고리 레지스트리: 변경을 알리면 자기 스냅샷을 먼저 바꾸고 채널에 발행한다")
+    void publishChange_reloadsAndPublishes() {
+        // given
+        when(categoryRepository.findAllByOrderByNameAsc()).thenReturn(List.of(sports));
+
+        // when
+        categoryRegistry.publishChange();
+
+        // then
+        assertThat(categoryRegistry.catalog().names()).containsExactly("운동");
+        verify(categoryRepository, times(1)).findAllByOrderByNameAsc();
+        verify(stringRedisTemplate, times(1))
+                .convertAndSend(CategoryRegistry.CHANGED_CHANNEL, "reload");
+    }
+}
@@ -0,0 +1,77 @@
+package com.gangku.be.util.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.repository.PreferredCategoryRepository;
+import com.gangku.be.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class PreferredCategoryMaskBackfillUnitTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private PreferredCategoryRepository preferredCategoryRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @Captor private ArgumentCaptor<List<Object[]>> argsCaptor;
+
+    @InjectMocks private PreferredCategoryMaskBackfill preferredCategoryMaskBackfill;
+
+    @Test
+    @DisplayName("비트마스크 채우기: 유저별 선호 카테고리 행을 OR 로 모아 마스크를 쓴다")
+    void backfill_writesMaskPerUser() {
+        // given
+        when(userRepository.findUnmaskedPreferredUserIdsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(preferredCategoryRepository.findCategoryIdsByUserIdIn(List.of(1L, 2L)))
+                .thenReturn(
+                        List.of(
+                                new Object[] {1L, 1L},
+                                new Object[] {1L, 3L},
+                                new Object[] {2L, 64L}));
+
+        // when
+        int updatedCount = preferredCategoryMaskBackfill.backfill();
+
+        // then
+        assertThat(updatedCount).isEqualTo(2);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue())
+                .containsExactlyInAnyOrder(
+                        new Object[] {0b101L, 1L}, new Object[] {Long.MIN_VALUE, 2L});
+    }
+
+    @Test
+    @DisplayName("비트마스크 채우기: 이미 채운 뒤 다시 돌면 첫 페이지 조회만 하고 아무것도 바꾸지 않는다")
+    void backfill_alreadyFilled_noop() {
+        // given
+        when(userRepository.findUnmaskedPreferredUserIdsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        int updatedCount = preferredCategoryMaskBackfill.backfill();
+
+        // then
+        assertThat(updatedCount).isZero();
+        verify(userRepository, times(1)).findUnmaskedPreferredUserIdsAfter(eq(0L), any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verifyNoInteractions(preferredCategoryRepository);
+    }
+}
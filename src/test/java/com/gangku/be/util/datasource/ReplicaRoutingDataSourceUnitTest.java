@@ -0,0 +1,104 @@
+package com.gangku.be.util.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceUnitTest {
+
+    @Mock private DataSource primary;
+    @Mock private DataSource replica1;
+    @Mock private DataSource replica2;
+    @Mock private ReplicaLagMonitor replicaLagMonitor;
+    @Mock private ReadYourWritesTracker readYourWritesTracker;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource =
+                new ReplicaRoutingDataSource(
+                        primary,
+                        Map.of("replica-1", replica1, "replica-2", replica2),
+                        replicaLagMonitor,
+                        readYourWritesTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 라우팅: 쓰기 트랜잭션은 프라이머리로 가고 커밋 후 최근 쓰기로 남긴다")
+    void writeTransaction_routesToPrimary() {
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verify(readYourWritesTracker).recordOnCommit();
+        verifyNoInteractions(replicaLagMonitor);
+    }
+
+    @Test
+    @DisplayName("읽기 라우팅: readOnly 트랜잭션은 쓸 수 있는 레플리카끼리 돌아가며 나눈다")
+    void readOnlyTransaction_roundRobinsAvailableReplicas() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.availableReplicas()).thenReturn(List.of("replica-1", "replica-2"));
+
+        // when
+        Object first = routingDataSource.determineCurrentLookupKey();
+        Object second = routingDataSource.determineCurrentLookupKey();
+        Object third = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(List.of(first, second, third))
+                .containsExactly("replica-1", "replica-2", "replica-1");
+        verify(readYourWritesTracker, never()).recordOnCommit();
+    }
+
+    @Test
+    @DisplayName("읽기 라우팅: 지연이 허용치 안인 레플리카가 없으면 프라이머리로 읽는다")
+    void readOnlyTransaction_noAvailableReplica_fallsBackToPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.availableReplicas()).thenReturn(List.of());
+
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 라우팅: 방금 쓴 유저의 readOnly 트랜잭션은 프라이머리로 읽는다")
+    void readOnlyTransaction_recentWrite_readsPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(readYourWritesTracker.hasRecentWrite()).thenReturn(true);
+
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verifyNoInteractions(replicaLagMonitor);
+    }
+}
@@ -0,0 +1,131 @@
+package com.gangku.be.util.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * IDENTITY 로 한 행씩 INSERT 하고 키를 돌려받을 때(Hibernate 가 IDENTITY 엔티티를 저장하는 방식)와 id 를 미리 만들어 JDBC
+ * 배치로 보낼 때의 처리량을 비교한다.
+ *
+ * <p>같은 프로세스 안의 H2 라 네트워크 왕복이 없으므로, 왕복마다 지연이 붙는 MySQL 에서는 차이가 이보다 크다. {@code
+ * -PincludeTags=benchmark} 로 따로 돌린다.
+ */
+@Tag("benchmark")
+class SnowflakeBulkInsertBenchmarkTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SnowflakeBulkInsertBenchmarkTest.class);
+
+    private static final int ROWS = 5_000;
+    private static final int BATCH_SIZE = 50;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(
+                        "jdbc:h2:mem:snowflake-bench;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS identity_rows");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS snowflake_rows");
+        jdbcTemplate.execute(
+                "CREATE TABLE identity_rows (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                        + " user_id BIGINT NOT NULL, category_id BIGINT NOT NULL)");
+        jdbcTemplate.execute(
+                "CREATE TABLE snowflake_rows (id BIGINT PRIMARY KEY,"
+                        + " user_id BIGINT NOT NULL, category_id BIGINT NOT NULL)");
+    }
+
+    @Test
+    @DisplayName("벤치마크: 미리 만든 id 로 배치 INSERT 하면 IDENTITY 한 행씩보다 처리량이 높다")
+    void bulkInsert_snowflakeBatch_vsIdentityRowByRow() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(System::currentTimeMillis);
+        generator.assignNode(0);
+
+        // when
+        long identityNanos = timeIdentityRowByRow();
+        long snowflakeNanos = timeSnowflakeBatch(generator);
+
+        // then
+        log.info(
+                "bulk insert {} rows - IDENTITY row-by-row: {} rows/s,"
+                        + " snowflake batch({}): {} rows/s",
+                ROWS,
+                rowsPerSecond(identityNanos),
+                BATCH_SIZE,
+                rowsPerSecond(snowflakeNanos));
+
+        assertThat(count("identity_rows")).isEqualTo(ROWS);
+        assertThat(count("snowflake_rows")).isEqualTo(ROWS);
+    }
+
+    private long timeIdentityRowByRow() {
+        long startedNanos = System.nanoTime();
+
+        for (int i = 0; i < ROWS; i++) {
+            long userId = i;
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(
+                    connection -> {
+                        PreparedStatement ps =
+                                connection.prepareStatement(
+                                        "INSERT INTO identity_rows (user_id, category_id)"
+                                                + " VALUES (?, ?)",
+                                        Statement.RETURN_GENERATED_KEYS);
+                        ps.setLong(1, userId);
+                        ps.setLong(2, userId % 10);
+                        return ps;
+                    },
+                    keyHolder);
+        }
+
+        return System.nanoTime() - startedNanos;
+    }
+
+    private long timeSnowflakeBatch(SnowflakeIdGenerator generator) {
+        long startedNanos = System.nanoTime();
+
+        List<long[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new long[] {generator.nextId(), i, i % 10});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO snowflake_rows (id, user_id, category_id) VALUES (?, ?, ?)",
+                rows,
+                BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setLong(1, row[0]);
+                    ps.setLong(2, row[1]);
+                    ps.setLong(3, row[2]);
+                });
+
+        return System.nanoTime() - startedNanos;
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return ROWS * TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanos);
+    }
+}
@@ -0,0 +1,127 @@
+package com.gangku.be.util.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gangku.be.constant.id.ResourceType;
+import com.gangku.be.model.common.PrefixedId;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+class SnowflakeIdGeneratorUnitTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(clock::get);
+
+    @Test
+    @DisplayName("id 생성: 노드 번호를 받기 전에는 만들지 않는다")
+    void nextId_withoutNode_throws() {
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("id 생성: 한 밀리초에 시퀀스를 다 써도 다음 밀리초로 넘어가며 계속 커진다")
+    void nextId_sequenceOverflow_staysUniqueAndIncreasing() {
+        // given
+        generator.assignNode(3);
+        Set<Long> ids = new HashSet<>();
+        long previous = -1L;
+
+        // when & then
+        for (int i = 0; i < 1000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(ids.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("id 생성: 시계가 뒤로 가도 이전 id 보다 작은 id 를 만들지 않는다")
+    void nextId_clockMovesBackwards_staysIncreasing() {
+        // given
+        generator.assignNode(1);
+        long before = generator.nextId();
+
+        // when
+        clock.addAndGet(-5_000L);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("id 생성: 노드 번호가 다르면 같은 시각에도 겹치지 않는다")
+    void nextId_differentNodes_doNotCollide() {
+        // given
+        SnowflakeIdGenerator other = new SnowflakeIdGenerator(clock::get);
+        generator.assignNode(0);
+        other.assignNode(1);
+
+        // when
+        long first = generator.nextId();
+        long second = other.nextId();
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first >>> SnowflakeIdGenerator.SEQUENCE_BITS)
+                .isNotEqualTo(second >>> SnowflakeIdGenerator.SEQUENCE_BITS);
+    }
+
+    @Test
+    @DisplayName("id 생성: 마지막 타임스탬프까지 53비트 안에 들고, 외부 id 표기로 왕복한다")
+    void nextId_fitsIn53BitsAndRoundTripsPrefixedId() {
+        // given
+        clock.set(SnowflakeIdGenerator.EPOCH_MILLIS + (1L << 41) - 1);
+        generator.assignNode(SnowflakeIdGenerator.MAX_NODE_ID);
+
+        // when
+        long id = generator.nextId();
+        String external = PrefixedId.of(ResourceType.USER, id).toExternal();
+
+        // then
+        assertThat(id).isLessThan(1L << 53);
+        assertThat(PrefixedId.parse(external).require(ResourceType.USER)).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("id 생성: 임대를 반납하면 다시 받을 때까지 만들지 않는다")
+    void nextId_afterRelease_throws() {
+        // given
+        generator.assignNode(2);
+        generator.nextId();
+
+        // when
+        generator.releaseNode();
+
+        // then
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("id 생성: 임대 마감 시각부터는 만들지 않고, 연장되면 다시 만든다")
+    void nextId_pastLeaseDeadline_throwsUntilExtended() {
+        // given
+        generator.assignNode(4, NOW + 10);
+        generator.nextId();
+
+        // when
+        clock.set(NOW + 10);
+
+        // then
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+
+        generator.extendLease(NOW + 100);
+        assertThat(generator.lastTimestampMillis()).isEqualTo(NOW);
+        assertThat(generator.nextId()).isPositive();
+        assertThat(generator.lastTimestampMillis()).isEqualTo(NOW + 10);
+    }
+}
@@ -0,0 +1,114 @@
+package com.gangku.be.util.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class SnowflakeNodeLeaseUnitTest {
+
+    private static final Duration LEASE_TIME = Duration.ofSeconds(1);
+    private static final Duration LEASE_MARGIN = Duration.ofMillis(200);
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    @DisplayName("노드 임대: 만료된 번호를 받으면 이전 임자의 마지막 id 시각을 지난 뒤에 발급한다")
+    void renew_claimExpiredNode_waitsPastPreviousLastTimestamp() {
+        // given
+        long previousLastMillis = System.currentTimeMillis() + 50;
+        givenClaimReturns(previousLastMillis);
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(System::currentTimeMillis);
+        SnowflakeNodeLease lease = newLease(generator);
+
+        // when
+        lease.renew();
+        long id = generator.nextId();
+
+        // then
+        long timestampMillis =
+                (id >>> (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS))
+                        + SnowflakeIdGenerator.EPOCH_MILLIS;
+        assertThat(timestampMillis).isGreaterThan(previousLastMillis);
+    }
+
+    @Test
+    @DisplayName("노드 임대: 연장 호출이 실패하면 연장 전 마감에서 발급을 멈춘다")
+    void renew_redisUnreachable_stopsIssuingAtDeadline() {
+        // given
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(clock::get);
+        SnowflakeNodeLease lease = newLease(generator);
+
+        givenClaimReturns(0L);
+        lease.renew();
+        generator.nextId();
+
+        when(stringRedisTemplate.execute(
+                        eq(SnowflakeNodeLease.RENEW_SCRIPT), anyList(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+
+        // when
+        lease.renew();
+        clock.addAndGet(LEASE_TIME.toMillis());
+
+        // then
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("노드 임대: 연장할 때 마지막으로 만든 id 시각을 남긴다")
+    void renew_recordsLastIssuedTimestamp() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(System::currentTimeMillis);
+        SnowflakeNodeLease lease = newLease(generator);
+
+        givenClaimReturns(0L);
+        lease.renew();
+        generator.nextId();
+
+        when(stringRedisTemplate.execute(
+                        eq(SnowflakeNodeLease.RENEW_SCRIPT), anyList(), any(), any(), any()))
+                .thenReturn(1L);
+
+        // when
+        lease.renew();
+
+        // then
+        verify(stringRedisTemplate, times(1))
+                .execute(
+                        eq(SnowflakeNodeLease.RENEW_SCRIPT),
+                        eq(List.of("id:snowflake:node:" + generator.nodeId())),
+                        anyString(),
+                        eq(String.valueOf(LEASE_TIME.toMillis())),
+                        eq(String.valueOf(generator.lastTimestampMillis())));
+    }
+
+    private void givenClaimReturns(long previousLastMillis) {
+        when(stringRedisTemplate.execute(
+                        eq(SnowflakeNodeLease.CLAIM_SCRIPT), anyList(), any(), any()))
+                .thenReturn(previousLastMillis);
+    }
+
+    private SnowflakeNodeLease newLease(SnowflakeIdGenerator generator) {
+        return new SnowflakeNodeLease(stringRedisTemplate, generator, LEASE_TIME, LEASE_MARGIN);
+    }
+}
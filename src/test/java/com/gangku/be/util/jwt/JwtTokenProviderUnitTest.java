@@ -0,0 +1,51 @@
+package com.gangku.be.util.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gangku.be.config.auth.AdminProps;
+import com.gangku.be.constant.id.ResourceType;
+import com.gangku.be.model.common.PrefixedId;
+import java.util.Base64;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+@Tag("unit")
+class JwtTokenProviderUnitTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        AdminProps adminProps = new AdminProps();
+        adminProps.setUserIds(Set.of(1L));
+
+        String secret = Base64.getEncoder().encodeToString(new byte[32]);
+        jwtTokenProvider = new JwtTokenProvider(secret, adminProps);
+    }
+
+    @Test
+    @DisplayName("JWT 인증: 운영자로 등록된 유저의 액세스 토큰에만 ROLE_ADMIN 을 붙인다")
+    void getAuthentication_adminUser_hasAdminRole() {
+        // when
+        Authentication admin = jwtTokenProvider.getAuthentication(accessToken(1L));
+        Authentication member = jwtTokenProvider.getAuthentication(accessToken(2L));
+
+        // then
+        assertThat(admin.getPrincipal()).isEqualTo(1L);
+        assertThat(admin.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+        assertThat(member.getPrincipal()).isEqualTo(2L);
+        assertThat(member.getAuthorities()).isEmpty();
+    }
+
+    private String accessToken(Long userId) {
+        return jwtTokenProvider.generateAccessToken(
+                PrefixedId.of(ResourceType.USER, userId).toExternal());
+    }
+}
@@ -0,0 +1,173 @@
+package com.gangku.be.util.moderation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.config.moderation.ModerationProps;
+import com.gangku.be.constant.moderation.ModerationTargetType;
+import com.gangku.be.domain.ModerationTask;
+import com.gangku.be.dto.ai.response.TextFilterResponseDto;
+import com.gangku.be.exception.CustomException;
+import com.gangku.be.exception.constant.CommonErrorCode;
+import com.gangku.be.exception.constant.GatheringErrorCode;
+import com.gangku.be.external.ai.AiApiClient;
+import com.gangku.be.service.ModerationService;
+import java.net.ConnectException;
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class ModerationWorkerUnitTest {
+
+    @Mock private ModerationService moderationService;
+    @Mock private AiApiClient aiApiClient;
+
+    private ModerationWorker moderationWorker;
+
+    @BeforeEach
+    void setUp() {
+        ModerationProps moderationProps = new ModerationProps();
+        moderationProps.setMaxAttempts(3);
+
+        moderationWorker = new ModerationWorker(moderationService, aiApiClient, moderationProps);
+    }
+
+    @Test
+    @DisplayName("검수 워커: AI 가 허용하면 결과를 반영한다")
+    void moderate_allowed_applied() {
+        // given
+        ModerationTask task = task(1);
+        when(aiApiClient.filterText(any())).thenReturn(new TextFilterResponseDto(true));
+
+        // when
+        moderationWorker.moderate(task);
+
+        // then
+        verify(moderationService, times(1)).applyResult(task, true);
+        verifyNoMoreInteractions(moderationService);
+    }
+
+    @Test
+    @DisplayName("검수 워커: AI 서버가 400 으로 응답하면 부적절한 콘텐츠로 반려한다")
+    void moderate_invalidContent_rejected() {
+        // given
+        ModerationTask task = task(1);
+        when(aiApiClient.filterText(any()))
+                .thenThrow(new CustomException(GatheringErrorCode.INVALID_GATHERING_CONTENT));
+
+        // when
+        moderationWorker.moderate(task);
+
+        // then
+        verify(moderationService, times(1)).applyResult(task, false);
+        verifyNoMoreInteractions(moderationService);
+    }
+
+    @Test
+    @DisplayName("검수 워커: AI 서버 장애면 반려하지 않고 검수 대기로 둔 채 미룬다")
+    void moderate_aiOutage_deferred() {
+        // given
+        ModerationTask task = task(1);
+        when(aiApiClient.filterText(any()))
+                .thenThrow(new CustomException(CommonErrorCode.AI_SERVICE_ERROR));
+
+        // when
+        moderationWorker.moderate(task);
+
+        // then
+        verify(moderationService, times(1)).deferForOutage(task);
+        verifyNoMoreInteractions(moderationService);
+    }
+
+    @Test
+    @DisplayName("검수 워커: 마지막 시도에서 AI 서버 장애가 나도 반려하지 않는다")
+    void moderate_aiOutageOnLastAttempt_notRejected() {
+        // given
+        ModerationTask task = task(3);
+        when(aiApiClient.filterText(any()))
+                .thenThrow(
+                        new WebClientRequestException(
+                                new ConnectException("refused"),
+                                HttpMethod.POST,
+                                URI.create("http://ai/filter"),
+                                new HttpHeaders()));
+
+        // when
+        moderationWorker.moderate(task);
+
+        // then
+        verify(moderationService, times(1)).deferForOutage(task);
+        verify(moderationService, never()).rejectExhausted(any());
+    }
+
+    @Test
+    @DisplayName("검수 워커: 결과 반영 중 DB 오류가 나면 재시도 대기를 두고 선점을 푼다")
+    void moderate_applyResultFails_claimReleased() {
+        // given
+        ModerationTask task = task(2);
+        when(aiApiClient.filterText(any())).thenReturn(new TextFilterResponseDto(true));
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(moderationService)
+                .applyResult(task, true);
+
+        // when
+        moderationWorker.moderate(task);
+
+        // then
+        verify(moderationService, times(1)).releaseClaim(task);
+        verify(moderationService, never()).deferForOutage(any());
+    }
+
+    @Test
+    @DisplayName("검수 워커: 장애가 아닌 실패로 마지막 시도까지 쓰면 대상을 반려로 끝낸다")
+    void moderate_lastAttemptFails_rejected() {
+        // given
+        ModerationTask task = task(3);
+        when(aiApiClient.filterText(any())).thenReturn(new TextFilterResponseDto(true));
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(moderationService)
+                .applyResult(task, true);
+
+        // when
+        moderationWorker.moderate(task);
+
+        // then
+        verify(moderationService, times(1)).rejectExhausted(task);
+        verify(moderationService, never()).releaseClaim(any());
+    }
+
+    @Test
+    @DisplayName("검수 워커: 선점 만료로 한도를 넘겨 다시 잡힌 작업은 AI 를 부르지 않고 반려한다")
+    void moderate_overAttempts_rejectedWithoutAi() {
+        // given
+        ModerationTask task = task(4);
+
+        // when
+        moderationWorker.moderate(task);
+
+        // then
+        verify(moderationService, times(1)).rejectExhausted(task);
+        verifyNoInteractions(aiApiClient);
+    }
+
+    private static ModerationTask task(int attempts) {
+        return ModerationTask.builder()
+                .id(1L)
+                .targetType(ModerationTargetType.GATHERING)
+                .targetId(7L)
+                .text("제목|||설명")
+                .attempts(attempts)
+                .build();
+    }
+}
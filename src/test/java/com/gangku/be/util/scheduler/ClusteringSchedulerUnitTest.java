@@ -0,0 +1,92 @@
+package com.gangku.be.util.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.domain.JobRunHistory;
+import com.gangku.be.service.ClusteringService;
+import com.gangku.be.service.RecommendationPrecomputeService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class ClusteringSchedulerUnitTest {
+
+    @Mock private ClusteringService clusteringService;
+    @Mock private RecommendationPrecomputeService recommendationPrecomputeService;
+    @Mock private ScheduledJobRunner scheduledJobRunner;
+
+    @InjectMocks private ClusteringScheduler clusteringScheduler;
+
+    @Test
+    @DisplayName("클러스터링 예약 작업: 각 단계가 성공하면 인기도, 추천 미리 계산까지 이어서 실행한다")
+    void refreshClustering_allSucceed_runsWholeChain() {
+        // given
+        givenSuccess(ScheduledJob.CLUSTERING_REFRESH);
+        givenSuccess(ScheduledJob.POPULARITY_REFRESH);
+
+        // when
+        clusteringScheduler.refreshClustering();
+
+        // then
+        verify(scheduledJobRunner, times(1))
+                .run(eq(ScheduledJob.RECOMMENDATION_PRECOMPUTE), any(IntSupplier.class));
+    }
+
+    @Test
+    @DisplayName("클러스터링 예약 작업: 클러스터링이 실패하면 인기도 갱신과 추천 미리 계산을 건너뛴다")
+    void refreshClustering_failed_stopsChain() {
+        // given
+        givenRun(
+                ScheduledJob.CLUSTERING_REFRESH,
+                Optional.of(
+                        JobRunHistory.failure(
+                                ScheduledJob.CLUSTERING_REFRESH,
+                                "node",
+                                LocalDateTime.now(),
+                                10,
+                                "AI 서버 오류")));
+
+        // when
+        clusteringScheduler.refreshClustering();
+
+        // then
+        verify(scheduledJobRunner, never())
+                .run(eq(ScheduledJob.POPULARITY_REFRESH), any(IntSupplier.class));
+        verify(scheduledJobRunner, never())
+                .run(eq(ScheduledJob.RECOMMENDATION_PRECOMPUTE), any(IntSupplier.class));
+    }
+
+    @Test
+    @DisplayName("인기도 예약 작업: 다른 노드가 실행 중이라 락을 못 잡으면 추천 미리 계산도 건너뛴다")
+    void refreshPopularity_lockNotAcquired_skipsPrecompute() {
+        // given
+        givenRun(ScheduledJob.POPULARITY_REFRESH, Optional.empty());
+
+        // when
+        clusteringScheduler.refreshPopularity();
+
+        // then
+        verify(scheduledJobRunner, never())
+                .run(eq(ScheduledJob.RECOMMENDATION_PRECOMPUTE), any(IntSupplier.class));
+    }
+
+    private void givenRun(ScheduledJob job, Optional<JobRunHistory> history) {
+        when(scheduledJobRunner.run(eq(job), any(IntSupplier.class))).thenReturn(history);
+    }
+
+    private void givenSuccess(ScheduledJob job) {
+        givenRun(job, Optional.of(JobRunHistory.success(job, "node", LocalDateTime.now(), 10, 1)));
+    }
+}
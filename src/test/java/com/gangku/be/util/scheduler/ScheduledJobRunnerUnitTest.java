@@ -0,0 +1,122 @@
+package com.gangku.be.util.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.gangku.be.constant.scheduler.JobOutcome;
+import com.gangku.be.constant.scheduler.ScheduledJob;
+import com.gangku.be.domain.JobRunHistory;
+import com.gangku.be.repository.JobRunHistoryRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+public class ScheduledJobRunnerUnitTest {
+
+    @Mock private JobLeaseLock jobLeaseLock;
+    @Mock private JobRunHistoryRepository jobRunHistoryRepository;
+    @Mock private IntSupplier task;
+
+    @InjectMocks private ScheduledJobRunner scheduledJobRunner;
+
+    @Test
+    @DisplayName("예약 작업: 락을 잡으면 실행하고 성공 이력을 남긴 뒤 최소 유지 시간만큼 락을 남긴다")
+    void run_lockAcquired_recordsSuccess() {
+        // given
+        ScheduledJob job = ScheduledJob.CLUSTERING_REFRESH;
+        when(jobLeaseLock.tryAcquire(job.getLockKey(), job.getLockAtMostFor()))
+                .thenReturn(Optional.of("token"));
+        when(task.getAsInt()).thenReturn(42);
+
+        // when
+        Optional<JobRunHistory> result = scheduledJobRunner.run(job, task);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getOutcome()).isEqualTo(JobOutcome.SUCCESS);
+        assertThat(result.get().getRowsShipped()).isEqualTo(42);
+        verify(jobRunHistoryRepository, times(1)).save(result.get());
+
+        ArgumentCaptor<Duration> keepFor = ArgumentCaptor.forClass(Duration.class);
+        verify(jobLeaseLock, times(1))
+                .release(eq(job.getLockKey()), eq("token"), keepFor.capture());
+        assertThat(keepFor.getValue()).isPositive().isLessThanOrEqualTo(job.getLockAtLeastFor());
+    }
+
+    @Test
+    @DisplayName("예약 작업: 다른 노드가 락을 잡고 있으면 실행하지 않는다")
+    void run_lockHeld_skipped() {
+        // given
+        ScheduledJob job = ScheduledJob.POPULARITY_REFRESH;
+        when(jobLeaseLock.tryAcquire(job.getLockKey(), job.getLockAtMostFor()))
+                .thenReturn(Optional.empty());
+
+        // when
+        Optional<JobRunHistory> result = scheduledJobRunner.run(job, task);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(task, jobRunHistoryRepository);
+        verify(jobLeaseLock, never()).release(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("예약 작업: 작업이 실패해도 실패 이력을 남기고 락을 푼다")
+    void run_taskFails_recordsFailureAndReleases() {
+        // given
+        ScheduledJob job = ScheduledJob.POPULARITY_RESYNC;
+        when(jobLeaseLock.tryAcquire(job.getLockKey(), job.getLockAtMostFor()))
+                .thenReturn(Optional.of("token"));
+        when(task.getAsInt()).thenThrow(new IllegalStateException("AI 서버 응답 없음"));
+
+        // when
+        Optional<JobRunHistory> result = scheduledJobRunner.run(job, task);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getOutcome()).isEqualTo(JobOutcome.FAILED);
+        assertThat(result.get().getRowsShipped()).isNull();
+        assertThat(result.get().getErrorMessage()).isEqualTo("AI 서버 응답 없음");
+        verify(jobRunHistoryRepository, times(1)).save(result.get());
+        verify(jobLeaseLock, times(1)).release(eq(job.getLockKey()), eq("token"), any());
+    }
+
+    @Test
+    @DisplayName("예약 작업: 실행하는 동안 락을 연장하고, 끝나면 더 연장하지 않는다")
+    void run_longTask_renewsLeaseWhileRunning() {
+        // given
+        ScheduledJob job = ScheduledJob.CLUSTERING_REFRESH;
+        when(jobLeaseLock.tryAcquire(job.getLockKey(), job.getLockAtMostFor()))
+                .thenReturn(Optional.of("token"));
+        when(jobLeaseLock.renew(job.getLockKey(), "token", job.getLockAtMostFor()))
+                .thenReturn(true);
+        when(task.getAsInt())
+                .thenAnswer(
+                        invocation -> {
+                            Thread.sleep(200);
+                            return 1;
+                        });
+
+        // when
+        scheduledJobRunner.run(job, task, Duration.ofMillis(20));
+
+        // then
+        verify(jobLeaseLock, atLeastOnce())
+                .renew(job.getLockKey(), "token", job.getLockAtMostFor());
+        clearInvocations(jobLeaseLock);
+        verify(jobLeaseLock, after(100).never()).renew(anyString(), anyString(), any());
+    }
+}